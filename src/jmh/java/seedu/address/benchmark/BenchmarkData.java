@@ -0,0 +1,40 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Creates deterministic {@code Person} fixtures for the benchmarks.
+ */
+public class BenchmarkData {
+
+    private static final String[] TAG_NAMES = {"Civil Case", "Corporate Case", "Active", "Pending", "Plaintiff"};
+
+    /**
+     * Returns {@code count} persons with pairwise distinct emails.
+     */
+    public static List<Person> createPersons(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(createPerson(i));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the person numbered {@code i}, whose email is unique to that number.
+     */
+    public static Person createPerson(int i) {
+        return new Person(new Name("Person " + i), new Phone(String.valueOf(80000000 + i)),
+                new Email("person" + i + "@example.com"), new Address("Blk " + i + " Example Street"),
+                Set.of(new Tag(TAG_NAMES[i % TAG_NAMES.length])));
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures {@link AddressBookParser#parseCommand} of typical command lines, and of mass deletes of every person of an
+ * address book of {@code size} persons, listed as a range or one index after another, with the mass operations
+ * limit raised to {@code size}. Parsing the other commands does not depend on the size of the address book.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class AddressBookParserBenchmark {
+
+    /**
+     * A typical command line, and the parser to parse it with.
+     */
+    @State(Scope.Benchmark)
+    public static class CommandLine {
+        @Param({
+            "add n/John Doe p/98765432 e/johnd@example.com a/311, Clementi Ave 2, #02-25 t/friends t/owesMoney",
+            "edit 1 p/91234567 e/johndoe@example.com",
+            "find n/\"Alice\" \"Bob\" p/\"98765432\" a/\"Bedok Central\" t/\"close friend\"",
+            "sort t/ n/",
+            "delete i/1 2 3 4 5",
+            "note 1 nt/Does not like to be called"})
+        private String input;
+
+        private AddressBookParser parser;
+
+        @Setup
+        public void setUp() {
+            parser = new AddressBookParser();
+        }
+    }
+
+    /**
+     * Mass deletes of every person of an address book of {@code size} persons, and the parser to parse them with.
+     */
+    @State(Scope.Benchmark)
+    public static class MassDelete {
+        @Param({"1000", "10000", "100000", "1000000"})
+        private int size;
+
+        private String rangeInput;
+        private String spacedInput;
+        private AddressBookParser parser;
+
+        @Setup
+        public void setUp() {
+            rangeInput = "delete i/1-" + size;
+            spacedInput = IntStream.rangeClosed(1, size).mapToObj(String::valueOf)
+                    .collect(Collectors.joining(" ", "delete i/", ""));
+            parser = new AddressBookParser(size);
+        }
+    }
+
+    /**
+     * Parses a typical command line.
+     */
+    @Benchmark
+    public Command parseCommand(CommandLine state) throws ParseException {
+        return state.parser.parseCommand(state.input);
+    }
+
+    /**
+     * Parses a mass delete of a range of indexes.
+     */
+    @Benchmark
+    public Command parseMassDeleteRange(MassDelete state) throws ParseException {
+        return state.parser.parseCommand(state.rangeInput);
+    }
+
+    /**
+     * Parses a mass delete of indexes listed one after another.
+     */
+    @Benchmark
+    public Command parseMassDeleteSpaced(MassDelete state) throws ParseException {
+        return state.parser.parseCommand(state.spacedInput);
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+/**
+ * Measures {@link ModelManager#commit} after the edit of one person, as after an {@code edit}, and
+ * {@link ModelManager#undo} of such a commit, with an address book of {@code size} persons. Every iteration starts
+ * from a new model and runs a batch of {@value #BATCH_SIZE} commits or undos, which fits into the default undo
+ * history; the time of a batch in milliseconds is the average time of one commit or undo in microseconds.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, batchSize = ModelManagerBenchmark.BATCH_SIZE)
+@Measurement(iterations = 10, batchSize = ModelManagerBenchmark.BATCH_SIZE)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ModelManagerBenchmark {
+
+    static final int BATCH_SIZE = 50;
+
+    private static final long SEED = 42;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private AddressBook addressBook;
+    private List<Person> targets;
+    private List<Person> editedTargets;
+
+    /**
+     * Fills the address book with {@code size} distinct persons, and picks {@value #BATCH_SIZE} distinct ones of
+     * them at random to edit.
+     */
+    @Setup(Level.Trial)
+    public void setUpAddressBook() {
+        List<Person> persons = BenchmarkData.createPersons(size);
+        addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+
+        List<Person> shuffled = new ArrayList<>(persons);
+        Collections.shuffle(shuffled, new Random(SEED));
+        targets = shuffled.subList(0, BATCH_SIZE);
+        editedTargets = new ArrayList<>(BATCH_SIZE);
+        for (Person target : targets) {
+            editedTargets.add(new Person(target.getName(), new Phone("6" + target.getPhone().value),
+                    target.getEmail(), target.getAddress(), target.getNote(), target.getTags(), target.getPin()));
+        }
+    }
+
+    /**
+     * A new model of the address book, with nothing to undo.
+     */
+    @State(Scope.Benchmark)
+    public static class NewModel {
+        private ModelManager model;
+        private int next;
+
+        @Setup(Level.Iteration)
+        public void setUp(ModelManagerBenchmark benchmark) {
+            model = new ModelManager(benchmark.addressBook, new UserPrefs());
+            next = 0;
+        }
+    }
+
+    /**
+     * A model of the address book with {@value #BATCH_SIZE} commits to undo, each after the edit of one person.
+     */
+    @State(Scope.Benchmark)
+    public static class CommittedModel {
+        private ModelManager model;
+
+        @Setup(Level.Iteration)
+        public void setUp(ModelManagerBenchmark benchmark) {
+            model = new ModelManager(benchmark.addressBook, new UserPrefs());
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                benchmark.editAndCommit(model, i);
+            }
+        }
+    }
+
+    /**
+     * Edits a person and commits the edit.
+     */
+    @Benchmark
+    public void commit(NewModel state) {
+        editAndCommit(state.model, state.next++);
+    }
+
+    /**
+     * Undoes the last commit.
+     */
+    @Benchmark
+    public void undo(CommittedModel state) {
+        state.model.undo();
+    }
+
+    private void editAndCommit(ModelManager model, int i) {
+        model.setPerson(targets.get(i), editedTargets.get(i));
+        model.commit();
+    }
+}
@@ -0,0 +1,125 @@
+package seedu.address.model;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+/**
+ * Compares the time and the retained heap of an undo history of {@value #COMMITS} commits that hold
+ * {@link AddressBookSnapshot}s against one that holds full {@code AddressBook} copies, as committed before snapshots
+ * were introduced. Every commit follows an edit of one person, except that every fifth commit follows no change at
+ * all, as after a {@code find}. The retained heap is reported as the {@code retainedKilobytes} secondary result.
+ *
+ * Full copies of larger address books do not fit into the heap; run {@code commitSnapshots} alone with
+ * {@code -p size=100000} to measure snapshots of such address books.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class UndoHistoryBenchmark {
+
+    private static final int COMMITS = 1000;
+    private static final long SEED = 42;
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    private AddressBook addressBook;
+    private Random random;
+    private long baselineBytes;
+
+    /**
+     * Retained heap of the undo history after the last commit.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapUsage {
+        private long retainedKilobytes;
+
+        public long retainedKilobytes() {
+            return retainedKilobytes;
+        }
+    }
+
+    /**
+     * Fills the address book with {@code size} distinct persons, and measures the heap used without any history.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        addressBook = new AddressBook();
+        addressBook.setPersons(BenchmarkData.createPersons(size));
+        random = new Random(SEED);
+        baselineBytes = usedHeapBytes();
+    }
+
+    /**
+     * Commits snapshots that share the persons which did not change.
+     */
+    @Benchmark
+    public List<ReadOnlyAddressBook> commitSnapshots(HeapUsage heapUsage) {
+        List<ReadOnlyAddressBook> history = new ArrayList<>(COMMITS);
+        for (int i = 0; i < COMMITS; i++) {
+            editRandomPerson(i);
+            history.add(addressBook.snapshot());
+        }
+        heapUsage.retainedKilobytes = (usedHeapBytes() - baselineBytes) >> 10;
+        return history;
+    }
+
+    /**
+     * Commits a full copy of the address book every time.
+     */
+    @Benchmark
+    public List<ReadOnlyAddressBook> commitFullCopies(HeapUsage heapUsage) {
+        List<ReadOnlyAddressBook> history = new ArrayList<>(COMMITS);
+        for (int i = 0; i < COMMITS; i++) {
+            editRandomPerson(i);
+            history.add(new AddressBook(addressBook));
+        }
+        heapUsage.retainedKilobytes = (usedHeapBytes() - baselineBytes) >> 10;
+        return history;
+    }
+
+    private void editRandomPerson(int commit) {
+        if (commit % 5 == 0) {
+            return;
+        }
+        List<Person> persons = addressBook.getPersonList();
+        Person target = persons.get(random.nextInt(persons.size()));
+        Person edited = new Person(target.getName(), new Phone(String.valueOf(90000000 + commit)), target.getEmail(),
+                target.getAddress(), target.getNote(), target.getTags(), target.getPin());
+        addressBook.setPerson(target, edited);
+    }
+
+    private static long usedHeapBytes() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
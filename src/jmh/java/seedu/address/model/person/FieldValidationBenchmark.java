@@ -0,0 +1,76 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares validating the fields of persons with the hand-written validators against matching them with the
+ * validation regexes the validators replaced, which {@link String#matches} compiled on every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldValidationBenchmark {
+
+    private static final int SIZE = 1000;
+
+    private List<Person> persons;
+
+    @Setup
+    public void setUpPersons() {
+        persons = BenchmarkData.createPersons(SIZE);
+    }
+
+    /**
+     * Validates the name, phone, email, address and tags of every person with the validators.
+     */
+    @Benchmark
+    public int validateWithValidators() {
+        int validCount = 0;
+        for (Person person : persons) {
+            validCount += Name.isValidName(person.getName().fullName) ? 1 : 0;
+            validCount += Phone.isValidPhone(person.getPhone().value) ? 1 : 0;
+            validCount += Email.isValidEmail(person.getEmail().value) ? 1 : 0;
+            validCount += Address.isValidAddress(person.getAddress().value) ? 1 : 0;
+            for (Tag tag : person.getTags()) {
+                validCount += Tag.isValidTagName(tag.tagName) ? 1 : 0;
+            }
+        }
+        return validCount;
+    }
+
+    /**
+     * Validates the same fields by matching them with the validation regexes.
+     */
+    @Benchmark
+    public int validateWithRegexes() {
+        int validCount = 0;
+        for (Person person : persons) {
+            validCount += person.getName().fullName.matches(Name.VALIDATION_REGEX) ? 1 : 0;
+            validCount += person.getPhone().value.matches(Phone.VALIDATION_REGEX) ? 1 : 0;
+            validCount += person.getEmail().value.matches(Email.VALIDATION_REGEX) ? 1 : 0;
+            validCount += person.getAddress().value.matches(Address.VALIDATION_REGEX) ? 1 : 0;
+            for (Tag tag : person.getTags()) {
+                validCount += tag.tagName.matches(Tag.VALIDATION_REGEX) ? 1 : 0;
+            }
+        }
+        return validCount;
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+
+/**
+ * Measures testing {@code size} persons with {@link PersonContainsKeywordsPredicate}, as {@code find} does, in all
+ * searchable fields. The exact search has a keyword that some fields contain as it is; the fuzzy search has a mistyped
+ * keyword that no field contains, which only matches words within the edit distance allowed by the predicate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PersonContainsKeywordsPredicateBenchmark {
+
+    private static final String EXACT_KEYWORD = "4242";
+    private static final String FUZZY_KEYWORD = "4242x";
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private List<Person> persons;
+    private PersonContainsKeywordsPredicate exactPredicate;
+    private PersonContainsKeywordsPredicate fuzzyPredicate;
+
+    /**
+     * Creates {@code size} distinct persons and the predicates to test them with.
+     */
+    @Setup
+    public void setUp() {
+        persons = BenchmarkData.createPersons(size);
+        exactPredicate = new PersonContainsKeywordsPredicate(List.of(EXACT_KEYWORD), true, true, true, true, true);
+        fuzzyPredicate = new PersonContainsKeywordsPredicate(List.of(FUZZY_KEYWORD), true, true, true, true, true);
+    }
+
+    /**
+     * Tests every person with a keyword that some fields contain.
+     */
+    @Benchmark
+    public int testExact() {
+        return countMatches(exactPredicate);
+    }
+
+    /**
+     * Tests every person with a mistyped keyword.
+     */
+    @Benchmark
+    public int testFuzzy() {
+        return countMatches(fuzzyPredicate);
+    }
+
+    private int countMatches(PersonContainsKeywordsPredicate predicate) {
+        int matchCount = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                matchCount++;
+            }
+        }
+        return matchCount;
+    }
+}
@@ -0,0 +1,126 @@
+package seedu.address.model.person;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+
+/**
+ * Compares sorting with precomputed {@link PersonSortKey}s against the comparators that derived the sort keys on
+ * every comparison, followed by the separate pass that moved pinned persons to the top, and sequential sorting
+ * against parallel sorting. Parallel sorting only differs from sequential sorting with more than one available core.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PersonSortBenchmark {
+
+    private static final long SEED = 42;
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    @Param({"n/", "p/", "t/ p/"})
+    private String prefixes;
+
+    private List<Person> sourcePersons;
+    private List<Person> persons;
+    private Random random;
+
+    /**
+     * Creates {@code size} distinct persons, every tenth of them pinned.
+     */
+    @Setup(Level.Trial)
+    public void setUpPersons() {
+        sourcePersons = new ArrayList<>(size);
+        for (Person person : BenchmarkData.createPersons(size)) {
+            boolean isPinned = sourcePersons.size() % 10 == 0;
+            sourcePersons.add(new Person(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                    person.getNote(), person.getTags(), new Pin(isPinned)));
+        }
+        random = new Random(SEED);
+    }
+
+    /**
+     * Shuffles the persons so that every sort starts from an unsorted list.
+     */
+    @Setup(Level.Invocation)
+    public void shufflePersons() {
+        persons = new ArrayList<>(sourcePersons);
+        Collections.shuffle(persons, random);
+    }
+
+    /**
+     * Sort with keys computed once per person, pinned persons ordered first by the same sort.
+     */
+    @Benchmark
+    public Person[] sortWithPrecomputedKeys() {
+        Comparator<PersonSortKey> comparator = PersonSortKey.sortOrderFor(prefixes.split(" "));
+        return PersonSortKey.sort(persons, comparator);
+    }
+
+    /**
+     * Sort with keys computed once per person, computed and sorted with the common fork-join pool.
+     */
+    @Benchmark
+    public Person[] sortWithPrecomputedKeysInParallel() {
+        Comparator<PersonSortKey> comparator = PersonSortKey.sortOrderFor(prefixes.split(" "));
+        return PersonSortKey.sort(persons, comparator, true);
+    }
+
+    /**
+     * Sort with keys derived on every comparison, followed by a stable partition of the pinned persons.
+     */
+    @Benchmark
+    public List<Person> sortWithPerComparisonKeys() {
+        persons.sort(legacyComparator(prefixes));
+
+        List<Person> partitioned = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            if (person.getPin().isPinned()) {
+                partitioned.add(person);
+            }
+        }
+        for (Person person : persons) {
+            if (!person.getPin().isPinned()) {
+                partitioned.add(person);
+            }
+        }
+        return partitioned;
+    }
+
+    private static Comparator<Person> legacyComparator(String prefixes) {
+        switch (prefixes) {
+        case "n/":
+            return Comparator.comparing(p -> p.getName().toString());
+        case "p/":
+            return Comparator.comparing(p -> new BigInteger(p.getPhone().toString()));
+        case "t/ p/":
+            return Comparator.comparing((Person p) -> p.getTags().toString())
+                    .thenComparing(p -> new BigInteger(p.getPhone().toString()));
+        default:
+            throw new IllegalArgumentException("Unsupported prefixes: " + prefixes);
+        }
+    }
+}
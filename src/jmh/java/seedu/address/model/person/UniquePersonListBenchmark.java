@@ -0,0 +1,64 @@
+package seedu.address.model.person;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+
+/**
+ * Compares the indexed duplicate check of {@link UniquePersonList#contains(Person)} against the linear scan
+ * over the backing list that it replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "200000"})
+    private int size;
+
+    private UniquePersonList persons;
+    private Person absentPerson;
+
+    /**
+     * Fills the list with {@code size} distinct persons.
+     */
+    @Setup
+    public void setUp() {
+        persons = new UniquePersonList();
+        for (Person person : BenchmarkData.createPersons(size)) {
+            persons.add(person);
+        }
+        absentPerson = BenchmarkData.createPerson(size);
+    }
+
+    /**
+     * Duplicate check through the email index.
+     */
+    @Benchmark
+    public boolean containsIndexed() {
+        return persons.contains(absentPerson);
+    }
+
+    /**
+     * Duplicate check through a scan of every person, as done before the email index was introduced.
+     */
+    @Benchmark
+    public boolean containsLinearScan() {
+        return persons.asUnmodifiableObservableList().stream().anyMatch(absentPerson::isSamePerson);
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+
+/**
+ * Measures {@link UniquePersonList#add}, {@link UniquePersonList#contains}, {@link UniquePersonList#setPerson} and
+ * {@link UniquePersonList#remove} on a list of {@code size} persons. Every iteration starts from the full list and
+ * runs a batch of {@value #BATCH_SIZE} operations on different persons, so that no operation is run on a list that
+ * an earlier one in the same batch has undone. The time of a batch in microseconds is the average time of one
+ * operation in nanoseconds.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, batchSize = UniquePersonListOperationsBenchmark.BATCH_SIZE)
+@Measurement(iterations = 10, batchSize = UniquePersonListOperationsBenchmark.BATCH_SIZE)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class UniquePersonListOperationsBenchmark {
+
+    static final int BATCH_SIZE = 1000;
+
+    private static final long SEED = 42;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private List<Person> persons;
+    private List<Person> newPersons;
+    private List<Person> targets;
+    private List<Person> editedTargets;
+    private UniquePersonList list;
+    private int next;
+
+    /**
+     * Creates {@code size} distinct persons for the list, {@value #BATCH_SIZE} more that are not in it, and picks
+     * {@value #BATCH_SIZE} distinct persons of the list at random to look up, edit or remove.
+     */
+    @Setup(Level.Trial)
+    public void setUpPersons() {
+        List<Person> allPersons = BenchmarkData.createPersons(size + BATCH_SIZE);
+        persons = allPersons.subList(0, size);
+        newPersons = allPersons.subList(size, size + BATCH_SIZE);
+
+        List<Person> shuffled = new ArrayList<>(persons);
+        Collections.shuffle(shuffled, new Random(SEED));
+        targets = shuffled.subList(0, BATCH_SIZE);
+        editedTargets = new ArrayList<>(BATCH_SIZE);
+        for (Person target : targets) {
+            editedTargets.add(new Person(target.getName(), new Phone("6" + target.getPhone().value),
+                    target.getEmail(), target.getAddress(), target.getNote(), target.getTags(), target.getPin()));
+        }
+    }
+
+    /**
+     * Fills the list with the {@code size} persons again.
+     */
+    @Setup(Level.Iteration)
+    public void setUpList() {
+        list = new UniquePersonList();
+        list.setPersons(persons);
+        next = 0;
+    }
+
+    /**
+     * Adds a person who is not in the list.
+     */
+    @Benchmark
+    public void add() {
+        list.add(newPersons.get(next++));
+    }
+
+    /**
+     * Looks up a person, who is in the list on every other call.
+     */
+    @Benchmark
+    public boolean contains() {
+        int i = next++;
+        return list.contains(i % 2 == 0 ? targets.get(i) : newPersons.get(i));
+    }
+
+    /**
+     * Replaces a person in the list with the same person with another phone.
+     */
+    @Benchmark
+    public void setPerson() {
+        int i = next++;
+        list.setPerson(targets.get(i), editedTargets.get(i));
+    }
+
+    /**
+     * Removes a person from the list.
+     */
+    @Benchmark
+    public void remove() {
+        list.remove(targets.get(next++));
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+
+/**
+ * Measures {@link UniquePersonList#sortBy} of a shuffled list of {@code size} persons, every tenth of them pinned, by
+ * every combination of the prefixes accepted by {@code sort}, in the order they are listed in its usage message.
+ * Select combinations with {@code -p prefixes=...} to shorten a run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class UniquePersonListSortBenchmark {
+
+    private static final long SEED = 42;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"n/", "p/", "e/", "a/", "t/", "n/ p/", "n/ e/", "n/ a/", "n/ t/", "p/ e/", "p/ a/", "p/ t/", "e/ a/",
+            "e/ t/", "a/ t/", "n/ p/ e/", "n/ p/ a/", "n/ p/ t/", "n/ e/ a/", "n/ e/ t/", "n/ a/ t/", "p/ e/ a/",
+            "p/ e/ t/", "p/ a/ t/", "e/ a/ t/", "n/ p/ e/ a/", "n/ p/ e/ t/", "n/ p/ a/ t/", "n/ e/ a/ t/",
+            "p/ e/ a/ t/", "n/ p/ e/ a/ t/"})
+    private String prefixes;
+
+    private List<Person> persons;
+    private UniquePersonList list;
+    private Random random;
+
+    /**
+     * Creates {@code size} distinct persons, every tenth of them pinned.
+     */
+    @Setup(Level.Trial)
+    public void setUpPersons() {
+        persons = new ArrayList<>(size);
+        for (Person person : BenchmarkData.createPersons(size)) {
+            boolean isPinned = persons.size() % 10 == 0;
+            persons.add(new Person(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                    person.getNote(), person.getTags(), new Pin(isPinned)));
+        }
+        random = new Random(SEED);
+    }
+
+    /**
+     * Fills the list with the persons in a new random order, so that every sort starts from an unsorted list.
+     */
+    @Setup(Level.Invocation)
+    public void setUpList() {
+        Collections.shuffle(persons, random);
+        list = new UniquePersonList();
+        list.setPersons(persons);
+    }
+
+    /**
+     * Sorts the list by the prefixes.
+     */
+    @Benchmark
+    public UniquePersonList sortBy() {
+        list.sortBy(prefixes.split(" "));
+        return list;
+    }
+}
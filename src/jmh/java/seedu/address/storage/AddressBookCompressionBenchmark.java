@@ -0,0 +1,113 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Compares saving and loading an address book of {@code size} persons written as plain JSON against one compressed
+ * with gzip on the way to its files, both as a single JSON file and as the segment files of
+ * {@link SegmentedAddressBookStorage}. Every save writes the whole address book, and the total number of bytes of
+ * the files a save writes is printed when the trial ends, as that is what compression saves on a slow or network
+ * drive. The binary copy of {@link BinaryCachedAddressBookStorage} is not kept for a compressed file, so it is not
+ * compared.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class AddressBookCompressionBenchmark {
+
+    @Param({"500000"})
+    private int size;
+
+    @Param({"false", "true"})
+    private boolean isCompressed;
+
+    @Param({"json", "segmented"})
+    private String format;
+
+    private AddressBook addressBook;
+    private Path directory;
+    private Path file;
+
+    /**
+     * Fills the address book with {@code size} distinct persons, and saves it to load.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        addressBook = new AddressBook();
+        addressBook.setPersons(BenchmarkData.createPersons(size));
+        directory = Files.createTempDirectory("addressbook-compression-benchmark");
+        file = directory.resolve("addressbook.json");
+        save();
+    }
+
+    /**
+     * Prints the total size of the files saved to, and deletes them.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        long bytes = 0;
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                bytes += Files.isDirectory(path) ? 0 : Files.size(path);
+                Files.delete(path);
+            }
+        }
+        System.out.println();
+        System.out.println("Bytes written per save (" + format + ", " + (isCompressed ? "compressed" : "plain")
+                + "): " + bytes);
+    }
+
+    /**
+     * Saves the whole address book.
+     */
+    @Benchmark
+    public void save() throws IOException {
+        createStorage().saveAddressBook(addressBook);
+    }
+
+    /**
+     * Loads the address book.
+     */
+    @Benchmark
+    public ReadOnlyAddressBook load() throws DataLoadingException {
+        return createStorage().readAddressBook().get();
+    }
+
+    /**
+     * Returns a new storage of the file, which saves every segment of the address book if it is segmented.
+     */
+    private AddressBookStorage createStorage() {
+        int parallelLoadThreshold = UserPrefs.DEFAULT_PARALLEL_LOAD_THRESHOLD;
+        return format.equals("segmented")
+                ? new SegmentedAddressBookStorage(file, isCompressed, parallelLoadThreshold)
+                : new JsonAddressBookStorage(file, true, isCompressed, parallelLoadThreshold);
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Compares loading an address book file of {@code size} persons by reading the whole file into a {@code String} and
+ * data-binding it to {@code JsonSerializableAddressBook}, as loads did before, against streaming the persons from the
+ * file one record at a time, building the persons sequentially or in parallel with the common fork-join pool,
+ * against streaming them from a file saved with a journal, which tells that the persons need not be validated again,
+ * and against reading the same address book from the binary format. Run with {@code -prof gc} to compare the memory
+ * allocated per load.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class AddressBookLoadBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private Path file;
+    private Path journaledFile;
+    private Path binaryFile;
+
+    /**
+     * Saves an address book of {@code size} distinct persons to load, as JSON and as binary.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(BenchmarkData.createPersons(size));
+        file = Files.createTempFile("addressbook-load-benchmark", ".json");
+        new JsonAddressBookStorage(file).saveAddressBook(addressBook);
+        journaledFile = Files.createTempFile("addressbook-load-benchmark", ".json");
+        new JournalingAddressBookStorage(journaledFile).saveAddressBook(addressBook);
+        binaryFile = Files.createTempFile("addressbook-load-benchmark", ".bin");
+        new BinaryAddressBookStorage(binaryFile).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Deletes the files loaded.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(journaledFile);
+        Files.deleteIfExists(JournalingAddressBookStorage.getJournalFilePath(journaledFile));
+        Files.deleteIfExists(binaryFile);
+    }
+
+    /**
+     * Loads by data-binding the whole file to the adapted persons first.
+     */
+    @Benchmark
+    public ReadOnlyAddressBook loadDataBound() throws DataLoadingException, IllegalValueException {
+        return JsonUtil.readJsonFile(file, JsonSerializableAddressBook.class).get().toModelType();
+    }
+
+    /**
+     * Loads by streaming the persons from the file, building them sequentially.
+     */
+    @Benchmark
+    public ReadOnlyAddressBook loadStreamed() throws DataLoadingException {
+        return new JsonAddressBookStorage(file, false, Integer.MAX_VALUE).readAddressBook().get();
+    }
+
+    /**
+     * Loads by streaming the persons from the file, building them in parallel.
+     */
+    @Benchmark
+    public ReadOnlyAddressBook loadStreamedParallel() throws DataLoadingException {
+        return new JsonAddressBookStorage(file, false, 0).readAddressBook().get();
+    }
+
+    /**
+     * Loads by streaming the persons from a file saved with a journal, building them sequentially without validating
+     * them again.
+     */
+    @Benchmark
+    public ReadOnlyAddressBook loadStreamedTrusted() throws DataLoadingException {
+        return new JournalingAddressBookStorage(journaledFile, false, Integer.MAX_VALUE).readAddressBook().get();
+    }
+
+    /**
+     * Loads from the binary format.
+     */
+    @Benchmark
+    public ReadOnlyAddressBook loadBinary() throws DataLoadingException {
+        return new BinaryAddressBookStorage(binaryFile).readAddressBook().get();
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Compares saving an address book of {@code size} persons by building {@code JsonSerializableAddressBook} and
+ * pretty-printing it into a {@code String}, as saves did before, against streaming the persons straight to the file,
+ * pretty-printed or compact, and against writing the binary format. Run with {@code -prof gc} to compare the memory
+ * allocated per save.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class AddressBookSaveBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private AddressBook addressBook;
+    private Path file;
+
+    /**
+     * Fills the address book with {@code size} distinct persons, and creates the file to save to.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        addressBook = new AddressBook();
+        addressBook.setPersons(BenchmarkData.createPersons(size));
+        file = Files.createTempFile("addressbook-save-benchmark", ".json");
+    }
+
+    /**
+     * Deletes the file saved to.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Saves by building the adapted persons and the whole JSON string first.
+     */
+    @Benchmark
+    public void saveSerializedString() throws IOException {
+        FileUtil.writeToFile(file, JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)));
+    }
+
+    /**
+     * Saves by streaming the persons to the file, pretty-printed.
+     */
+    @Benchmark
+    public void saveStreamedPretty() throws IOException {
+        new JsonAddressBookStorage(file, false, UserPrefs.DEFAULT_PARALLEL_LOAD_THRESHOLD).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Saves by streaming the persons to the file, compact.
+     */
+    @Benchmark
+    public void saveStreamedCompact() throws IOException {
+        new JsonAddressBookStorage(file, true, UserPrefs.DEFAULT_PARALLEL_LOAD_THRESHOLD).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Saves in the binary format.
+     */
+    @Benchmark
+    public void saveBinary() throws IOException {
+        new BinaryAddressBookStorage(file).saveAddressBook(addressBook);
+    }
+}
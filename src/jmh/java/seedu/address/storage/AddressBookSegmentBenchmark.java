@@ -0,0 +1,103 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.model.AddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+/**
+ * Compares saving an address book of {@code size} persons after editing the phone of one of them, by rewriting the
+ * whole address book file against rewriting only the segment of the person and the manifest.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class AddressBookSegmentBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    private AddressBook addressBook;
+    private JsonAddressBookStorage jsonStorage;
+    private SegmentedAddressBookStorage segmentedStorage;
+    private Path directory;
+    private int edits;
+
+    /**
+     * Fills the address book with {@code size} distinct persons, and saves it both ways.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        addressBook = new AddressBook();
+        addressBook.setPersons(BenchmarkData.createPersons(size));
+        directory = Files.createTempDirectory("addressbook-segment-benchmark");
+        jsonStorage = new JsonAddressBookStorage(directory.resolve("plain.json"), true,
+                UserPrefs.DEFAULT_PARALLEL_LOAD_THRESHOLD);
+        jsonStorage.saveAddressBook(addressBook);
+        segmentedStorage = new SegmentedAddressBookStorage(directory.resolve("segmented.json"));
+        segmentedStorage.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Deletes the files saved to.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Edits the phone of the person in the middle of the address book.
+     */
+    @Setup(Level.Invocation)
+    public void editPhone() {
+        Person person = addressBook.getPersonList().get(size / 2);
+        addressBook.setPerson(person, new Person(person.getName(), new Phone(String.valueOf(60000000 + edits++)),
+                person.getEmail(), person.getAddress(), person.getTags()));
+    }
+
+    /**
+     * Saves by rewriting the whole address book file.
+     */
+    @Benchmark
+    public void saveWholeFile() throws IOException {
+        jsonStorage.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Saves by rewriting the segment of the edited person and the manifest.
+     */
+    @Benchmark
+    public void saveSegments() throws IOException {
+        segmentedStorage.saveAddressBook(addressBook);
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Measures saving and loading an address book of {@code size} persons with {@link JsonAddressBookStorage} with its
+ * default settings, as the app does without a journal, segments or a binary cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class JsonAddressBookStorageBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private AddressBook addressBook;
+    private Path saveFile;
+    private Path loadFile;
+
+    /**
+     * Fills the address book with {@code size} distinct persons, and saves it to the file to load.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        addressBook = new AddressBook();
+        addressBook.setPersons(BenchmarkData.createPersons(size));
+        saveFile = Files.createTempFile("addressbook-storage-benchmark", ".json");
+        loadFile = Files.createTempFile("addressbook-storage-benchmark", ".json");
+        new JsonAddressBookStorage(loadFile).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Deletes the files saved and loaded.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        for (Path file : new Path[] {saveFile, loadFile}) {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(JsonAddressBookStorage.getNoteFilePath(file));
+        }
+    }
+
+    /**
+     * Saves the address book.
+     */
+    @Benchmark
+    public void save() throws IOException {
+        new JsonAddressBookStorage(saveFile).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Loads the address book.
+     */
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> load() throws DataLoadingException {
+        return new JsonAddressBookStorage(loadFile).readAddressBook();
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -23,11 +24,15 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryCachedAddressBookStorage;
+import seedu.address.storage.JournalingAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.SegmentedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -42,7 +47,7 @@ public class MainApp extends Application {
 
     protected Ui ui;
     protected Logic logic;
-    protected Storage storage;
+    protected WriteBehindStorage storage;
     protected Model model;
     protected Config config;
 
@@ -57,8 +62,20 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        // the binary copy is not compressed, so it is not kept for a compressed address book file
+        AddressBookStorage addressBookStorage = userPrefs.isSegmentedAddressBook()
+                ? new SegmentedAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                        userPrefs.isCompressedAddressBookFile(), userPrefs.getParallelLoadThreshold())
+                : userPrefs.isBinaryAddressBookCache() && !userPrefs.isCompressedAddressBookFile()
+                ? new BinaryCachedAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                        userPrefs.isCompactAddressBookFile(), userPrefs.getParallelLoadThreshold())
+                : new JournalingAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                        userPrefs.isCompactAddressBookFile(), userPrefs.isCompressedAddressBookFile(),
+                        userPrefs.getParallelLoadThreshold());
+        if (!userPrefs.isSegmentedAddressBook()) {
+            writeBackSegments(addressBookStorage);
+        }
+        storage = new WriteBehindStorage(new StorageManager(addressBookStorage, userPrefsStorage));
 
         model = initModelManager(storage, userPrefs);
 
@@ -67,6 +84,20 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Writes the address book saved in segments back to the file of {@code addressBookStorage}, which would otherwise
+     * be older than the segments if the address book was segmented before. Failing to do so leaves the segments for
+     * the next start, or for when the address book is segmented again.
+     */
+    private void writeBackSegments(AddressBookStorage addressBookStorage) {
+        Path filePath = addressBookStorage.getAddressBookFilePath();
+        try {
+            SegmentedAddressBookStorage.writeBackSegments(filePath, addressBookStorage);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Segments of data file " + filePath + " could not be written back to it: " + e);
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -182,5 +213,39 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.close();
+        } catch (IOException e) {
+            logger.warning("Failed to save the address book in the background, saving it again: "
+                    + StringUtil.getDetails(e));
+            saveAddressBookAgain();
+        }
+        model.close();
+    }
+
+    /**
+     * Saves the address book to its file right away, after the last save in the background failed. If that fails
+     * too, saves it to a new file in the temporary directory instead, so that the changes are not lost, and reports
+     * where they are.
+     */
+    private void saveAddressBookAgain() {
+        Path filePath = storage.getAddressBookFilePath();
+        try {
+            storage.saveAddressBook(model.getAddressBook(), filePath);
+            logger.info("Saved the address book to " + filePath);
+            return;
+        } catch (IOException e) {
+            logger.severe("Failed to save the address book to " + filePath + " " + StringUtil.getDetails(e));
+        }
+
+        try {
+            Path backupPath = Files.createTempFile("addressbook-unsaved-", ".json");
+            new JsonAddressBookStorage(backupPath).saveAddressBook(model.getAddressBook());
+            logger.severe("The changes since the address book was last saved are in " + backupPath
+                    + ", and are to be copied to " + filePath + " before starting the application again.");
+        } catch (IOException e) {
+            logger.severe("Failed to save the address book anywhere, so the latest changes are lost "
+                    + StringUtil.getDetails(e));
+        }
     }
 }
@@ -0,0 +1,154 @@
+package seedu.address.commons.core.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.StringJoiner;
+import java.util.function.IntConsumer;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents a non-empty selection of distinct indexes, such as the indexes of the persons to delete at once.
+ *
+ * The selection is stored as sorted, disjoint and non-adjacent ranges of zero-based indexes, so a selection of
+ * consecutive indexes takes constant space however many indexes it contains, and no {@code Index} is created for
+ * the selected indexes.
+ */
+public class IndexSelection {
+
+    /** Zero-based first index of each range. */
+    private final int[] rangeStarts;
+    /** Zero-based last index (inclusive) of each range. */
+    private final int[] rangeEnds;
+    private final long size;
+
+    private IndexSelection(int[] rangeStarts, int[] rangeEnds) {
+        assert rangeStarts.length == rangeEnds.length && rangeStarts.length > 0;
+        this.rangeStarts = rangeStarts;
+        this.rangeEnds = rangeEnds;
+
+        long totalSize = 0;
+        for (int i = 0; i < rangeStarts.length; i++) {
+            totalSize += (long) rangeEnds[i] - rangeStarts[i] + 1;
+        }
+        this.size = totalSize;
+    }
+
+    /**
+     * Creates a selection of the single index {@code index}.
+     */
+    public static IndexSelection of(Index index) {
+        requireNonNull(index);
+        return ofRange(index, index);
+    }
+
+    /**
+     * Creates a selection of the indexes from {@code first} to {@code last} inclusive.
+     *
+     * @throws IllegalArgumentException if {@code first} is after {@code last}.
+     */
+    public static IndexSelection ofRange(Index first, Index last) {
+        requireNonNull(first);
+        requireNonNull(last);
+        if (first.getZeroBased() > last.getZeroBased()) {
+            throw new IllegalArgumentException("The first index of a range should not be after its last index.");
+        }
+        return new IndexSelection(new int[] {first.getZeroBased()}, new int[] {last.getZeroBased()});
+    }
+
+    /**
+     * Creates a selection of the given zero-based indexes, in any order. Duplicate indexes are selected once.
+     *
+     * @throws IllegalArgumentException if no index is given.
+     * @throws IndexOutOfBoundsException if any index is negative.
+     */
+    public static IndexSelection fromZeroBased(int... zeroBasedIndexes) {
+        requireNonNull(zeroBasedIndexes);
+        if (zeroBasedIndexes.length == 0) {
+            throw new IllegalArgumentException("At least one index should be selected.");
+        }
+
+        int[] sorted = zeroBasedIndexes.clone();
+        Arrays.sort(sorted);
+        if (sorted[0] < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        int[] starts = new int[sorted.length];
+        int[] ends = new int[sorted.length];
+        int rangeCount = 0;
+        for (int index : sorted) {
+            if (rangeCount > 0 && index <= ends[rangeCount - 1] + 1L) {
+                ends[rangeCount - 1] = Math.max(ends[rangeCount - 1], index);
+            } else {
+                starts[rangeCount] = index;
+                ends[rangeCount] = index;
+                rangeCount++;
+            }
+        }
+        return new IndexSelection(Arrays.copyOf(starts, rangeCount), Arrays.copyOf(ends, rangeCount));
+    }
+
+    /**
+     * Returns the number of selected indexes.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns the highest selected index, as a zero-based index.
+     */
+    public int getHighestZeroBased() {
+        return rangeEnds[rangeEnds.length - 1];
+    }
+
+    /**
+     * Performs {@code action} on each selected zero-based index, in increasing order.
+     */
+    public void forEachZeroBased(IntConsumer action) {
+        requireNonNull(action);
+        for (int i = 0; i < rangeStarts.length; i++) {
+            for (int index = rangeStarts[i]; index <= rangeEnds[i]; index++) {
+                action.accept(index);
+                if (index == Integer.MAX_VALUE) {
+                    // Prevents overflow from incrementing index another time.
+                    break;
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IndexSelection)) {
+            return false;
+        }
+
+        IndexSelection otherSelection = (IndexSelection) other;
+        return Arrays.equals(rangeStarts, otherSelection.rangeStarts)
+                && Arrays.equals(rangeEnds, otherSelection.rangeEnds);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(rangeStarts) + Arrays.hashCode(rangeEnds);
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner ranges = new StringJoiner(", ", "[", "]");
+        for (int i = 0; i < rangeStarts.length; i++) {
+            ranges.add(rangeStarts[i] == rangeEnds[i]
+                    ? String.valueOf(rangeStarts[i])
+                    : rangeStarts[i] + "-" + rangeEnds[i]);
+        }
+        return new ToStringBuilder(this).add("zeroBasedRanges", ranges).toString();
+    }
+}
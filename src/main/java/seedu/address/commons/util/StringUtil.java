@@ -82,6 +82,65 @@ public class StringUtil {
         }
     }
 
+    /**
+     * Returns true if {@code c} is whitespace as matched by {@code \s} in a regular expression, which is a space,
+     * a tab, a line feed, a vertical tab, a form feed or a carriage return.
+     */
+    public static boolean isWhitespace(char c) {
+        return c == ' ' || (c >= '\t' && c <= '\r');
+    }
+
+    /**
+     * Returns true if {@code c} ends a line as matched by a regular expression, which {@code .} does not match.
+     */
+    public static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, as matched by {@code \p{Alnum}} in a regular
+     * expression.
+     */
+    public static boolean isAsciiAlphanumeric(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Returns {@code s} trimmed, with every run of whitespace replaced by a single space, as
+     * {@code s.trim().replaceAll("\\s+", " ")} does. Returns the trimmed {@code s} itself if no run has to be
+     * replaced, which is the case for most names, without compiling a pattern or copying the string.
+     */
+    public static String collapseWhitespace(String s) {
+        String trimmed = s.trim();
+        int length = trimmed.length();
+        int firstChange = 0;
+        // the trimmed string neither starts nor ends with whitespace
+        while (firstChange < length) {
+            char c = trimmed.charAt(firstChange);
+            if (isWhitespace(c) && (c != ' ' || isWhitespace(trimmed.charAt(firstChange + 1)))) {
+                break;
+            }
+            firstChange++;
+        }
+        if (firstChange == length) {
+            return trimmed;
+        }
+
+        StringBuilder collapsed = new StringBuilder(length).append(trimmed, 0, firstChange);
+        boolean isInRun = false;
+        for (int i = firstChange; i < length; i++) {
+            char c = trimmed.charAt(i);
+            if (!isWhitespace(c)) {
+                collapsed.append(c);
+                isInRun = false;
+            } else if (!isInRun) {
+                collapsed.append(' ');
+                isInRun = true;
+            }
+        }
+        return collapsed.toString();
+    }
+
     /**
      * Computes the Levenshtein distance between two strings.
      * @param s1 The first string.
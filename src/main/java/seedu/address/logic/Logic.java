@@ -2,6 +2,7 @@ package seedu.address.logic;
 
 import java.nio.file.Path;
 
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
@@ -44,6 +45,12 @@ public interface Logic {
      */
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the message of the failure of the latest save of the address book as of the latest command, which is
+     * null if the save did not fail.
+     */
+    ObservableValue<String> getSaveFailureMessage();
+
     /**
      * Returns the user prefs' GUI settings.
      */
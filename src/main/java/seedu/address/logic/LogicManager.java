@@ -5,6 +5,9 @@ import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.util.logging.Logger;
 
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
@@ -32,6 +35,9 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    /** The modification count of the address book when it was last saved, or -1 if it has not been saved yet. */
+    private long savedModificationCount = -1;
+    private final StringProperty saveFailureMessage = new SimpleStringProperty();
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -39,7 +45,7 @@ public class LogicManager implements Logic {
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        addressBookParser = new AddressBookParser(model.getUserPrefs().getMassOpsLimit());
     }
 
     @Override
@@ -49,19 +55,40 @@ public class LogicManager implements Logic {
             model.addPastCommandInput(commandText);
         }
 
-        CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            Command command = addressBookParser.parseCommand(commandText);
+            CommandResult commandResult = command.execute(model);
+            saveIfModified();
+            return commandResult;
+        } finally {
+            // a save in the background may have failed since the last command, whatever this command did
+            saveFailureMessage.set(storage.getLatestSaveFailure().map(LogicManager::toSaveFailureMessage)
+                    .orElse(null));
+        }
+    }
+
+    /**
+     * Saves the address book if it changed since it was last saved, which it does not after a command that only
+     * views it.
+     */
+    private void saveIfModified() throws CommandException {
+        long modificationCount = model.getAddressBookModificationCount();
+        if (modificationCount == savedModificationCount) {
+            return;
+        }
 
         try {
             storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            savedModificationCount = modificationCount;
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(toSaveFailureMessage(ioe), ioe);
         }
+    }
 
-        return commandResult;
+    private static String toSaveFailureMessage(IOException ioe) {
+        return ioe instanceof AccessDeniedException
+                ? String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage())
+                : String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
     }
 
     @Override
@@ -85,6 +112,11 @@ public class LogicManager implements Logic {
         return model.getAddressBookFilePath();
     }
 
+    @Override
+    public ObservableValue<String> getSaveFailureMessage() {
+        return saveFailureMessage;
+    }
+
     @Override
     public GuiSettings getGuiSettings() {
         return model.getGuiSettings();
@@ -3,15 +3,16 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Set;
+import java.util.Optional;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
 
 /**
@@ -21,43 +22,34 @@ public class DeleteCommand extends Command {
 
     public static final String COMMAND_WORD = "delete";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the person(s) identified by the index number(s) used in the displayed person list.\n"
-            + "Parameters: INDEX (must be a positive integer between 1 and 2147483647 inclusive.)"
-            + System.lineSeparator()
-            + "Example: " + COMMAND_WORD + " 1"
-            + System.lineSeparator()
-            + "For deleting up to 100 persons at once:"
-            + System.lineSeparator()
-            + "1. (Spaced format) Parameters: i/INDEX1 INDEX2 INDEX3 ... INDEXN (Each INDEX must be positive "
-            + "integers between 1 and 2147483647 inclusive, \nat most 100 distinct indexes are allowed.)"
-            + System.lineSeparator()
-            + " Example: " + COMMAND_WORD + " i/1 2 3 4 5"
-            + System.lineSeparator()
-            + "2. (Ranged format) Parameters: i/START_INDEX-END_INDEX (START_INDEX and END_INDEX "
-            + "must be positive integers between 1 and 2147483647 inclusive \n"
-            + "that differ by at most 100, and START_INDEX is at most END_INDEX.)"
-            + System.lineSeparator()
-            + " Example: " + COMMAND_WORD + " i/9-99";
+    public static final String KEYWORD_ALL_SHOWN = "all";
+
+    /** The usage message with the default mass operations limit; see {@link #getUsage(int)}. */
+    public static final String MESSAGE_USAGE = getUsage(UserPrefs.DEFAULT_MASS_OPS_LIMIT);
 
     public static final String MESSAGE_DELETE_PERSON_SUCCESS = "Deleted Person(s): "
             + System.lineSeparator()
             + "%1$s";
 
-    /** Specifies the highest index to be the element at the start of {@code targetIndexes}. */
-    private static final Integer HIGHEST_TARGET_INDEX_POSITION = 0;
+    public static final String MESSAGE_DELETE_PERSONS_COUNT_SUCCESS = "Deleted %1$d person(s).";
+
+    public static final String MESSAGE_DELETE_ALL_SHOWN_SUCCESS = "Deleted all %1$d displayed person(s).";
+
+    public static final String MESSAGE_NO_PERSONS_SHOWN = "There are no displayed persons to delete.";
+
+    /** Beyond this many deleted persons, only their count is shown to keep the result display responsive. */
+    static final int MAX_LISTED_DELETED_PERSONS = 100;
+
+    /** The indexes to delete, or empty if every displayed person is to be deleted. */
+    private final Optional<IndexSelection> targetIndexes;
 
     /**
-     * This instance variable must obey the following constraints:
-     * 1. Unique
-     * 2. decreasing order (by 0-based index)
-     * 3. Immutable
-     * 4. Non-empty
+     * Creates a delete command specifying a single index to delete.
+     *
+     * @param targetIndex The index of the person to be deleted.
      */
-    private final List<Index> targetIndexes;
-
     public DeleteCommand(Index targetIndex) {
-        this.targetIndexes = Collections.singletonList(targetIndex);
+        this(IndexSelection.of(targetIndex));
     }
 
     /**
@@ -65,36 +57,95 @@ public class DeleteCommand extends Command {
      *
      * @param targetIndexes The indexes of persons to be deleted.
      */
-    public DeleteCommand(Set<Index> targetIndexes) {
-        this.targetIndexes = List.copyOf(targetIndexes
-                .stream()
-                .sorted((index1, index2) -> index2.getZeroBased() - index1.getZeroBased())
-                .toList());
+    public DeleteCommand(IndexSelection targetIndexes) {
+        this(Optional.of(targetIndexes));
+    }
+
+    private DeleteCommand(Optional<IndexSelection> targetIndexes) {
+        this.targetIndexes = targetIndexes;
+    }
+
+    /**
+     * Creates a delete command that deletes every person in the displayed person list.
+     */
+    public static DeleteCommand allShown() {
+        return new DeleteCommand(Optional.empty());
+    }
+
+    /**
+     * Returns the usage message of this command, with {@code massOpsLimit} as the number of persons that can be
+     * deleted at once.
+     */
+    public static String getUsage(int massOpsLimit) {
+        return COMMAND_WORD
+                + ": Deletes the person(s) identified by the index number(s) used in the displayed person list.\n"
+                + "Parameters: INDEX (must be a positive integer between 1 and 2147483647 inclusive.)"
+                + System.lineSeparator()
+                + "Example: " + COMMAND_WORD + " 1"
+                + System.lineSeparator()
+                + "For deleting up to " + massOpsLimit + " persons at once "
+                + "(the limit can be changed in the preferences file):"
+                + System.lineSeparator()
+                + "1. (Spaced format) Parameters: i/INDEX1 INDEX2 INDEX3 ... INDEXN (Each INDEX must be positive "
+                + "integers between 1 and 2147483647 inclusive, \nat most "
+                + massOpsLimit + " distinct indexes are allowed.)"
+                + System.lineSeparator()
+                + " Example: " + COMMAND_WORD + " i/1 2 3 4 5"
+                + System.lineSeparator()
+                + "2. (Ranged format) Parameters: i/START_INDEX-END_INDEX (START_INDEX and END_INDEX "
+                + "must be positive integers between 1 and 2147483647 inclusive \n"
+                + "that differ by less than " + massOpsLimit
+                + ", and START_INDEX is at most END_INDEX.)"
+                + System.lineSeparator()
+                + " Example: " + COMMAND_WORD + " i/9-99"
+                + System.lineSeparator()
+                + "For deleting every person in the displayed person list:"
+                + System.lineSeparator()
+                + " Example: " + COMMAND_WORD + " " + KEYWORD_ALL_SHOWN;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        assert !targetIndexes.isEmpty();
 
         List<Person> lastShownList = model.getFilteredPersonList();
+        if (targetIndexes.isEmpty()) {
+            return deleteAllShown(model, lastShownList);
+        }
+        return deleteIndexes(model, lastShownList, targetIndexes.get());
+    }
+
+    private CommandResult deleteIndexes(Model model, List<Person> lastShownList, IndexSelection targetIndexes)
+            throws CommandException {
         // Delete operation fails (uncommited) if at least 1 index is out of range
-        if (targetIndexes.get(HIGHEST_TARGET_INDEX_POSITION).getZeroBased() >= lastShownList.size()) {
+        if (targetIndexes.getHighestZeroBased() >= lastShownList.size()) {
             throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
         }
-        List<Person> deletedPersons = new ArrayList<>();
-        for (Index targetIndex : targetIndexes) {
-            Person personToDelete = lastShownList.get(targetIndex.getZeroBased());
-            model.deletePerson(personToDelete);
+        // The size fits in an int as every selected index is within the displayed list.
+        List<Person> deletedPersons = new ArrayList<>((int) targetIndexes.size());
+        targetIndexes.forEachZeroBased(targetIndex -> deletedPersons.add(lastShownList.get(targetIndex)));
+
+        model.deletePersons(deletedPersons);
 
-            deletedPersons.add(personToDelete);
+        model.commit();
+
+        if (deletedPersons.size() > MAX_LISTED_DELETED_PERSONS) {
+            return new CommandResult(String.format(MESSAGE_DELETE_PERSONS_COUNT_SUCCESS, deletedPersons.size()));
+        }
+        return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(deletedPersons)));
+    }
+
+    private CommandResult deleteAllShown(Model model, List<Person> lastShownList) throws CommandException {
+        if (lastShownList.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_PERSONS_SHOWN);
         }
 
-        Collections.reverse(deletedPersons);
+        List<Person> deletedPersons = new ArrayList<>(lastShownList);
+        model.deletePersons(deletedPersons);
 
         model.commit();
 
-        return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(deletedPersons)));
+        return new CommandResult(String.format(MESSAGE_DELETE_ALL_SHOWN_SUCCESS, deletedPersons.size()));
     }
 
     @Override
@@ -114,10 +165,8 @@ public class DeleteCommand extends Command {
 
     @Override
     public String toString() {
-        ToStringBuilder builder = new ToStringBuilder(this);
-        for (Index targetIndex : targetIndexes) {
-            builder.add("targetIndex", targetIndex);
-        }
-        return builder.toString();
+        return new ToStringBuilder(this)
+                .add("targetIndexes", targetIndexes.isPresent() ? targetIndexes.get() : KEYWORD_ALL_SHOWN)
+                .toString();
     }
 }
@@ -22,12 +22,12 @@ public class HelpCommand extends Command {
 
     public static final String SHOWING_HELP_MESSAGE = "Opened help window.";
 
+    /** The usage messages of the commands, except that of {@code delete}, which depends on the user prefs. */
     private static final Map<String, String> COMMAND_HELP;
 
     static {
         COMMAND_HELP = new HashMap<>();
         COMMAND_HELP.put(AddCommand.COMMAND_WORD, AddCommand.MESSAGE_USAGE);
-        COMMAND_HELP.put(DeleteCommand.COMMAND_WORD, DeleteCommand.MESSAGE_USAGE);
         COMMAND_HELP.put(EditCommand.COMMAND_WORD, EditCommand.MESSAGE_USAGE);
         COMMAND_HELP.put(PinCommand.COMMAND_WORD, PinCommand.MESSAGE_USAGE);
         COMMAND_HELP.put(UnpinCommand.COMMAND_WORD, UnpinCommand.MESSAGE_USAGE);
@@ -89,7 +89,9 @@ public class HelpCommand extends Command {
         if (commandName == null) {
             return new CommandResult(SHOWING_HELP_MESSAGE, true, false);
         } else {
-            String helpMessage = COMMAND_HELP.get(commandName);
+            String helpMessage = commandName.equals(DeleteCommand.COMMAND_WORD)
+                    ? DeleteCommand.getUsage(model.getUserPrefs().getMassOpsLimit())
+                    : COMMAND_HELP.get(commandName);
 
             if (helpMessage != null) {
                 return new CommandResult(helpMessage);
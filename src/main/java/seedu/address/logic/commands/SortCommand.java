@@ -43,8 +43,8 @@ public class SortCommand extends Command {
     }
 
     /**
-     * Executes sort command by updating the filtered list of persons in the model
-     * and sorting them based on the given prefix.
+     * Executes sort command by sorting the filtered list of persons in the model based on the given prefix.
+     * The address book itself is left in its order, and the sort order is kept in the user prefs.
      *
      * @param model The model containing the address book data and the logic for sorting the address book.
      * @return The result of executing the sort command, containing a success message.
@@ -52,7 +52,6 @@ public class SortCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateSortedPersonList(prefixes);
         model.updateSortedFilteredPersonList(prefixes);
 
         model.commit();
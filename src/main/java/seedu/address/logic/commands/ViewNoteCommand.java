@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.UncheckedIOException;
 import java.util.List;
 
 import seedu.address.commons.core.index.Index;
@@ -26,6 +27,8 @@ public class ViewNoteCommand extends Command {
 
     public static final String MESSAGE_VIEW_NOTE_PERSON_SUCCESS = "Successfully displaying note: \n %1$s";
 
+    public static final String MESSAGE_NOTE_UNAVAILABLE = "The note of this person cannot be read: %1$s";
+
     private final Index targetIndex;
 
     /**
@@ -49,10 +52,16 @@ public class ViewNoteCommand extends Command {
 
         Person personToView = lastShownList.get(targetIndex.getZeroBased());
         Note note = personToView.getNote();
+        String noteText;
+        try {
+            noteText = note.toString();
+        } catch (UncheckedIOException e) {
+            throw new CommandException(String.format(MESSAGE_NOTE_UNAVAILABLE, e.getCause().getMessage()), e);
+        }
 
         model.commit();
 
-        return new CommandResult(String.format(MESSAGE_VIEW_NOTE_PERSON_SUCCESS, note.toString()));
+        return new CommandResult(String.format(MESSAGE_VIEW_NOTE_PERSON_SUCCESS, noteText));
     }
 
     @Override
@@ -25,6 +25,7 @@ import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.UnpinCommand;
 import seedu.address.logic.commands.ViewNoteCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.UserPrefs;
 
 /**
  * Parses user input.
@@ -37,6 +38,22 @@ public class AddressBookParser {
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
+    private final int massOpsLimit;
+
+    /**
+     * Creates a parser that accepts up to {@link UserPrefs#DEFAULT_MASS_OPS_LIMIT} indexes in mass operations.
+     */
+    public AddressBookParser() {
+        this(UserPrefs.DEFAULT_MASS_OPS_LIMIT);
+    }
+
+    /**
+     * Creates a parser that accepts up to {@code massOpsLimit} indexes in mass operations.
+     */
+    public AddressBookParser(int massOpsLimit) {
+        this.massOpsLimit = massOpsLimit;
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -67,7 +84,7 @@ public class AddressBookParser {
             return new EditCommandParser().parse(arguments);
 
         case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
+            return new DeleteCommandParser(massOpsLimit).parse(arguments);
 
         case ClearCommand.COMMAND_WORD:
             return new ClearCommand();
@@ -10,6 +10,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.UserPrefs;
 
 /**
  * Parses input arguments and creates a new DeleteCommand object
@@ -17,7 +18,23 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class DeleteCommandParser implements Parser<DeleteCommand> {
 
     private final Logger logger = LogsCenter.getLogger(DeleteCommandParser.class);
-    private final MassOpsIndexParser massOpsParser = new MassOpsIndexParser();
+    private final int massOpsLimit;
+    private final MassOpsIndexParser massOpsParser;
+
+    /**
+     * Creates a parser that accepts up to {@link UserPrefs#DEFAULT_MASS_OPS_LIMIT} indexes to delete at once.
+     */
+    public DeleteCommandParser() {
+        this(UserPrefs.DEFAULT_MASS_OPS_LIMIT);
+    }
+
+    /**
+     * Creates a parser that accepts up to {@code massOpsLimit} indexes to delete at once.
+     */
+    public DeleteCommandParser(int massOpsLimit) {
+        this.massOpsLimit = massOpsLimit;
+        massOpsParser = new MassOpsIndexParser(massOpsLimit);
+    }
 
     /**
      * Parses the given {@code String} of arguments in the context of the DeleteCommand
@@ -34,6 +51,9 @@ public class DeleteCommandParser implements Parser<DeleteCommand> {
             Optional<String> maybeMassOps = argMultimap.getValue(PREFIX_MASS_OPS);
             if (maybeMassOps.isEmpty()) {
                 logger.info("Not a mass ops format.");
+                if (args.trim().equals(DeleteCommand.KEYWORD_ALL_SHOWN)) {
+                    return DeleteCommand.allShown();
+                }
                 Index index = ParserUtil.parseIndex(args);
                 return new DeleteCommand(index);
             }
@@ -48,7 +68,7 @@ public class DeleteCommandParser implements Parser<DeleteCommand> {
         } catch (ParseException pe) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-                            DeleteCommand.MESSAGE_USAGE), pe);
+                            DeleteCommand.getUsage(massOpsLimit)), pe);
         }
     }
 }
@@ -1,19 +1,16 @@
 package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.StringUtil.isNonZeroUnsignedInteger;
 
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.Set;
-import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.UserPrefs;
 
 /**
  * Provides utility methods for parsing multiple 1-based indexes in command arguments,
@@ -23,11 +20,10 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class MassOpsIndexParser {
 
-    static final int MAX_OPERATIONS_SIZE = 100;
     static final String MESSAGE_RANGE_INDEX_CONSTRAINT = "Start index should be less than or equal to end index.";
     static final String MESSAGE_RANGE_CONSTRAINT =
-            "Number of specified indices should not exceed " + MAX_OPERATIONS_SIZE
-            + " indexes.";
+            "Number of specified indices should not exceed the mass operations limit (%1$d indexes, "
+            + "which can be changed in the preferences file).";
     static final String MESSAGE_MASS_OPS_CONSTRAINTS = "Constraints:"
             + System.lineSeparator()
             + "1. Index should be a non-zero integer."
@@ -38,8 +34,7 @@ public class MassOpsIndexParser {
             + System.lineSeparator()
             + "3. " + MESSAGE_RANGE_CONSTRAINT;
 
-    private static final Logger logger = LogsCenter.getLogger(MassOpsIndexParser.class);
-
+    // The messages below are formatted with the mass operations limit of the parser.
     public static final String MESSAGE_RANGE_SIZE_EXCEEDED = "Number of specified indexes exceeded limit."
             + System.lineSeparator() + MESSAGE_MASS_OPS_CONSTRAINTS;
 
@@ -56,15 +51,33 @@ public class MassOpsIndexParser {
             "(?<startIndex>\\d+)\\s*-\\s*(?<endIndex>\\d+)"
     );
 
+    /** The maximum number of distinct indexes that can be specified at once. */
+    private final int maxOperationsSize;
+
+    /**
+     * Creates a parser that accepts up to {@link UserPrefs#DEFAULT_MASS_OPS_LIMIT} distinct indexes at once.
+     */
+    public MassOpsIndexParser() {
+        this(UserPrefs.DEFAULT_MASS_OPS_LIMIT);
+    }
+
+    /**
+     * Creates a parser that accepts up to {@code maxOperationsSize} distinct indexes at once.
+     */
+    public MassOpsIndexParser(int maxOperationsSize) {
+        checkArgument(maxOperationsSize > 0, UserPrefs.MESSAGE_MASS_OPS_LIMIT_CONSTRAINTS);
+        this.maxOperationsSize = maxOperationsSize;
+    }
+
     /**
      * Parses the given string argument according to the spaced and ranged parsing formats. <br/>
      * Space format e.g.: "1 2 3 4 5", Range format: "1-200". <br/>
-     * Returns a Set of Index objects for command execution.
+     * Returns the selected indexes for command execution.
      * Leading and trailing spaces are ignored in the matching.
      *
      * @throws ParseException if the user input does not conform the expected format
      */
-    public Set<Index> parseIndexes(String args) throws ParseException {
+    public IndexSelection parseIndexes(String args) throws ParseException {
         requireNonNull(args);
 
         final Matcher spacedMatcher = SPACED_INDEX_PATTERN.matcher(args.trim());
@@ -74,7 +87,7 @@ public class MassOpsIndexParser {
         final boolean isRangedMatch = rangedMatcher.matches();
 
         if (!isSpacedMatch && !isRangedMatch) {
-            throw new ParseException(MESSAGE_INVALID_INDEX);
+            throw new ParseException(String.format(MESSAGE_INVALID_INDEX, maxOperationsSize));
         }
         if (isSpacedMatch) {
             assert !isRangedMatch;
@@ -86,29 +99,15 @@ public class MassOpsIndexParser {
 
     private void validateRangedIndex(int oneBasedStartIndex, int oneBasedEndIndex) throws ParseException {
         if (oneBasedStartIndex > oneBasedEndIndex) {
-            throw new ParseException(MESSAGE_INVALID_RANGE_ORDER);
+            throw new ParseException(String.format(MESSAGE_INVALID_RANGE_ORDER, maxOperationsSize));
         }
         long numOperations = (long) oneBasedEndIndex - (long) oneBasedStartIndex + 1;
-        logger.info("Number of operations: " + numOperations);
-        if (numOperations > MAX_OPERATIONS_SIZE) {
-            throw new ParseException(MESSAGE_RANGE_SIZE_EXCEEDED);
-        }
-    }
-
-    private Set<Index> prepareConsecutiveIndexes(int oneBasedStartIndex, int oneBasedEndIndex) {
-        Set<Index> indexes = new HashSet<>();
-        for (int i = oneBasedStartIndex; i <= oneBasedEndIndex; i++) {
-            logger.info("zero based: " + (i - 1));
-            indexes.add(Index.fromOneBased(i));
-            if (i == Integer.MAX_VALUE) {
-                // Prevents overflow from incrementing i another time.
-                break;
-            }
+        if (numOperations > maxOperationsSize) {
+            throw new ParseException(String.format(MESSAGE_RANGE_SIZE_EXCEEDED, maxOperationsSize));
         }
-        return indexes;
     }
 
-    private Set<Index> parseRangedIndexes(Matcher rangedMatcher) throws ParseException {
+    private IndexSelection parseRangedIndexes(Matcher rangedMatcher) throws ParseException {
         requireNonNull(rangedMatcher);
         assert RANGE_INDEX_PATTERN.equals(rangedMatcher.pattern());
 
@@ -119,36 +118,35 @@ public class MassOpsIndexParser {
         final boolean isValidEndIndex = isNonZeroUnsignedInteger(endIndexString);
 
         if (!isValidStartIndex || !isValidEndIndex) {
-            throw new ParseException(MESSAGE_INVALID_INDEX);
+            throw new ParseException(String.format(MESSAGE_INVALID_INDEX, maxOperationsSize));
         }
 
         final int oneBasedStartIndex = Integer.parseInt(startIndexString);
         final int oneBasedEndIndex = Integer.parseInt(endIndexString);
-        logger.info("oneBasedStartIndex: " + oneBasedStartIndex + ", oneBasedEndIndex: " + oneBasedEndIndex);
 
         validateRangedIndex(oneBasedStartIndex, oneBasedEndIndex);
 
-        return prepareConsecutiveIndexes(oneBasedStartIndex, oneBasedEndIndex);
+        return IndexSelection.ofRange(Index.fromOneBased(oneBasedStartIndex), Index.fromOneBased(oneBasedEndIndex));
     }
 
-    private Set<Index> parseSpacedIndexes(Matcher spacedMatcher) throws ParseException {
+    private IndexSelection parseSpacedIndexes(Matcher spacedMatcher) throws ParseException {
         requireNonNull(spacedMatcher);
         assert SPACED_INDEX_PATTERN.equals(spacedMatcher.pattern());
 
-        String rawIndexes = spacedMatcher.group("indexes").trim();
-        Collection<String> oneBasedIndexStrings = Arrays.asList(rawIndexes.split("\\s+"));
+        String[] oneBasedIndexStrings = spacedMatcher.group("indexes").trim().split("\\s+");
 
-        Set<Index> indexes;
-        try {
-            indexes = ParserUtil.parseIndexes(oneBasedIndexStrings);
-        } catch (ParseException pe) {
-            throw new ParseException(MESSAGE_INVALID_INDEX, pe);
+        int[] zeroBasedIndexes = new int[oneBasedIndexStrings.length];
+        for (int i = 0; i < oneBasedIndexStrings.length; i++) {
+            if (!isNonZeroUnsignedInteger(oneBasedIndexStrings[i])) {
+                throw new ParseException(String.format(MESSAGE_INVALID_INDEX, maxOperationsSize));
+            }
+            zeroBasedIndexes[i] = Integer.parseInt(oneBasedIndexStrings[i]) - 1;
         }
 
-        if (indexes.size() > MAX_OPERATIONS_SIZE) {
-            throw new ParseException(MESSAGE_RANGE_SIZE_EXCEEDED);
-        } else {
-            return indexes;
+        IndexSelection indexes = IndexSelection.fromZeroBased(zeroBasedIndexes);
+        if (indexes.size() > maxOperationsSize) {
+            throw new ParseException(String.format(MESSAGE_RANGE_SIZE_EXCEEDED, maxOperationsSize));
         }
+        return indexes;
     }
 }
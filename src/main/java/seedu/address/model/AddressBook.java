@@ -2,9 +2,11 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
@@ -16,6 +18,8 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    /** The persistent write count of {@code persons} at the last snapshot, or -1 before the first snapshot. */
+    private long snapshotWriteCount = -1;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -54,9 +58,43 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof AddressBook) {
+            // another AddressBook is already known to be unique, so its identity index can be reused
+            persons.setPersons(((AddressBook) newData).persons);
+            return;
+        }
+        if (newData instanceof AddressBookSnapshot) {
+            // the persons of a snapshot are reused as is, so that the next snapshot shares them
+            setPersons(((AddressBookSnapshot) newData).getPersons());
+            return;
+        }
         setPersons(newData.getPersonList());
     }
 
+    /**
+     * Returns an immutable snapshot of this {@code AddressBook} in its current state, which shares its persons with
+     * the previous snapshots as far as they did not change.
+     */
+    public AddressBookSnapshot snapshot() {
+        PersistentList<Person> personList = persons.asPersistentList();
+        long writeCount = persons.getPersistentWriteCount();
+        long unsharedPersonCount = snapshotWriteCount < 0
+                ? personList.size()
+                : Math.min(writeCount - snapshotWriteCount, personList.size());
+        snapshotWriteCount = writeCount;
+        return new AddressBookSnapshot(personList, unsharedPersonCount, persons.getEditLog());
+    }
+
+    /**
+     * Returns an immutable view of this {@code AddressBook} in its current state, with its edit log, for storage to
+     * save. Unlike {@link #snapshot()}, it does not count as a snapshot, so saving does not affect how much of the next
+     * snapshot is estimated to be shared with the previous one.
+     */
+    public AddressBookSnapshot getSavedView() {
+        PersistentList<Person> personList = persons.asPersistentList();
+        return new AddressBookSnapshot(personList, personList.size(), persons.getEditLog());
+    }
+
     //// person-level operations
 
     /**
@@ -94,6 +132,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Removes {@code keys} from this {@code AddressBook} at once.
+     * Every person in {@code keys} must exist in the address book.
+     */
+    public void removePersons(Collection<Person> keys) {
+        persons.removeAll(keys);
+    }
+
     /**
      * Pins a person to the top of the address book.
      *
@@ -120,6 +166,24 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.sortBy(prefix);
     }
 
+    /**
+     * Updates the list of persons in the address book by sorting them based on the given prefix,
+     * in parallel if there are at least {@code parallelSortThreshold} persons.
+     *
+     * @param prefix The prefix used for sorting of the person list.
+     */
+    public void updateSortedList(String[] prefix, int parallelSortThreshold) {
+        persons.sortBy(parallelSortThreshold, prefix);
+    }
+
+    /**
+     * Returns the number of times the persons of this {@code AddressBook} have changed, which stays the same for as
+     * long as they are unchanged.
+     */
+    public long getModificationCount() {
+        return persons.getModificationCount();
+    }
+
     //// util methods
 
     @Override
@@ -0,0 +1,112 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListEditLog;
+
+/**
+ * An immutable version of an {@code AddressBook} at some point in time, such as a state in the undo history.
+ *
+ * Snapshots of the same address book share every part of their person lists that did not change in between,
+ * so taking a snapshot costs O(1) time and each snapshot only takes up memory for what changed since the last one.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    /** Rough heap size of a person with its fields, as a basis for estimating the memory use of snapshots. */
+    static final long ESTIMATED_BYTES_PER_PERSON = 600;
+    /** Rough heap size of each node of a {@code PersistentList} copied by an update. */
+    static final long ESTIMATED_BYTES_PER_NODE = 40;
+
+    private final PersistentList<Person> persons;
+    private final long estimatedBytes;
+    private final PersonListEditLog editLog;
+
+    /**
+     * Creates a snapshot of the persons in {@code persons}, which must not contain duplicate persons.
+     * Its estimated memory use counts all of the persons, and it has no edit log to follow up.
+     */
+    AddressBookSnapshot(PersistentList<Person> persons) {
+        this(persons, persons.size(), PersonListEditLog.empty());
+    }
+
+    /**
+     * Creates a snapshot of the persons in {@code persons}, which must not contain duplicate persons, of which
+     * {@code unsharedPersonCount} persons are not shared with the previous snapshot. {@code editLog} holds the
+     * latest edits that led to the persons.
+     */
+    AddressBookSnapshot(PersistentList<Person> persons, long unsharedPersonCount, PersonListEditLog editLog) {
+        requireNonNull(persons);
+        requireNonNull(editLog);
+        this.persons = persons;
+        this.estimatedBytes = estimateBytes(unsharedPersonCount, persons.size());
+        this.editLog = editLog;
+    }
+
+    /**
+     * Returns the estimated memory used by {@code unsharedPersonCount} persons in a list of {@code size} persons,
+     * each with its own path of tree nodes.
+     */
+    private static long estimateBytes(long unsharedPersonCount, int size) {
+        int pathLength = 1 + (32 - Integer.numberOfLeadingZeros(size));
+        return unsharedPersonCount * (ESTIMATED_BYTES_PER_PERSON + pathLength * ESTIMATED_BYTES_PER_NODE);
+    }
+
+    /**
+     * Returns the estimated memory used by this snapshot beyond what it shares with the previous snapshot.
+     */
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /**
+     * Returns the log of the latest edits that led to the persons in the snapshot, so that the edits made between
+     * two snapshots of the same address book can be found.
+     */
+    public PersonListEditLog getEditLog() {
+        return editLog;
+    }
+
+    /**
+     * Returns the persons in the snapshot.
+     */
+    PersistentList<Person> getPersons() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookSnapshot)) {
+            return false;
+        }
+
+        AddressBookSnapshot otherSnapshot = (AddressBookSnapshot) other;
+        return persons == otherSnapshot.persons || persons.equals(otherSnapshot.persons);
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .toString();
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -52,6 +53,11 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the number of times the address book has been modified, which only changes when its persons change.
+     */
+    long getAddressBookModificationCount();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -63,6 +69,12 @@ public interface Model {
      */
     void deletePerson(Person target);
 
+    /**
+     * Deletes the given persons at once.
+     * Every person must exist in the address book.
+     */
+    void deletePersons(Collection<Person> targets);
+
     /**
      * Adds the given person.
      * {@code person} must not already exist in the address book.
@@ -167,4 +179,10 @@ public interface Model {
      * Checks if the model has an undone state to redo
      */
     boolean hasRedo();
+
+    /**
+     * Releases the files held by the model, such as the spill file of the undo history, once the model is no longer
+     * used.
+     */
+    void close();
 }
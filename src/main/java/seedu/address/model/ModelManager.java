@@ -4,13 +4,12 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
-import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.FilteredPersonList;
@@ -24,13 +23,13 @@ public class ModelManager implements Model {
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
+    private final FilteredPersonList filteredPersons;
     private final CommandHistory commandHistory;
-    private final ObservableList<Person> personList;
-    private final SortedList<Person> sortedFilteredPersons;
     private Predicate<Person> currentPredicate;
-    private final ArrayList<ModelState> stateHistory;
-    private int currentStatePointer;
+    private final UndoHistory undoHistory;
+    /** The address book of the current state in the undo history, and the modification count it was taken at. */
+    private ReadOnlyAddressBook committedAddressBook;
+    private long committedModificationCount;
 
 
     /**
@@ -43,22 +42,22 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        filteredPersons = new FilteredPersonList(this.addressBook.getPersonList(),
+                this.userPrefs.getParallelSortThreshold());
         commandHistory = new CommandHistory();
-        this.personList = addressBook.getPersonList();
-        sortedFilteredPersons = new SortedList<>(filteredPersons);
-
-        stateHistory = new ArrayList<>();
 
         // initialise the current predicate by default
         currentPredicate = PREDICATE_SHOW_ALL_PERSONS;
+        restoreSortPrefixes(this.userPrefs.getSortPrefixes());
 
         // create default model state
-        ModelState initState = new ModelState(addressBook, currentPredicate);
-
-        stateHistory.add(initState);
+        ModelState initState = new ModelState(this.addressBook.snapshot(), currentPredicate,
+                filteredPersons.getSortPrefixes());
+        committedAddressBook = initState.getAddressBookState();
+        committedModificationCount = this.addressBook.getModificationCount();
 
-        currentStatePointer = 0;
+        undoHistory = new UndoHistory(initState, userPrefs.getUndoHistoryMaxStates(),
+                userPrefs.getUndoHistoryMaxBytes());
     }
 
     /**
@@ -115,6 +114,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookModificationCount() {
+        return addressBook.getModificationCount();
+    }
+
     /**
      * Returns true if a person with the same identity as person exists in the address book.
      *
@@ -137,6 +141,17 @@ public class ModelManager implements Model {
         addressBook.removePerson(target);
     }
 
+    /**
+     * Deletes the specified target persons from the address book at once.
+     *
+     * @param targets The persons to delete.
+     */
+    @Override
+    public void deletePersons(Collection<Person> targets) {
+        requireNonNull(targets);
+        addressBook.removePersons(targets);
+    }
+
     /**
      * Adds the specified person to the address book.
      *
@@ -175,11 +190,11 @@ public class ModelManager implements Model {
 
     /**
      * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
-     * {@code versionedAddressBook}
+     * {@code versionedAddressBook}, filtered by the current predicate and sorted by the current sort prefixes.
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return filteredPersons.getSortedList();
     }
 
     /**
@@ -217,33 +232,55 @@ public class ModelManager implements Model {
     @Override
     public void updateSortedPersonList(String... prefix) {
         requireNonNull(prefix);
-        addressBook.updateSortedList(prefix);
+        addressBook.updateSortedList(prefix, userPrefs.getParallelSortThreshold());
     }
 
     /**
-     * Updates the sorted person list based on the given prefix. The prefix is used to
-     * filter the list of persons in the address book and sort the resulting filtered list.
+     * Sorts the filtered person list based on the given prefix. Only the persons in the filtered list are sorted,
+     * and the filtered list stays sorted as persons are added, edited or filtered, until it is sorted differently.
      *
-     * @param prefix The string prefix used to filter and sort the person list.
+     * @param prefix The string prefix used to sort the filtered person list.
      * @throws NullPointerException if prefix is null.
      */
     @Override
     public void updateSortedFilteredPersonList(String... prefix) {
         requireNonNull(prefix);
+        filteredPersons.sortByFilteredList(prefix);
+        userPrefs.setSortPrefixes(filteredPersons.getSortPrefixes());
+    }
 
-        filteredPersons.setPredicate(currentPredicate);
-        FilteredPersonList filteredPersonList = new FilteredPersonList(filteredPersons);
-        filteredPersonList.sortByFilteredList(prefix);
+    /**
+     * Sorts the filtered person list by {@code sortPrefixes}, or restores the order of the address book if
+     * {@code sortPrefixes} is empty, and keeps them in the user prefs so that the sort order is kept after a restart.
+     * Prefixes that cannot be sorted by, as in a preferences file edited by hand, leave the list in the order of the
+     * address book.
+     */
+    private void restoreSortPrefixes(List<String> sortPrefixes) {
+        try {
+            filteredPersons.setSortPrefixes(sortPrefixes);
+        } catch (IllegalArgumentException e) {
+            logger.warning("Ignoring sort prefixes that cannot be sorted by: " + sortPrefixes);
+            filteredPersons.setSortPrefixes(List.of());
+        }
+        userPrefs.setSortPrefixes(filteredPersons.getSortPrefixes());
     }
 
+    /**
+     * Saves the current state of the model to the undo history. If the address book did not change since the last
+     * saved state, as after a command that only changes the displayed list, the new state shares the address book of
+     * the last saved state, so that it only adds the filter and sort of the displayed list to the history.
+     */
     @Override
     public void commit() {
-        ModelState newState = new ModelState(new AddressBook(addressBook), currentPredicate);
+        if (addressBook.getModificationCount() != committedModificationCount) {
+            committedAddressBook = addressBook.snapshot();
+            committedModificationCount = addressBook.getModificationCount();
+        }
+        ModelState newState = new ModelState(committedAddressBook, currentPredicate,
+                filteredPersons.getSortPrefixes());
 
         // commit current predicate
-        removeAheadCurrent();
-        stateHistory.add(newState);
-        currentStatePointer += 1;
+        undoHistory.commit(newState);
 
         logger.fine("Successfully committed the model state");
     }
@@ -254,18 +291,13 @@ public class ModelManager implements Model {
         // must have a last state to be undoable
         // this is the responsibility of the person using this function
         // throw unchecked error if not ensured
-        if (currentStatePointer - 1 < 0) {
-            throw new IndexOutOfBoundsException();
-        }
-        currentStatePointer -= 1;
-
-        // get state
-        ModelState pastState = stateHistory.get(currentStatePointer);
+        ModelState pastState = undoHistory.undo();
         requireNonNull(pastState);
 
         // set state
-        addressBook.resetData(pastState.getAddressBookState());
+        restoreAddressBook(pastState.getAddressBookState());
         updateFilteredPersonList(pastState.getPredicate());
+        restoreSortPrefixes(pastState.getSortPrefixes());
 
         logger.fine("Successfully undone the model state");
     }
@@ -274,45 +306,50 @@ public class ModelManager implements Model {
         // must have a undone state to be able to be redone
         // this is the responsibility of the person using this function
         // throw unchecked error if not ensured
-        if (currentStatePointer + 1 >= stateHistory.size()) {
-            throw new IndexOutOfBoundsException();
-        }
-
-        currentStatePointer += 1;
-
-        // get state
-        ModelState nextState = stateHistory.get(currentStatePointer);
+        ModelState nextState = undoHistory.redo();
         requireNonNull(nextState);
 
         // set state
-        addressBook.resetData(nextState.getAddressBookState());
+        restoreAddressBook(nextState.getAddressBookState());
         updateFilteredPersonList(nextState.getPredicate());
+        restoreSortPrefixes(nextState.getSortPrefixes());
 
         logger.fine("Successfully redone the undone model state");
     }
 
     /**
-     * Removes all model states ahead of the current state
+     * Restores the address book to {@code addressBookState}, unless the address book already is in that state.
      */
-    private void removeAheadCurrent() {
-        int curSize = stateHistory.size();
-
-        // remove AddressBooks ahead of the current book until none left
-        for (int i = currentStatePointer + 1; i < curSize; i++) {
-            stateHistory.remove(currentStatePointer + 1);
+    private void restoreAddressBook(ReadOnlyAddressBook addressBookState) {
+        if (addressBookState == committedAddressBook
+                && addressBook.getModificationCount() == committedModificationCount) {
+            return;
         }
-
-        assert currentStatePointer == stateHistory.size() - 1;
+        addressBook.resetData(addressBookState);
+        committedAddressBook = addressBookState;
+        committedModificationCount = addressBook.getModificationCount();
     }
 
     @Override
     public boolean hasUndo() {
-        return currentStatePointer - 1 >= 0;
+        return undoHistory.hasUndo();
     }
 
     @Override
     public boolean hasRedo() {
-        return currentStatePointer + 1 < stateHistory.size();
+        return undoHistory.hasRedo();
+    }
+
+    @Override
+    public void close() {
+        undoHistory.close();
+    }
+
+    /**
+     * Returns the undo history, whose memory footprint can be read to tune its budget.
+     */
+    public UndoHistory getUndoHistory() {
+        return undoHistory;
     }
 
     @Override
@@ -329,10 +366,9 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                //&& filteredPersons.equals(otherModelManager.filteredPersons);
-                && sortedFilteredPersons.equals(otherModelManager.sortedFilteredPersons)
+                && filteredPersons.getSortedList().equals(otherModelManager.filteredPersons.getSortedList())
+                && filteredPersons.getSortPrefixes().equals(otherModelManager.filteredPersons.getSortPrefixes())
                 && currentPredicate.equals(otherModelManager.currentPredicate)
-                && currentStatePointer == otherModelManager.currentStatePointer
-                && stateHistory.equals(otherModelManager.stateHistory);
+                && undoHistory.equals(otherModelManager.undoHistory);
     }
 }
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Predicate;
 
@@ -10,20 +11,29 @@ import seedu.address.model.person.Person;
 
 /**
  * State of the model that contains the state of the
- * address book and the predicate of the filtered list in the model
+ * address book and the predicate and sort prefixes of the filtered list in the model
  */
 public class ModelState {
     private final ReadOnlyAddressBook addressBookState;
     private final Predicate<Person> predicateState;
+    private final List<String> sortPrefixesState;
 
     /**
-     * Creates a ModelState using an address book and a predicate
+     * Creates a ModelState using an address book and a predicate, with the filtered list unsorted
      */
     public ModelState(ReadOnlyAddressBook addressBook, Predicate<Person> predicate) {
-        requireAllNonNull(addressBook, predicate);
+        this(addressBook, predicate, List.of());
+    }
+
+    /**
+     * Creates a ModelState using an address book, a predicate and the prefixes the filtered list is sorted by
+     */
+    public ModelState(ReadOnlyAddressBook addressBook, Predicate<Person> predicate, List<String> sortPrefixes) {
+        requireAllNonNull(addressBook, predicate, sortPrefixes);
 
         addressBookState = addressBook;
         predicateState = predicate;
+        sortPrefixesState = List.copyOf(sortPrefixes);
     }
 
     public ReadOnlyAddressBook getAddressBookState() {
@@ -34,6 +44,10 @@ public class ModelState {
         return predicateState;
     }
 
+    public List<String> getSortPrefixes() {
+        return sortPrefixesState;
+    }
+
     @Override
     public boolean equals(Object other) {
 
@@ -51,11 +65,12 @@ public class ModelState {
 
         // check if every other field is the same
         return addressBookState.equals(otherModelState.addressBookState)
-                && predicateState.equals(otherModelState.predicateState);
+                && predicateState.equals(otherModelState.predicateState)
+                && sortPrefixesState.equals(otherModelState.sortPrefixesState);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(addressBookState, predicateState);
+        return Objects.hash(addressBookState, predicateState, sortPrefixesState);
     }
 }
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import seedu.address.commons.core.GuiSettings;
 
@@ -13,4 +14,55 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the minimum number of persons for which sorting is done in parallel.
+     */
+    int getParallelSortThreshold();
+
+    /**
+     * Returns the number of persons read from the address book file after which the rest are built in parallel.
+     */
+    int getParallelLoadThreshold();
+
+    /**
+     * Returns the maximum number of indexes that a single mass operation, such as deleting by indexes, can specify.
+     */
+    int getMassOpsLimit();
+
+    /**
+     * Returns the maximum number of states that the undo history keeps in memory before spilling older states to disk.
+     */
+    int getUndoHistoryMaxStates();
+
+    /**
+     * Returns the maximum estimated number of bytes of states that the undo history keeps in memory.
+     */
+    long getUndoHistoryMaxBytes();
+
+    /**
+     * Returns true if the address book file is written without line breaks or indentation.
+     */
+    boolean isCompactAddressBookFile();
+
+    /**
+     * Returns true if the address book file is written compressed with gzip.
+     */
+    boolean isCompressedAddressBookFile();
+
+    /**
+     * Returns true if a binary copy of the address book file is kept next to it, and read instead when newer.
+     */
+    boolean isBinaryAddressBookCache();
+
+    /**
+     * Returns true if the address book is stored as segment files, of which a save rewrites only those that changed.
+     */
+    boolean isSegmentedAddressBook();
+
+    /**
+     * Returns the prefixes that the displayed list of persons was last sorted by, or an empty list if it is in the
+     * order of the address book.
+     */
+    List<String> getSortPrefixes();
+
 }
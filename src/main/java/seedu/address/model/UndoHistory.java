@@ -0,0 +1,428 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListEdit;
+import seedu.address.model.person.PersonListEditLog;
+
+/**
+ * The states committed to the model, and which of them is the current state that undo and redo move away from.
+ *
+ * States are kept in memory within a budget of a maximum number of states and a maximum estimated number of bytes.
+ * Beyond the budget, the address books of the oldest states before the current state are compressed into a temporary
+ * spill file, and read back into memory once undone to. Every state stays available to undo and redo either way.
+ *
+ * A spilled address book is written as the edits that turn the address book of the next state back into it, so that
+ * spilling a state costs about as much as the command that led to the next state, and an address book read back
+ * shares its persons with the next state. Only an address book that is not followed up by the edit log of the next
+ * one, such as one before a sort, is written in full. A state that shares its address book with the next state is
+ * spilled without writing anything, and a state read back keeps its copy in the spill file, so that it is spilled
+ * again without writing anything too.
+ */
+public class UndoHistory {
+
+    public static final String MESSAGE_BUDGET_CONSTRAINTS =
+            "The undo history should keep at least one state in memory, and a non-negative number of bytes.";
+
+    private static final Logger logger = LogsCenter.getLogger(UndoHistory.class);
+
+    private final List<Entry> states = new ArrayList<>();
+    private final UndoHistorySpillFile spillFile = new UndoHistorySpillFile();
+    private final int maxStatesInMemory;
+    private final long maxBytesInMemory;
+    private int currentStatePointer;
+    private int statesInMemory;
+    private long bytesInMemory;
+    private int statesSpilled;
+    private long bytesSpilled;
+
+    /**
+     * A committed state, either held in memory or spilled to the spill file apart from its filter and sort.
+     * A spilled state has a copy of its address book relative to the next state, which a state in memory may have too.
+     */
+    private static class Entry {
+        private final long estimatedBytes;
+        private final Predicate<Person> predicate;
+        private final List<String> sortPrefixes;
+        private ModelState state;
+        private UndoHistorySpillFile.Record spillRecord;
+        private boolean isSameAddressBookAsNext;
+
+        private Entry(ModelState state, long estimatedBytes) {
+            this.state = state;
+            this.estimatedBytes = estimatedBytes;
+            this.predicate = state.getPredicate();
+            this.sortPrefixes = state.getSortPrefixes();
+        }
+
+        private boolean isSpilled() {
+            return state == null;
+        }
+
+        private boolean hasCopy() {
+            return spillRecord != null || isSameAddressBookAsNext;
+        }
+
+        private int getCopyLength() {
+            return spillRecord == null ? 0 : spillRecord.getLength();
+        }
+    }
+
+    /**
+     * Creates a history of only {@code initialState}, which keeps up to {@code maxStatesInMemory} states and up to
+     * {@code maxBytesInMemory} estimated bytes of states in memory.
+     */
+    public UndoHistory(ModelState initialState, int maxStatesInMemory, long maxBytesInMemory) {
+        requireNonNull(initialState);
+        checkArgument(maxStatesInMemory >= 1 && maxBytesInMemory >= 0, MESSAGE_BUDGET_CONSTRAINTS);
+        this.maxStatesInMemory = maxStatesInMemory;
+        this.maxBytesInMemory = maxBytesInMemory;
+
+        add(initialState);
+        currentStatePointer = 0;
+    }
+
+    /**
+     * Adds {@code state} as the current state, discarding every state that was undone before.
+     */
+    public void commit(ModelState state) {
+        requireNonNull(state);
+        removeAheadCurrent();
+        add(state);
+        currentStatePointer += 1;
+        enforceBudget();
+
+        logger.fine(() -> "Undo history footprint: " + this);
+    }
+
+    /**
+     * Moves to the previous state and returns it.
+     *
+     * @throws IndexOutOfBoundsException if there is no previous state.
+     * @throws UncheckedIOException if the previous state was spilled and cannot be read back.
+     */
+    public ModelState undo() {
+        if (!hasUndo()) {
+            throw new IndexOutOfBoundsException();
+        }
+        currentStatePointer -= 1;
+        return load(currentStatePointer);
+    }
+
+    /**
+     * Moves to the next state and returns it.
+     *
+     * @throws IndexOutOfBoundsException if there is no next state.
+     * @throws UncheckedIOException if the next state was spilled and cannot be read back.
+     */
+    public ModelState redo() {
+        if (!hasRedo()) {
+            throw new IndexOutOfBoundsException();
+        }
+        currentStatePointer += 1;
+        return load(currentStatePointer);
+    }
+
+    public boolean hasUndo() {
+        return currentStatePointer - 1 >= 0;
+    }
+
+    public boolean hasRedo() {
+        return currentStatePointer + 1 < states.size();
+    }
+
+    /**
+     * Returns the number of states kept in memory.
+     */
+    public int getStatesInMemory() {
+        return statesInMemory;
+    }
+
+    /**
+     * Returns the estimated number of bytes of the states kept in memory.
+     */
+    public long getBytesInMemory() {
+        return bytesInMemory;
+    }
+
+    /**
+     * Returns the number of states spilled to the spill file.
+     */
+    public int getStatesSpilled() {
+        return statesSpilled;
+    }
+
+    /**
+     * Returns the number of bytes the spilled states take up in the spill file.
+     */
+    public long getBytesSpilled() {
+        return bytesSpilled;
+    }
+
+    /**
+     * Closes and deletes the spill file, once the history is no longer used. Spilled states cannot be read back
+     * afterwards.
+     */
+    public void close() {
+        try {
+            spillFile.close();
+        } catch (IOException ioe) {
+            logger.warning("Spill file of the undo history could not be deleted: " + ioe);
+        }
+    }
+
+    private void add(ModelState state) {
+        // a state that only changes the displayed list shares the address book of the previous state
+        Entry previous = states.isEmpty() ? null : states.get(states.size() - 1);
+        boolean isSharingAddressBook = previous != null && !previous.isSpilled()
+                && previous.state.getAddressBookState() == state.getAddressBookState();
+        Entry entry = new Entry(state, isSharingAddressBook ? 0 : estimateBytes(state));
+        states.add(entry);
+        statesInMemory += 1;
+        bytesInMemory += entry.estimatedBytes;
+    }
+
+    /**
+     * Removes all states ahead of the current state, and the copy of the current state relative to the next state.
+     */
+    private void removeAheadCurrent() {
+        while (states.size() > currentStatePointer + 1) {
+            Entry removed = states.remove(states.size() - 1);
+            if (removed.isSpilled()) {
+                statesSpilled -= 1;
+                bytesSpilled -= removed.getCopyLength();
+            } else {
+                statesInMemory -= 1;
+                bytesInMemory -= removed.estimatedBytes;
+            }
+            dropCopy(removed);
+        }
+        dropCopy(states.get(currentStatePointer));
+
+        assert currentStatePointer == states.size() - 1;
+    }
+
+    /**
+     * Spills the oldest states before the current state until the states in memory are within the budget.
+     */
+    private void enforceBudget() {
+        for (int i = 0; i < currentStatePointer && isOverBudget(); i++) {
+            Entry entry = states.get(i);
+            if (entry.isSpilled() || !(entry.state.getAddressBookState() instanceof AddressBookSnapshot)) {
+                continue;
+            }
+            if (!entry.hasCopy()) {
+                try {
+                    writeCopy(entry, read(i + 1).getAddressBookState());
+                } catch (IOException ioe) {
+                    logger.warning("Undo history kept in memory, as it could not be spilled: " + ioe);
+                    return;
+                }
+            }
+            entry.state = null;
+            statesInMemory -= 1;
+            bytesInMemory -= entry.estimatedBytes;
+            statesSpilled += 1;
+            bytesSpilled += entry.getCopyLength();
+        }
+    }
+
+    /**
+     * Writes the address book of {@code entry} to the spill file, relative to {@code nextAddressBook}, the address book
+     * of the next state.
+     */
+    private void writeCopy(Entry entry, ReadOnlyAddressBook nextAddressBook) throws IOException {
+        AddressBookSnapshot snapshot = (AddressBookSnapshot) entry.state.getAddressBookState();
+        if (snapshot == nextAddressBook) {
+            entry.isSameAddressBookAsNext = true;
+            return;
+        }
+
+        Optional<List<PersonListEdit>> undoEdits = nextAddressBook instanceof AddressBookSnapshot
+                ? getUndoEdits(snapshot, (AddressBookSnapshot) nextAddressBook)
+                : Optional.empty();
+        entry.spillRecord = undoEdits.isPresent()
+                ? spillFile.appendEdits(undoEdits.get())
+                : spillFile.appendSnapshot(snapshot);
+    }
+
+    /**
+     * Returns the edits that turn the persons of {@code next} back into the persons of {@code snapshot}, or an empty
+     * {@code Optional} if the edits from {@code snapshot} to {@code next} are not in the edit log of {@code next}.
+     */
+    private static Optional<List<PersonListEdit>> getUndoEdits(AddressBookSnapshot snapshot,
+            AddressBookSnapshot next) {
+        Optional<List<PersonListEdit>> edits = next.getEditLog().getEditsSince(snapshot.getEditLog());
+        if (edits.isEmpty()) {
+            return Optional.empty();
+        }
+
+        PersistentList<Person> persons = snapshot.getPersons();
+        List<PersonListEdit> undoEdits = new ArrayList<>(edits.get().size());
+        for (PersonListEdit edit : edits.get()) {
+            int index = edit.getIndex();
+            switch (edit.getType()) {
+            case SET:
+                undoEdits.add(PersonListEdit.set(index, persons.get(index)));
+                break;
+            case INSERT:
+                undoEdits.add(PersonListEdit.remove(index));
+                break;
+            default:
+                undoEdits.add(PersonListEdit.insert(index, persons.get(index)));
+            }
+            persons = edit.appliedTo(persons);
+        }
+        Collections.reverse(undoEdits);
+        return Optional.of(undoEdits);
+    }
+
+    private boolean isOverBudget() {
+        return statesInMemory > maxStatesInMemory || bytesInMemory > maxBytesInMemory;
+    }
+
+    /**
+     * Returns the state at {@code index}, reading it back into memory if it was spilled. Its copy in the spill file
+     * is kept, so that it can be spilled again without writing it.
+     */
+    private ModelState load(int index) {
+        Entry entry = states.get(index);
+        if (!entry.isSpilled()) {
+            return entry.state;
+        }
+
+        ModelState state = read(index);
+        entry.state = state;
+        statesSpilled -= 1;
+        bytesSpilled -= entry.getCopyLength();
+        statesInMemory += 1;
+        bytesInMemory += entry.estimatedBytes;
+        return state;
+    }
+
+    /**
+     * Returns the state at {@code index}, reading it from the spill file without keeping it in memory if spilled.
+     *
+     * @throws UncheckedIOException if the state was spilled and cannot be read back.
+     */
+    private ModelState read(int index) {
+        Entry entry = states.get(index);
+        if (!entry.isSpilled()) {
+            return entry.state;
+        }
+
+        // the current state is never spilled, so there is a state in memory after every spilled state
+        int next = index + 1;
+        while (states.get(next).isSpilled()) {
+            next++;
+        }
+        ReadOnlyAddressBook addressBook = states.get(next).state.getAddressBookState();
+        try {
+            for (int i = next - 1; i >= index; i--) {
+                addressBook = readCopy(states.get(i), addressBook);
+            }
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+        return new ModelState(addressBook, entry.predicate, entry.sortPrefixes);
+    }
+
+    /**
+     * Returns the address book of {@code entry} from its copy, relative to {@code nextAddressBook}, the address book
+     * of the next state.
+     */
+    private ReadOnlyAddressBook readCopy(Entry entry, ReadOnlyAddressBook nextAddressBook) throws IOException {
+        if (entry.isSameAddressBookAsNext) {
+            return nextAddressBook;
+        }
+        if (!entry.spillRecord.isEdits()) {
+            return spillFile.readSnapshot(entry.spillRecord);
+        }
+
+        List<PersonListEdit> undoEdits = spillFile.readEdits(entry.spillRecord);
+        PersistentList<Person> persons = ((AddressBookSnapshot) nextAddressBook).getPersons();
+        for (PersonListEdit edit : undoEdits) {
+            persons = edit.appliedTo(persons);
+        }
+        return new AddressBookSnapshot(persons, undoEdits.size(), PersonListEditLog.empty());
+    }
+
+    /**
+     * Discards the copy of {@code entry}, once the next state it is relative to is removed.
+     */
+    private void dropCopy(Entry entry) {
+        UndoHistorySpillFile.Record record = entry.spillRecord;
+        entry.spillRecord = null;
+        entry.isSameAddressBookAsNext = false;
+        if (record == null) {
+            return;
+        }
+
+        try {
+            spillFile.release(record);
+        } catch (IOException ioe) {
+            logger.warning("Spill file of the undo history could not be shrunk: " + ioe);
+        }
+    }
+
+    private static long estimateBytes(ModelState state) {
+        ReadOnlyAddressBook addressBook = state.getAddressBookState();
+        return addressBook instanceof AddressBookSnapshot
+                ? ((AddressBookSnapshot) addressBook).getEstimatedBytes()
+                : 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof UndoHistory)) {
+            return false;
+        }
+
+        UndoHistory otherHistory = (UndoHistory) other;
+        if (currentStatePointer != otherHistory.currentStatePointer || states.size() != otherHistory.states.size()) {
+            return false;
+        }
+        for (int i = 0; i < states.size(); i++) {
+            if (!read(i).equals(otherHistory.read(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(currentStatePointer, states.size());
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("currentStatePointer", currentStatePointer)
+                .add("statesInMemory", statesInMemory)
+                .add("bytesInMemory", bytesInMemory)
+                .add("statesSpilled", statesSpilled)
+                .add("bytesSpilled", bytesSpilled)
+                .toString();
+    }
+}
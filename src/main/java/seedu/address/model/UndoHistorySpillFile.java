@@ -0,0 +1,359 @@
+package seedu.address.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.NoteStore;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListEdit;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Pin;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A temporary file that holds the address books of undo history states that were moved out of memory.
+ * Each address book is compressed and appended to the file, either in full or as the edits that turn the address
+ * book of the next state back into it, and read back from its position in the file.
+ *
+ * The file is created when the first address book is written to it. Once most of it holds address books that were
+ * released, the rest is moved to the start of the file, and once every address book was released, or the undo history
+ * is closed, the file is closed and deleted. A note stored apart from its person is written as its key, and read back
+ * as a note of the same store.
+ */
+class UndoHistorySpillFile {
+
+    /** The length of the file below which released address books are not compacted away. */
+    static final long MIN_COMPACTED_LENGTH = 64 * 1024;
+
+    private final Set<Record> liveRecords = new HashSet<>();
+    /** The stores of the notes spilled as their keys, which the keys are written together with the index of. */
+    private final List<NoteStore> noteStores = new ArrayList<>();
+    private Path path;
+    private RandomAccessFile file;
+    private long length;
+    private long liveBytes;
+
+    /**
+     * The position of an address book in the file.
+     */
+    static class Record {
+        private final int length;
+        private final boolean isEdits;
+        private long offset;
+
+        private Record(long offset, int length, boolean isEdits) {
+            this.offset = offset;
+            this.length = length;
+            this.isEdits = isEdits;
+        }
+
+        /**
+         * Returns the number of bytes the address book takes up in the file.
+         */
+        int getLength() {
+            return length;
+        }
+
+        /**
+         * Returns true if the address book is held as the edits that turn the address book of the next state into it.
+         */
+        boolean isEdits() {
+            return isEdits;
+        }
+    }
+
+    /**
+     * Compresses the persons of {@code snapshot} and appends them to the file.
+     *
+     * @return the position of the persons in the file.
+     * @throws IOException if the file cannot be created or written.
+     */
+    Record appendSnapshot(AddressBookSnapshot snapshot) throws IOException {
+        return append(encodeSnapshot(snapshot.getPersons()), false);
+    }
+
+    /**
+     * Compresses {@code edits} and appends them to the file.
+     *
+     * @return the position of the edits in the file.
+     * @throws IOException if the file cannot be created or written.
+     */
+    Record appendEdits(List<PersonListEdit> edits) throws IOException {
+        return append(encodeEdits(edits), true);
+    }
+
+    /**
+     * Reads the address book held in full at {@code record} back from the file.
+     *
+     * @throws IOException if the file cannot be read.
+     */
+    AddressBookSnapshot readSnapshot(Record record) throws IOException {
+        assert !record.isEdits;
+        return new AddressBookSnapshot(decodeSnapshot(readBytes(record)));
+    }
+
+    /**
+     * Reads the edits at {@code record} back from the file.
+     *
+     * @throws IOException if the file cannot be read.
+     */
+    List<PersonListEdit> readEdits(Record record) throws IOException {
+        assert record.isEdits;
+        return decodeEdits(readBytes(record));
+    }
+
+    /**
+     * Discards the address book at {@code record}, which is no longer needed.
+     *
+     * @throws IOException if the file cannot be compacted or deleted.
+     */
+    void release(Record record) throws IOException {
+        if (!liveRecords.remove(record)) {
+            return;
+        }
+        liveBytes -= record.length;
+
+        if (liveRecords.isEmpty()) {
+            close();
+        } else if (length >= MIN_COMPACTED_LENGTH && liveBytes * 2 < length) {
+            compact();
+        }
+    }
+
+    /**
+     * Returns the length of the file, including the address books that were released but not compacted away yet.
+     */
+    long getLength() {
+        return length;
+    }
+
+    /**
+     * Closes and deletes the file, discarding every address book in it.
+     *
+     * @throws IOException if the file cannot be closed or deleted.
+     */
+    void close() throws IOException {
+        liveRecords.clear();
+        noteStores.clear();
+        liveBytes = 0;
+        length = 0;
+        if (file == null) {
+            return;
+        }
+
+        try {
+            file.close();
+        } finally {
+            file = null;
+            Files.deleteIfExists(path);
+        }
+    }
+
+    private Record append(byte[] bytes, boolean isEdits) throws IOException {
+        RandomAccessFile spillFile = open();
+        spillFile.seek(length);
+        spillFile.write(bytes);
+        Record record = new Record(length, bytes.length, isEdits);
+        length += bytes.length;
+        liveBytes += bytes.length;
+        liveRecords.add(record);
+        return record;
+    }
+
+    private byte[] readBytes(Record record) throws IOException {
+        byte[] bytes = new byte[record.length];
+        RandomAccessFile spillFile = open();
+        spillFile.seek(record.offset);
+        spillFile.readFully(bytes);
+        return bytes;
+    }
+
+    /**
+     * Moves the address books that are still needed to the start of the file, in the order they are in, and cuts off
+     * the rest of the file.
+     */
+    private void compact() throws IOException {
+        List<Record> records = new ArrayList<>(liveRecords);
+        records.sort(Comparator.comparingLong(record -> record.offset));
+        long end = 0;
+        for (Record record : records) {
+            if (record.offset != end) {
+                // the record only ever moves towards the start, so it never overwrites a record yet to be moved
+                byte[] bytes = readBytes(record);
+                file.seek(end);
+                file.write(bytes);
+                record.offset = end;
+            }
+            end += record.length;
+        }
+        file.setLength(end);
+        length = end;
+    }
+
+    private RandomAccessFile open() throws IOException {
+        if (path == null) {
+            // the same path is reused after the file is closed, so that it is only registered for deletion once
+            path = Files.createTempFile("addressbook-undo-history", ".spill");
+            path.toFile().deleteOnExit();
+        }
+        if (file == null) {
+            file = new RandomAccessFile(path.toFile(), "rw");
+        }
+        return file;
+    }
+
+    private byte[] encodeSnapshot(List<Person> persons) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(bytes))) {
+            out.writeInt(persons.size());
+            for (Person person : persons) {
+                writePerson(out, person);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private PersistentList<Person> decodeSnapshot(byte[] bytes) throws IOException {
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(bytes)))) {
+            int size = in.readInt();
+            List<Person> persons = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                persons.add(readPerson(in));
+            }
+            return PersistentList.copyOf(persons);
+        }
+    }
+
+    private byte[] encodeEdits(List<PersonListEdit> edits) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(bytes))) {
+            out.writeInt(edits.size());
+            for (PersonListEdit edit : edits) {
+                out.writeByte(edit.getType().ordinal());
+                out.writeInt(edit.getIndex());
+                if (edit.getType() != PersonListEdit.Type.REMOVE) {
+                    writePerson(out, edit.getPerson());
+                }
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private List<PersonListEdit> decodeEdits(byte[] bytes) throws IOException {
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(bytes)))) {
+            int size = in.readInt();
+            List<PersonListEdit> edits = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                PersonListEdit.Type type = PersonListEdit.Type.values()[in.readByte()];
+                int index = in.readInt();
+                switch (type) {
+                case SET:
+                    edits.add(PersonListEdit.set(index, readPerson(in)));
+                    break;
+                case INSERT:
+                    edits.add(PersonListEdit.insert(index, readPerson(in)));
+                    break;
+                default:
+                    edits.add(PersonListEdit.remove(index));
+                }
+            }
+            return edits;
+        }
+    }
+
+    private void writePerson(DataOutputStream out, Person person) throws IOException {
+        writeString(out, person.getName().fullName);
+        writeString(out, person.getPhone().value);
+        writeString(out, person.getEmail().value);
+        writeString(out, person.getAddress().value);
+        writeNote(out, person.getNote());
+        out.writeBoolean(person.getPin().isPinned());
+        out.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            writeString(out, tag.tagName);
+        }
+    }
+
+    private Person readPerson(DataInputStream in) throws IOException {
+        Name name = new Name(readString(in));
+        Phone phone = new Phone(readString(in));
+        Email email = new Email(readString(in));
+        Address address = new Address(readString(in));
+        Note note = readNote(in);
+        Pin pin = new Pin(in.readBoolean());
+        int tagCount = in.readInt();
+        Set<Tag> tags = new HashSet<>();
+        for (int j = 0; j < tagCount; j++) {
+            tags.add(new Tag(readString(in)));
+        }
+        return new Person(name, phone, email, address, note, tags, pin);
+    }
+
+    /**
+     * Writes the text of {@code note}, or only its key if it is stored apart from its person, so that its text is not
+     * loaded to be spilled, and it is loaded from the same store once read back.
+     */
+    private void writeNote(DataOutputStream out, Note note) throws IOException {
+        out.writeBoolean(note.isStored());
+        if (!note.isStored()) {
+            writeString(out, note.getValue());
+            return;
+        }
+
+        int storeIndex = indexOfIdentical(noteStores, note.getStore());
+        if (storeIndex < 0) {
+            storeIndex = noteStores.size();
+            noteStores.add(note.getStore());
+        }
+        out.writeInt(storeIndex);
+        writeString(out, note.getKey());
+    }
+
+    private Note readNote(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return new Note(readString(in));
+        }
+        NoteStore store = noteStores.get(in.readInt());
+        return Note.ofStored(readString(in), store);
+    }
+
+    private static int indexOfIdentical(List<?> list, Object element) {
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) == element) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
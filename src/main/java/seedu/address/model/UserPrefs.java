@@ -1,9 +1,11 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
@@ -13,8 +15,32 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_PARALLEL_SORT_THRESHOLD = 10000;
+    public static final String MESSAGE_PARALLEL_SORT_THRESHOLD_CONSTRAINTS =
+            "The parallel sort threshold should not be negative.";
+    public static final int DEFAULT_PARALLEL_LOAD_THRESHOLD = 10000;
+    public static final String MESSAGE_PARALLEL_LOAD_THRESHOLD_CONSTRAINTS =
+            "The parallel load threshold should not be negative.";
+    public static final int DEFAULT_MASS_OPS_LIMIT = 100000;
+    /** Bounds the persons a single mass operation may hold in memory at once. */
+    public static final int MAX_MASS_OPS_LIMIT = 10000000;
+    public static final String MESSAGE_MASS_OPS_LIMIT_CONSTRAINTS =
+            "The mass operations limit should be a positive integer that is at most " + MAX_MASS_OPS_LIMIT + ".";
+    public static final int DEFAULT_UNDO_HISTORY_MAX_STATES = 100;
+    public static final long DEFAULT_UNDO_HISTORY_MAX_BYTES = 64L * 1024 * 1024;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private int parallelSortThreshold = DEFAULT_PARALLEL_SORT_THRESHOLD;
+    private int parallelLoadThreshold = DEFAULT_PARALLEL_LOAD_THRESHOLD;
+    private int massOpsLimit = DEFAULT_MASS_OPS_LIMIT;
+    private int undoHistoryMaxStates = DEFAULT_UNDO_HISTORY_MAX_STATES;
+    private long undoHistoryMaxBytes = DEFAULT_UNDO_HISTORY_MAX_BYTES;
+    private boolean compactAddressBookFile = false;
+    private boolean compressedAddressBookFile = false;
+    private boolean binaryAddressBookCache = false;
+    private boolean segmentedAddressBook = false;
+    private List<String> sortPrefixes = List.of();
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +62,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setParallelSortThreshold(newUserPrefs.getParallelSortThreshold());
+        setParallelLoadThreshold(newUserPrefs.getParallelLoadThreshold());
+        setMassOpsLimit(newUserPrefs.getMassOpsLimit());
+        setUndoHistoryBudget(newUserPrefs.getUndoHistoryMaxStates(), newUserPrefs.getUndoHistoryMaxBytes());
+        setCompactAddressBookFile(newUserPrefs.isCompactAddressBookFile());
+        setCompressedAddressBookFile(newUserPrefs.isCompressedAddressBookFile());
+        setBinaryAddressBookCache(newUserPrefs.isBinaryAddressBookCache());
+        setSegmentedAddressBook(newUserPrefs.isSegmentedAddressBook());
+        setSortPrefixes(newUserPrefs.getSortPrefixes());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +91,92 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public int getParallelSortThreshold() {
+        return parallelSortThreshold;
+    }
+
+    public void setParallelSortThreshold(int parallelSortThreshold) {
+        checkArgument(parallelSortThreshold >= 0, MESSAGE_PARALLEL_SORT_THRESHOLD_CONSTRAINTS);
+        this.parallelSortThreshold = parallelSortThreshold;
+    }
+
+    public int getParallelLoadThreshold() {
+        return parallelLoadThreshold;
+    }
+
+    public void setParallelLoadThreshold(int parallelLoadThreshold) {
+        checkArgument(parallelLoadThreshold >= 0, MESSAGE_PARALLEL_LOAD_THRESHOLD_CONSTRAINTS);
+        this.parallelLoadThreshold = parallelLoadThreshold;
+    }
+
+    public int getMassOpsLimit() {
+        return massOpsLimit;
+    }
+
+    public void setMassOpsLimit(int massOpsLimit) {
+        checkArgument(massOpsLimit > 0 && massOpsLimit <= MAX_MASS_OPS_LIMIT, MESSAGE_MASS_OPS_LIMIT_CONSTRAINTS);
+        this.massOpsLimit = massOpsLimit;
+    }
+
+    public int getUndoHistoryMaxStates() {
+        return undoHistoryMaxStates;
+    }
+
+    public long getUndoHistoryMaxBytes() {
+        return undoHistoryMaxBytes;
+    }
+
+    /**
+     * Sets the maximum number of states, and the maximum estimated number of bytes of states, that the undo history
+     * keeps in memory.
+     */
+    public void setUndoHistoryBudget(int maxStates, long maxBytes) {
+        checkArgument(maxStates >= 1 && maxBytes >= 0, UndoHistory.MESSAGE_BUDGET_CONSTRAINTS);
+        this.undoHistoryMaxStates = maxStates;
+        this.undoHistoryMaxBytes = maxBytes;
+    }
+
+    public boolean isCompactAddressBookFile() {
+        return compactAddressBookFile;
+    }
+
+    public void setCompactAddressBookFile(boolean compactAddressBookFile) {
+        this.compactAddressBookFile = compactAddressBookFile;
+    }
+
+    public boolean isCompressedAddressBookFile() {
+        return compressedAddressBookFile;
+    }
+
+    public void setCompressedAddressBookFile(boolean compressedAddressBookFile) {
+        this.compressedAddressBookFile = compressedAddressBookFile;
+    }
+
+    public boolean isBinaryAddressBookCache() {
+        return binaryAddressBookCache;
+    }
+
+    public void setBinaryAddressBookCache(boolean binaryAddressBookCache) {
+        this.binaryAddressBookCache = binaryAddressBookCache;
+    }
+
+    public boolean isSegmentedAddressBook() {
+        return segmentedAddressBook;
+    }
+
+    public void setSegmentedAddressBook(boolean segmentedAddressBook) {
+        this.segmentedAddressBook = segmentedAddressBook;
+    }
+
+    public List<String> getSortPrefixes() {
+        return sortPrefixes;
+    }
+
+    public void setSortPrefixes(List<String> sortPrefixes) {
+        requireNonNull(sortPrefixes);
+        this.sortPrefixes = List.copyOf(sortPrefixes);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +190,24 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && parallelSortThreshold == otherUserPrefs.parallelSortThreshold
+                && parallelLoadThreshold == otherUserPrefs.parallelLoadThreshold
+                && massOpsLimit == otherUserPrefs.massOpsLimit
+                && undoHistoryMaxStates == otherUserPrefs.undoHistoryMaxStates
+                && undoHistoryMaxBytes == otherUserPrefs.undoHistoryMaxBytes
+                && compactAddressBookFile == otherUserPrefs.compactAddressBookFile
+                && compressedAddressBookFile == otherUserPrefs.compressedAddressBookFile
+                && binaryAddressBookCache == otherUserPrefs.binaryAddressBookCache
+                && segmentedAddressBook == otherUserPrefs.segmentedAddressBook
+                && sortPrefixes.equals(otherUserPrefs.sortPrefixes);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, parallelSortThreshold, parallelLoadThreshold,
+                massOpsLimit, undoHistoryMaxStates, undoHistoryMaxBytes, compactAddressBookFile,
+                compressedAddressBookFile, binaryAddressBookCache, segmentedAddressBook, sortPrefixes);
     }
 
     @Override
@@ -82,6 +215,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nParallel sort threshold : " + parallelSortThreshold);
+        sb.append("\nParallel load threshold : " + parallelLoadThreshold);
+        sb.append("\nMass operations limit : " + massOpsLimit);
+        sb.append("\nUndo history budget : " + undoHistoryMaxStates + " states, " + undoHistoryMaxBytes + " bytes");
+        sb.append("\nCompact data file : " + compactAddressBookFile);
+        sb.append("\nCompressed data file : " + compressedAddressBookFile);
+        sb.append("\nBinary data file copy : " + binaryAddressBookCache);
+        sb.append("\nSegmented data files : " + segmentedAddressBook);
+        sb.append("\nSort prefixes : " + sortPrefixes);
         return sb.toString();
     }
 
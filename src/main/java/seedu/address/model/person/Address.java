@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -25,17 +27,38 @@ public class Address {
      * @param address A valid address.
      */
     public Address(String address) {
+        this(address, false);
+    }
+
+    private Address(String address, boolean isTrusted) {
         requireNonNull(address);
-        String trimmedAddress = address.trim().replaceAll("\\s+", " ");
-        checkArgument(isValidAddress(trimmedAddress), MESSAGE_CONSTRAINTS);
+        String trimmedAddress = isTrusted ? address : StringUtil.collapseWhitespace(address);
+        checkArgument(isTrusted || isValidAddress(trimmedAddress), MESSAGE_CONSTRAINTS);
         value = trimmedAddress;
     }
 
+    /**
+     * Returns an {@code Address} of {@code address} without normalizing or validating it, for an address that is known
+     * to be valid, such as one saved by this application and read back unchanged.
+     */
+    public static Address ofTrusted(String address) {
+        return new Address(address, true);
+    }
+
     /**
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // a character other than whitespace, followed by anything but a line break, as VALIDATION_REGEX matches
+        if (test.isEmpty() || StringUtil.isWhitespace(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            if (StringUtil.isLineTerminator(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
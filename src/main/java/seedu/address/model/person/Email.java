@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -34,22 +36,93 @@ public class Email {
 
     public final String value;
 
+    private final String identityKey;
+
     /**
      * Constructs an {@code Email}.
      *
      * @param email A valid email address.
      */
     public Email(String email) {
+        this(email, false);
+    }
+
+    private Email(String email, boolean isTrusted) {
         requireNonNull(email);
-        checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
+        checkArgument(isTrusted || isValidEmail(email), MESSAGE_CONSTRAINTS);
         value = email;
+        identityKey = email.toLowerCase();
     }
 
     /**
-     * Returns if a given string is a valid email.
+     * Returns an {@code Email} of {@code email} without validating it, for an email that is known to be valid, such
+     * as one saved by this application and read back unchanged.
+     */
+    public static Email ofTrusted(String email) {
+        return new Email(email, true);
+    }
+
+    /**
+     * Returns if a given string is a valid email. The string is scanned once, in the same way as
+     * {@link #VALIDATION_REGEX} matches it.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int at = test.indexOf('@');
+        return at >= 0 && isValidLocalPart(test, at) && isValidDomain(test, at + 1);
+    }
+
+    /**
+     * Returns true if the characters of {@code test} before {@code end} are runs of alphanumeric characters, each
+     * run separated from the next by one special character.
+     */
+    private static boolean isValidLocalPart(String test, int end) {
+        boolean isAfterAlphanumeric = false;
+        for (int i = 0; i < end; i++) {
+            char c = test.charAt(i);
+            if (StringUtil.isAsciiAlphanumeric(c)) {
+                isAfterAlphanumeric = true;
+            } else if (isAfterAlphanumeric && SPECIAL_CHARACTERS.indexOf(c) >= 0) {
+                isAfterAlphanumeric = false;
+            } else {
+                return false;
+            }
+        }
+        return isAfterAlphanumeric;
+    }
+
+    /**
+     * Returns true if the characters of {@code test} from {@code start} are domain labels separated by periods, each
+     * of which is made up of runs of alphanumeric characters separated by single hyphens. The last label has to
+     * consist of at least two labels one after another, which is to say that one of its runs is at least two
+     * characters long.
+     */
+    private static boolean isValidDomain(String test, int start) {
+        boolean isAfterAlphanumeric = false;
+        int runLength = 0;
+        boolean hasLongRun = false;
+        for (int i = start; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (StringUtil.isAsciiAlphanumeric(c)) {
+                isAfterAlphanumeric = true;
+                runLength++;
+                hasLongRun = hasLongRun || runLength >= 2;
+            } else if (isAfterAlphanumeric && (c == '-' || c == '.')) {
+                isAfterAlphanumeric = false;
+                runLength = 0;
+                hasLongRun = hasLongRun && c == '-';
+            } else {
+                return false;
+            }
+        }
+        return isAfterAlphanumeric && hasLongRun;
+    }
+
+    /**
+     * Returns the case-insensitive key that identifies this email.
+     * Two emails are equal if and only if their identity keys are equal.
+     */
+    public String getIdentityKey() {
+        return identityKey;
     }
 
     @Override
@@ -69,12 +142,12 @@ public class Email {
         }
 
         Email otherEmail = (Email) other;
-        return value.toLowerCase().equals(otherEmail.value.toLowerCase());
+        return identityKey.equals(otherEmail.identityKey);
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return identityKey.hashCode();
     }
 
 }
@@ -1,8 +1,14 @@
 package seedu.address.model.person;
 
-import java.math.BigInteger;
+import static java.util.Objects.requireNonNull;
+
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
@@ -10,12 +16,24 @@ import javafx.collections.transformation.SortedList;
 /**
  * Represents a filtered and sorted list of Persons, provides methods to filter and sort a list of persons
  * based on various attributes.
+ *
+ * The list is a single filter-then-sort view of its source list that is meant to be kept for as long as the source
+ * list, so that filtering and sorting only ever involve the persons in view. Sorting uses the same sort order as
+ * {@link UniquePersonList#sortBy(String...)}, with the sort keys of the persons in view computed once and dropped when
+ * the persons leave the view. Once at least {@code parallelSortThreshold} persons are in view, their sort keys are
+ * computed in parallel before the list is sorted.
  */
 public class FilteredPersonList {
 
-    private FilteredList<Person> filteredList;
+    private final FilteredList<Person> filteredList;
+
+    private final SortedList<Person> sortedList;
+
+    private final Map<Person, PersonSortKey> sortKeys = new IdentityHashMap<>();
+
+    private final int parallelSortThreshold;
 
-    private SortedList<Person> sortedList;
+    private List<String> sortPrefixes = List.of();
 
     /**
      * Initializes a FilteredPersonList with the given source list of persons.
@@ -23,8 +41,20 @@ public class FilteredPersonList {
      * @param source The source list of persons to be filtered and sorted.
      */
     public FilteredPersonList(ObservableList<Person> source) {
+        this(source, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Initializes a FilteredPersonList with the given source list of persons, which computes the sort keys of the
+     * persons in view in parallel once there are at least {@code parallelSortThreshold} of them.
+     */
+    public FilteredPersonList(ObservableList<Person> source, int parallelSortThreshold) {
+        this.parallelSortThreshold = parallelSortThreshold;
         this.filteredList = new FilteredList<>(source);
         this.sortedList = new SortedList<>(filteredList);
+
+        // Registered after the sorted list's own listener, so that the sorted list is done with the removed persons
+        filteredList.addListener(this::evictSortKeys);
     }
 
     /**
@@ -37,140 +67,74 @@ public class FilteredPersonList {
     }
 
     /**
-     * Sorts the list of persons based on the specified prefix such as name, phone number, email address, address, tags.
-     *
-     * @param prefixes The prefix indicates the sorting criteria.
+     * Filters the list with {@code predicate}. The sort order of the list is kept.
      */
-    public void sortByFilteredList(String... prefixes) {
-        if (prefixes.length == 1) {
-            sortBySinglePrefix(prefixes[0]);
-        } else if (prefixes.length == 2 && prefixes[0].equals("t/")) {
-            sortByTagsCombination(prefixes[1]);
-        } else if (prefixes.length > 2) {
-            throw new IllegalArgumentException("Invalid number of prefixes.");
-        } else {
-            throw new IllegalArgumentException("Invalid combination of prefixes.");
-        }
+    public void setPredicate(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        filteredList.setPredicate(predicate);
     }
 
     /**
-     * Sorts the list based on a single prefix.
-     *
-     * @param prefix The prefix indicating the sorting criteria.
-     * @throws IllegalArgumentException If the provided prefix is invalid or unrecognized.
+     * Returns the prefixes that the list is sorted by, or an empty list if the list is in the order of its source.
      */
-    private void sortBySinglePrefix(String prefix) {
-        switch (prefix) {
-        case "t/":
-            sortByTags();
-            break;
-        case "n/":
-            sortByName();
-            break;
-        case "p/":
-            sortByPhoneNumber();
-            break;
-        case "e/":
-            sortByEmailAddress();
-            break;
-        case "a/":
-            sortByAddress();
-            break;
-        default:
-            throw new IllegalArgumentException("Invalid sort prefix.");
-        }
+    public List<String> getSortPrefixes() {
+        return sortPrefixes;
     }
 
     /**
-     * Sorts the list by a specified attribute within the tag grouping. The first prefix is "t/" to indicate
-     * sorting by tags, and the second prefix indicates the attribute to sort within each tag group.
+     * Sorts the list of persons based on the specified prefix such as name, phone number, email address, address, tags.
+     * The list stays sorted as its source list changes, until it is sorted differently.
      *
-     * @param secondPrefix The second prefix indicating the sorting criteria within the tags.
-     * @throws IllegalArgumentException If the combination of prefixes is invalid or unrecognized.
+     * @param prefixes The prefix indicates the sorting criteria.
      */
-    private void sortByTagsCombination(String secondPrefix) {
-        switch (secondPrefix) {
-        case "n/":
-            sortByNameWithinTagsFiltered();
-            break;
-        case "p/":
-            sortByPhoneNumberWithinTagsFiltered();
-            break;
-        case "e/":
-            sortByEmailAddressWithinTagsFiltered();
-            break;
-        case "a/":
-            sortByAddressWithinTagsFiltered();
-            break;
-        default:
-            throw new IllegalArgumentException("Invalid combination of prefixes.");
+    public void sortByFilteredList(String... prefixes) {
+        Comparator<PersonSortKey> sortOrder = PersonSortKey.sortOrderFor(prefixes);
+        sortKeys.clear();
+        if (filteredList.size() >= parallelSortThreshold) {
+            PersonSortKey[] keys = PersonSortKey.ofAll(filteredList, true);
+            for (PersonSortKey key : keys) {
+                sortKeys.put(key.getPerson(), key);
+            }
         }
+        sortPrefixes = List.of(prefixes);
+        sortedList.setComparator((first, second) -> sortOrder.compare(sortKeyOf(first), sortKeyOf(second)));
     }
 
     /**
-     * Sort the list by name.
-     */
-    public void sortByName() {
-        sortedList.setComparator(Comparator.comparing(p -> p.getName().toString()));
-    }
-
-    /**
-     * Sort the list by phone number.
+     * Sorts the list by {@code prefixes} as in {@link #sortByFilteredList(String...)}, or restores the order of the
+     * source list if {@code prefixes} is empty. Does nothing if the list is already sorted by {@code prefixes}.
      */
-    public void sortByPhoneNumber() {
-        sortedList.setComparator(Comparator.comparing(p -> new BigInteger(p.getPhone().toString())));
-    }
-
-    /**
-     * Sort the list by email address.
-     */
-    public void sortByEmailAddress() {
-        sortedList.setComparator(Comparator.comparing(p -> p.getEmail().toString()));
-    }
-
-    /**
-     * Sort the list by address.
-     */
-    public void sortByAddress() {
-        sortedList.setComparator(Comparator.comparing(p -> p.getAddress().toString()));
-    }
-
-    /**
-     * Sort the list by tags.
-     */
-    public void sortByTags() {
-        sortedList.setComparator(Comparator.comparing(p -> p.getTags().toString()));
-    }
+    public void setSortPrefixes(List<String> prefixes) {
+        requireNonNull(prefixes);
+        if (prefixes.equals(sortPrefixes)) {
+            return;
+        }
 
-    /**
-     * Sort the list first by tags, then by name within each tag group.
-     */
-    private void sortByNameWithinTagsFiltered() {
-        sortedList.setComparator(Comparator.comparing((Person p) -> p.getTags().toString())
-                .thenComparing(p -> p.getName().toString()));
+        if (prefixes.isEmpty()) {
+            sortPrefixes = List.of();
+            sortedList.setComparator(null);
+            sortKeys.clear();
+        } else {
+            sortByFilteredList(prefixes.toArray(new String[0]));
+        }
     }
 
-    /**
-     * Sort the list first by tags, then by phone number within each tag group.
-     */
-    private void sortByPhoneNumberWithinTagsFiltered() {
-        sortedList.setComparator(Comparator.comparing((Person p) -> p.getTags().toString())
-                .thenComparing(p -> new BigInteger(p.getPhone().toString())));
+    private PersonSortKey sortKeyOf(Person person) {
+        return sortKeys.computeIfAbsent(person, PersonSortKey::of);
     }
 
     /**
-     * Sort the list first by tags, then by email address within each tag group.
+     * Drops the sort keys of the persons that left the view.
      */
-    private void sortByEmailAddressWithinTagsFiltered() {
-        sortedList.setComparator(Comparator.comparing((Person p) -> p.getTags().toString())
-                .thenComparing(p -> p.getEmail().toString()));
-    }
+    private void evictSortKeys(ListChangeListener.Change<? extends Person> change) {
+        if (sortKeys.isEmpty()) {
+            return;
+        }
 
-    /**
-     * Sort the list first by tags, then by address within each tag group.
-     */
-    private void sortByAddressWithinTagsFiltered() {
-        sortedList.setComparator(Comparator.comparing((Person p) -> p.getTags().toString())
-                .thenComparing(p -> p.getAddress().toString()));
+        while (change.next()) {
+            for (Person removed : change.getRemoved()) {
+                sortKeys.remove(removed);
+            }
+        }
     }
 }
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -26,17 +28,38 @@ public class Name {
      * @param name A valid name.
      */
     public Name(String name) {
+        this(name, false);
+    }
+
+    private Name(String name, boolean isTrusted) {
         requireNonNull(name);
-        String trimmedName = name.trim().replaceAll("\\s+", " ");
-        checkArgument(isValidName(trimmedName), MESSAGE_CONSTRAINTS);
+        String trimmedName = isTrusted ? name : StringUtil.collapseWhitespace(name);
+        checkArgument(isTrusted || isValidName(trimmedName), MESSAGE_CONSTRAINTS);
         fullName = trimmedName;
     }
 
+    /**
+     * Returns a {@code Name} of {@code name} without normalizing or validating it, for a name that is known to be
+     * valid, such as one saved by this application and read back unchanged.
+     */
+    public static Name ofTrusted(String name) {
+        return new Name(name, true);
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // a character other than whitespace, followed by anything but a line break, as VALIDATION_REGEX matches
+        if (test.isEmpty() || StringUtil.isWhitespace(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            if (StringUtil.isLineTerminator(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
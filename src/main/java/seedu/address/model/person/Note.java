@@ -2,9 +2,20 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
 /**
  * Represents a Person's note in the address book.
  * Guarantees: immutable
+ *
+ * A note either holds its text, or only the key of its text in a {@link NoteStore}, from which the text is loaded
+ * whenever it is needed. Notes are equal if their texts are, which is decided by their keys unless both hold their
+ * texts. Only notes of at least {@link #MIN_STORED_LENGTH} characters are ever stored, so shorter notes are hashed
+ * by their texts, and only longer notes, which need their keys to be stored anyway, by their keys.
  */
 public class Note {
 
@@ -14,7 +25,19 @@ public class Note {
 
     public static final String DEFAULT_NOTE_VALUE = "";
 
-    public final String value;
+    /** The length from which the text of a note is kept in a {@link NoteStore} rather than with its person. */
+    public static final int MIN_STORED_LENGTH = 256;
+
+    public static final String MESSAGE_KEY_CONSTRAINTS = "Note keys should be SHA-256 digests in lowercase hex";
+
+    private static final String KEY_VALIDATION_REGEX = "[0-9a-f]{64}";
+
+    /** The text of the note, or null if it is only in {@link #store}. */
+    private final String value;
+    /** The store of the text, or null if the note holds its text. */
+    private final NoteStore store;
+    /** The key of the text, computed when first needed if the note holds its text. */
+    private String key;
 
     /**
      * Constructs a {@code Note}.
@@ -24,6 +47,74 @@ public class Note {
     public Note(String note) {
         requireNonNull(note);
         value = note;
+        store = null;
+    }
+
+    private Note(String key, NoteStore store) {
+        this.value = null;
+        this.store = store;
+        this.key = key;
+    }
+
+    /**
+     * Returns a {@code Note} of the text with {@code key} in {@code store}, which is not loaded until needed.
+     */
+    public static Note ofStored(String key, NoteStore store) {
+        requireNonNull(key);
+        requireNonNull(store);
+        return new Note(key, store);
+    }
+
+    /**
+     * Returns the key under which a note with {@code text} is stored: the SHA-256 digest of its UTF-8 bytes in hex.
+     */
+    public static String keyOf(String text) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("SHA-256 is supported by every Java platform", e);
+        }
+    }
+
+    /**
+     * Returns true if {@code key} is in the form of the keys returned by {@link #keyOf(String)}.
+     */
+    public static boolean isValidKey(String key) {
+        return key.matches(KEY_VALIDATION_REGEX);
+    }
+
+    /**
+     * Returns the text of the note, loading it from its store if the note does not hold it.
+     *
+     * @throws UncheckedIOException if the text cannot be loaded.
+     */
+    public String getValue() {
+        return value != null ? value : store.load(key);
+    }
+
+    /**
+     * Returns the key of the text of the note.
+     */
+    public String getKey() {
+        if (key == null) {
+            key = keyOf(value);
+        }
+        return key;
+    }
+
+    /**
+     * Returns the store that the note loads its text from, or null if the note holds its text.
+     */
+    public NoteStore getStore() {
+        return store;
+    }
+
+    /**
+     * Returns true if the note does not hold its text, but loads it from a store.
+     */
+    public boolean isStored() {
+        return store != null;
     }
 
     /**
@@ -31,7 +122,7 @@ public class Note {
      * which means its string value only consists of white spaces or is empty.
      */
     public boolean isBlank() {
-        return value.isBlank();
+        return getValue().isBlank();
     }
 
     @Override
@@ -41,7 +132,7 @@ public class Note {
             return BLANK_NOTE_VALUE;
         }
 
-        return value;
+        return getValue();
     }
 
     @Override
@@ -56,12 +147,18 @@ public class Note {
         }
 
         Note otherNote = (Note) other;
-        return value.equals(otherNote.value);
+        if (value != null && otherNote.value != null) {
+            return value.equals(otherNote.value);
+        }
+        return getKey().equals(otherNote.getKey());
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        if (value != null && value.length() < MIN_STORED_LENGTH) {
+            return value.hashCode();
+        }
+        return getKey().hashCode();
     }
 
     public static Note createDefaultNote() {
@@ -0,0 +1,16 @@
+package seedu.address.model.person;
+
+import java.io.UncheckedIOException;
+
+/**
+ * A store of note texts kept apart from the persons they belong to, each under the key of its text.
+ */
+public interface NoteStore {
+
+    /**
+     * Returns the text of the note with {@code key}.
+     *
+     * @throws UncheckedIOException if the note is not in the store or cannot be read.
+     */
+    String load(String key);
+}
@@ -0,0 +1,136 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * An edit of a single position of a list of persons: a person set at, inserted at or removed from an index.
+ * Guarantees: immutable.
+ */
+public class PersonListEdit {
+
+    /**
+     * The kinds of edits.
+     */
+    public enum Type {
+        SET, INSERT, REMOVE
+    }
+
+    private final Type type;
+    private final int index;
+    private final Person person;
+
+    private PersonListEdit(Type type, int index, Person person) {
+        this.type = type;
+        this.index = index;
+        this.person = person;
+    }
+
+    /**
+     * Returns an edit that replaces the person at {@code index} with {@code person}.
+     */
+    public static PersonListEdit set(int index, Person person) {
+        requireNonNull(person);
+        return new PersonListEdit(Type.SET, index, person);
+    }
+
+    /**
+     * Returns an edit that inserts {@code person} at {@code index}.
+     */
+    public static PersonListEdit insert(int index, Person person) {
+        requireNonNull(person);
+        return new PersonListEdit(Type.INSERT, index, person);
+    }
+
+    /**
+     * Returns an edit that removes the person at {@code index}.
+     */
+    public static PersonListEdit remove(int index) {
+        return new PersonListEdit(Type.REMOVE, index, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the person set or inserted by the edit, or null if the edit removes a person.
+     */
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Applies the edit to {@code persons}.
+     *
+     * @throws IndexOutOfBoundsException if the index of the edit is out of the bounds of {@code persons}.
+     */
+    public void applyTo(List<Person> persons) {
+        switch (type) {
+        case SET:
+            persons.set(index, person);
+            break;
+        case INSERT:
+            persons.add(index, person);
+            break;
+        default:
+            persons.remove(index);
+        }
+    }
+
+    /**
+     * Returns {@code persons} with the edit applied, leaving {@code persons} unchanged.
+     *
+     * @throws IndexOutOfBoundsException if the index of the edit is out of the bounds of {@code persons}.
+     */
+    public PersistentList<Person> appliedTo(PersistentList<Person> persons) {
+        switch (type) {
+        case SET:
+            return persons.with(index, person);
+        case INSERT:
+            return persons.plus(index, person);
+        default:
+            return persons.minus(index);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonListEdit)) {
+            return false;
+        }
+
+        PersonListEdit otherEdit = (PersonListEdit) other;
+        return type == otherEdit.type
+                && index == otherEdit.index
+                && Objects.equals(person, otherEdit.person);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, index, person);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", type)
+                .add("index", index)
+                .add("person", person)
+                .toString();
+    }
+}
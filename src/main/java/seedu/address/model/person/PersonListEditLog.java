@@ -0,0 +1,88 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The latest edits made to a list of persons, up to a maximum number of edits.
+ * Guarantees: immutable; appending an edit returns a new log that shares the edits of this log.
+ *
+ * Each edit has a position in the sequence of all edits made to the list. Changes to the list that are not recorded
+ * as edits, such as a sort, reset the log, so that the edits before them can no longer be followed up with the
+ * edits after them.
+ */
+public class PersonListEditLog {
+
+    /** The maximum number of edits kept, beyond which the oldest edits are dropped. */
+    public static final int MAX_SIZE = 1024;
+
+    /** Identifies the list whose edits are logged, as positions of different lists cannot be compared. */
+    private final Object origin;
+    /** The position of the first edit in the log. */
+    private final long start;
+    private final PersistentList<PersonListEdit> edits;
+
+    private PersonListEditLog(Object origin, long start, PersistentList<PersonListEdit> edits) {
+        this.origin = origin;
+        this.start = start;
+        this.edits = edits;
+    }
+
+    /**
+     * Returns an empty log of a new list, whose edits cannot follow up any other log.
+     */
+    public static PersonListEditLog empty() {
+        return new PersonListEditLog(new Object(), 0, PersistentList.empty());
+    }
+
+    /**
+     * Returns this log with {@code edit} appended, dropping the oldest edit if the log is full.
+     */
+    public PersonListEditLog append(PersonListEdit edit) {
+        requireNonNull(edit);
+        if (edits.size() < MAX_SIZE) {
+            return new PersonListEditLog(origin, start, edits.plus(edits.size(), edit));
+        }
+        return new PersonListEditLog(origin, start + 1, edits.minus(0).plus(MAX_SIZE - 1, edit));
+    }
+
+    /**
+     * Returns an empty log that follows this log after a change which was not recorded as edits.
+     */
+    public PersonListEditLog reset() {
+        return new PersonListEditLog(origin, getEnd() + 1, PersistentList.empty());
+    }
+
+    /**
+     * Returns the position after the last edit in the log.
+     */
+    public long getEnd() {
+        return start + edits.size();
+    }
+
+    /**
+     * Returns the edits that turn the list as it was at {@code earlier} into the list as it is at this log, or an
+     * empty {@code Optional} if {@code earlier} is a log of another list, or some of those edits are not in this log.
+     */
+    public Optional<List<PersonListEdit>> getEditsSince(PersonListEditLog earlier) {
+        requireNonNull(earlier);
+        long earlierEnd = earlier.getEnd();
+        if (earlier.origin != origin || earlierEnd < start || earlierEnd > getEnd()) {
+            return Optional.empty();
+        }
+        return Optional.of(edits.subList((int) (earlierEnd - start), edits.size()));
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("start", start)
+                .add("end", getEnd())
+                .toString();
+    }
+}
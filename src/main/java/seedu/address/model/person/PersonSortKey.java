@@ -0,0 +1,226 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * The sort keys of a {@code Person}, computed once per person so that sorting compares only primitives and strings.
+ *
+ * Names and addresses are compared by their values, emails by their case-insensitive identity keys and phone numbers
+ * numerically. Tags are compared by the person's tag names in sorted order, so the result does not depend on set
+ * iteration order; persons without tags are ordered after persons with tags.
+ */
+public final class PersonSortKey {
+
+    /** Orders pinned persons before unpinned persons. */
+    public static final Comparator<PersonSortKey> PINNED_FIRST = (first, second) ->
+            Boolean.compare(second.isPinned, first.isPinned);
+
+    /** Separates tag names in the tag key. It sorts before every character allowed in a tag name. */
+    private static final char TAG_SEPARATOR = '\u0000';
+
+    private static final Comparator<PersonSortKey> BY_NAME = Comparator.comparing(key -> key.name);
+    private static final Comparator<PersonSortKey> BY_PHONE = Comparator.comparingLong(key -> key.phone);
+    private static final Comparator<PersonSortKey> BY_EMAIL = Comparator.comparing(key -> key.email);
+    private static final Comparator<PersonSortKey> BY_ADDRESS = Comparator.comparing(key -> key.address);
+    private static final Comparator<PersonSortKey> BY_TAGS = Comparator.comparing(PersonSortKey::getTagKey,
+            PersonSortKey::compareTagKeys);
+
+    /** The tag key of persons without tags. Tag names are never empty, so no other tag key is empty. */
+    private static final String NO_TAGS = "";
+
+    private final Person person;
+    private final boolean isPinned;
+    private final String name;
+    private final long phone;
+    private final String email;
+    private final String address;
+    private String tagKey;
+
+    private PersonSortKey(Person person) {
+        this.person = person;
+        isPinned = person.getPin().isPinned();
+        name = person.getName().fullName;
+        phone = Long.parseLong(person.getPhone().value);
+        email = person.getEmail().getIdentityKey();
+        address = person.getAddress().value;
+    }
+
+    /**
+     * Computes the sort keys of {@code person}.
+     */
+    public static PersonSortKey of(Person person) {
+        requireNonNull(person);
+        return new PersonSortKey(person);
+    }
+
+    /**
+     * Computes the sort keys of each of {@code persons}, in the order of {@code persons}. If {@code isParallel} is
+     * true, the sort keys are computed with the common fork-join pool.
+     */
+    public static PersonSortKey[] ofAll(List<Person> persons, boolean isParallel) {
+        Person[] snapshot = persons.toArray(new Person[0]);
+        PersonSortKey[] keys = new PersonSortKey[snapshot.length];
+        if (isParallel) {
+            Arrays.parallelSetAll(keys, i -> new PersonSortKey(snapshot[i]));
+        } else {
+            Arrays.setAll(keys, i -> new PersonSortKey(snapshot[i]));
+        }
+        return keys;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Returns the comparator for the sort criteria given by {@code prefixes}: either a single prefix among name,
+     * phone number, email address, address and tags, or the tags prefix followed by one of the other prefixes to sort
+     * within each tag group.
+     *
+     * @throws IllegalArgumentException If the prefixes are invalid or form an invalid combination.
+     */
+    public static Comparator<PersonSortKey> comparatorFor(String... prefixes) {
+        if (prefixes.length == 1) {
+            return singlePrefixComparator(prefixes[0]);
+        } else if (prefixes.length == 2 && prefixes[0].equals("t/")) {
+            return withinTagsComparator(prefixes[1]);
+        } else if (prefixes.length > 2) {
+            throw new IllegalArgumentException("Invalid number of prefixes.");
+        } else {
+            throw new IllegalArgumentException("Invalid combination of prefixes.");
+        }
+    }
+
+    /**
+     * Returns the order in which the persons of an address book are sorted by {@code prefixes}: pinned persons first,
+     * then by the sort criteria given by {@code prefixes} as in {@link #comparatorFor(String...)}.
+     *
+     * @throws IllegalArgumentException If the prefixes are invalid or form an invalid combination.
+     */
+    public static Comparator<PersonSortKey> sortOrderFor(String... prefixes) {
+        return PINNED_FIRST.thenComparing(comparatorFor(prefixes));
+    }
+
+    /**
+     * Returns a stable sort of {@code persons} by {@code comparator}.
+     * Each person's sort keys are computed once before sorting and discarded afterwards.
+     */
+    public static Person[] sort(List<Person> persons, Comparator<PersonSortKey> comparator) {
+        return sort(persons, comparator, false);
+    }
+
+    /**
+     * Returns a stable sort of {@code persons} by {@code comparator}, which is the same as that of
+     * {@link #sort(List, Comparator)}. If {@code isParallel} is true, the sort keys are computed and sorted with
+     * the common fork-join pool.
+     */
+    public static Person[] sort(List<Person> persons, Comparator<PersonSortKey> comparator, boolean isParallel) {
+        PersonSortKey[] keys = ofAll(persons, isParallel);
+        if (isParallel) {
+            Arrays.parallelSort(keys, comparator);
+        } else {
+            Arrays.sort(keys, comparator);
+        }
+
+        Person[] sorted = new Person[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            sorted[i] = keys[i].person;
+        }
+        return sorted;
+    }
+
+    /**
+     * Returns the comparator for a single prefix.
+     *
+     * @throws IllegalArgumentException If the provided prefix is invalid or unrecognized.
+     */
+    private static Comparator<PersonSortKey> singlePrefixComparator(String prefix) {
+        if (prefix.equals("t/")) {
+            return BY_TAGS;
+        }
+
+        Comparator<PersonSortKey> comparator = attributeComparator(prefix);
+        if (comparator == null) {
+            throw new IllegalArgumentException("Invalid sort prefix.");
+        }
+        return comparator;
+    }
+
+    /**
+     * Returns the comparator for sorting within each tag group by the attribute given by {@code secondPrefix}.
+     *
+     * @throws IllegalArgumentException If the combination of prefixes is invalid or unrecognized.
+     */
+    private static Comparator<PersonSortKey> withinTagsComparator(String secondPrefix) {
+        Comparator<PersonSortKey> comparator = attributeComparator(secondPrefix);
+        if (comparator == null) {
+            throw new IllegalArgumentException("Invalid combination of prefixes.");
+        }
+        return BY_TAGS.thenComparing(comparator);
+    }
+
+    /**
+     * Returns the comparator for the attribute given by {@code prefix}, or null if it is not a sortable attribute.
+     */
+    private static Comparator<PersonSortKey> attributeComparator(String prefix) {
+        switch (prefix) {
+        case "n/":
+            return BY_NAME;
+        case "p/":
+            return BY_PHONE;
+        case "e/":
+            return BY_EMAIL;
+        case "a/":
+            return BY_ADDRESS;
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Returns the tag names of the person in sorted order and joined by {@link #TAG_SEPARATOR},
+     * or {@link #NO_TAGS} if the person has no tags.
+     *
+     * The tag key is only computed when first needed, as it is the most expensive key and only used by tag sorts.
+     * Concurrent sorts may compute it more than once, but always to an equal, safely published string.
+     */
+    private String getTagKey() {
+        String key = tagKey;
+        if (key == null) {
+            key = toTagKey(person.getTags());
+            tagKey = key;
+        }
+        return key;
+    }
+
+    /**
+     * Compares tag keys in natural order, except that persons without tags are ordered last.
+     */
+    private static int compareTagKeys(String first, String second) {
+        if (first.isEmpty() || second.isEmpty()) {
+            return Boolean.compare(first.isEmpty(), second.isEmpty());
+        }
+        return first.compareTo(second);
+    }
+
+    private static String toTagKey(Set<Tag> tags) {
+        if (tags.isEmpty()) {
+            return NO_TAGS;
+        }
+
+        String[] tagNames = new String[tags.size()];
+        int i = 0;
+        for (Tag tag : tags) {
+            tagNames[i++] = tag.tagName;
+        }
+        Arrays.sort(tagNames);
+        return String.join(String.valueOf(TAG_SEPARATOR), tagNames);
+    }
+}
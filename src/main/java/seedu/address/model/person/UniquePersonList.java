@@ -3,13 +3,21 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -20,22 +28,55 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Identity checks are backed by a hash index of the persons' email identity keys, which is kept in sync with the
+ * backing list by every mutating operation, so that {@link #contains(Person)} runs in constant time.
+ *
+ * The list also keeps an exact count of its pinned persons. While the list is partitioned, i.e. every pinned person
+ * appears before every unpinned person, the first {@code pinnedCount} persons form the pinned segment, which lets pin
+ * maintenance work on that segment alone instead of the whole list.
+ *
+ * Small changes to the list are also applied to a {@link PersistentList} copy of it, in O(log n) time per changed
+ * person, so that {@link #asPersistentList()} can hand out immutable versions of the list that share every unchanged
+ * part with each other. Larger changes, such as sorting, leave that copy to be rebuilt when it is next asked for.
+ * The same small changes are recorded as {@link PersonListEdit}s in a {@link PersonListEditLog}, from which storage
+ * can save just what changed.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
+    /** Changes to more persons than this rebuild the persistent copy of the list instead of updating it. */
+    private static final int MAX_TRACKED_CHANGE_SIZE = 64;
+
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private Set<String> emailIndex = new HashSet<>();
+    private int pinnedCount = 0;
+    /** The persons in the list, or null if it is to be rebuilt from the list. */
+    private PersistentList<Person> persistentPersons = PersistentList.empty();
+    /** The number of changes to the list so far. */
+    private long modificationCount = 0;
+    /** The number of persons written into the persistent copy of the list so far, a measure of its memory use. */
+    private long persistentWriteCount = 0;
+    /** The latest small changes to the list, as single-person edits. */
+    private PersonListEditLog editLog = PersonListEditLog.empty();
+
+    /**
+     * Creates an empty list.
+     */
+    public UniquePersonList() {
+        internalList.addListener(this::trackChanges);
+    }
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return emailIndex.contains(identityKeyOf(toCheck));
     }
 
     /**
@@ -48,6 +89,8 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        emailIndex.add(identityKeyOf(toAdd));
+        pinnedCount += pinWeightOf(toAdd);
     }
 
     /**
@@ -67,7 +110,10 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person replacedPerson = internalList.set(index, editedPerson);
+        emailIndex.remove(identityKeyOf(replacedPerson));
+        emailIndex.add(identityKeyOf(editedPerson));
+        pinnedCount += pinWeightOf(editedPerson) - pinWeightOf(replacedPerson);
     }
 
     /**
@@ -79,24 +125,110 @@ public class UniquePersonList implements Iterable<Person> {
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        emailIndex.remove(identityKeyOf(toRemove));
+        pinnedCount -= pinWeightOf(toRemove);
+    }
+
+    /**
+     * Removes the equivalent persons of {@code toRemove} from the list.
+     * Every person must exist in the list.
+     *
+     * The list is compacted in a single pass and publishes a single change, however many persons are removed.
+     */
+    public void removeAll(Collection<Person> toRemove) {
+        requireAllNonNull(toRemove);
+
+        Map<String, Person> removals = new HashMap<>();
+        for (Person person : toRemove) {
+            removals.put(identityKeyOf(person), person);
+        }
+        if (removals.isEmpty()) {
+            return;
+        }
+
+        List<Person> kept = new ArrayList<>(Math.max(internalList.size() - removals.size(), 0));
+        int removedPinnedCount = 0;
+        for (Person person : internalList) {
+            Person removal = removals.get(identityKeyOf(person));
+            if (removal != null && removal.equals(person)) {
+                removedPinnedCount += pinWeightOf(person);
+            } else {
+                kept.add(person);
+            }
+        }
+
+        if (internalList.size() - kept.size() != removals.size()) {
+            throw new PersonNotFoundException();
+        }
+
+        internalList.setAll(kept);
+        emailIndex.removeAll(removals.keySet());
+        pinnedCount -= removedPinnedCount;
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        emailIndex.clear();
+        emailIndex.addAll(replacement.emailIndex);
+        pinnedCount = replacement.pinnedCount;
+        persistentPersons = replacement.persistentPersons;
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     *
+     * @throws DuplicatePersonException listing every duplicated email if {@code persons} contains duplicates.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        Set<String> newEmailIndex = createUniqueEmailIndex(persons);
 
         internalList.setAll(persons);
+        emailIndex = newEmailIndex;
+        pinnedCount = countPinned(persons);
+        if (persons instanceof PersistentList) {
+            persistentPersons = (PersistentList<Person>) persons;
+        }
+    }
+
+    /**
+     * Returns the persons in the list as an immutable list, which shares every part of it that is unchanged with the
+     * lists previously returned. This takes O(1) time unless the list had a large change since it was last called.
+     */
+    public PersistentList<Person> asPersistentList() {
+        if (persistentPersons == null) {
+            persistentPersons = PersistentList.copyOf(internalList);
+            persistentWriteCount += internalList.size();
+        }
+        return persistentPersons;
+    }
+
+    /**
+     * Returns the number of changes to the list so far, which stays the same for as long as the list is unchanged.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns the number of persons written into the lists returned by {@link #asPersistentList()} so far, counting
+     * every person of a list that was rebuilt. The difference between two counts estimates how much of the later list
+     * is not shared with the earlier one.
+     */
+    public long getPersistentWriteCount() {
+        return persistentWriteCount;
+    }
+
+    /**
+     * Returns the log of the latest edits to the list, which are recorded for small changes as they are made.
+     */
+    public PersonListEditLog getEditLog() {
+        return editLog;
     }
 
     /**
@@ -109,6 +241,9 @@ public class UniquePersonList implements Iterable<Person> {
     /**
      * Pins the person in the list, ensuring they always appear as the first element.
      * The person must exist in the list.
+     *
+     * The person is moved to the front of the list by removing and inserting it, which are recorded as two edits in
+     * the edit log, so that the rest of the list is left as it is.
      */
     public void pinPerson(Person toPin) {
         requireNonNull(toPin);
@@ -118,38 +253,73 @@ public class UniquePersonList implements Iterable<Person> {
             throw new PersonNotFoundException();
         }
 
-        // Remove and reinsert at the first position
-        internalList.remove(index);
-        internalList.add(0, toPin);
+        move(index, 0);
     }
 
     /**
      * Unpins the person in the list if they were previously pinned.
      * The person must exist in the list.
+     *
+     * The person is expected to have already been replaced by its unpinned version, so if every pinned person lies
+     * within the pinned segment, only that segment is reordered. Otherwise, the whole list is reordered as in
+     * {@link #prioritisePins()}.
      */
     public void unpinPerson(Person toUnpin) {
         requireNonNull(toUnpin);
 
-        int index = internalList.indexOf(toUnpin);
-        if (index == -1) {
+        int segmentEnd = Math.min(pinnedCount + 1, internalList.size());
+        List<Person> segment = internalList.subList(0, segmentEnd);
+        if (!segment.contains(toUnpin) && !internalList.contains(toUnpin)) {
             throw new PersonNotFoundException();
         }
-        prioritisePins();
+
+        if (countPinned(segment) != pinnedCount) {
+            prioritisePins();
+            return;
+        }
+
+        // The segment holds every pinned person and at most one unpinned person, which belongs at the segment's end
+        for (int i = 0; i < segmentEnd; i++) {
+            if (!internalList.get(i).getPin().isPinned()) {
+                move(i, segmentEnd - 1);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Moves the person at index {@code from} to index {@code to}, shifting the persons in between by one.
+     * The move is a removal and an insertion of a single person, which stay within the changes recorded in the edit
+     * log and applied to the persistent copy of the list, however far the person moves.
+     */
+    private void move(int from, int to) {
+        if (from == to) {
+            return;
+        }
+
+        Person person = internalList.remove(from);
+        internalList.add(to, person);
     }
 
     /**
      * Moves all the pinned people to the top of the list, retaining the sort order among the pinned people.
+     * The list is partitioned in a single pass and, if its order changes, updated with a single change.
      */
     public void prioritisePins() {
-        int pinnedIndex = 0;
-        for (int i = 0; i < internalUnmodifiableList.size(); i++) {
-            Person person = internalUnmodifiableList.get(i);
-            if (person.getPin().isPinned()) {
-                int index = internalList.indexOf(person);
-                internalList.remove(index);
-                internalList.add(pinnedIndex, person);
-                pinnedIndex++;
-            }
+        Person[] partitioned = new Person[internalList.size()];
+        int nextPinned = 0;
+        int nextUnpinned = pinnedCount;
+        boolean isReordered = false;
+        for (int i = 0; i < partitioned.length; i++) {
+            Person person = internalList.get(i);
+            int target = person.getPin().isPinned() ? nextPinned++ : nextUnpinned++;
+            partitioned[target] = person;
+            isReordered |= target != i;
+        }
+
+        assert nextPinned == pinnedCount && nextUnpinned == partitioned.length;
+        if (isReordered) {
+            internalList.setAll(partitioned);
         }
     }
 
@@ -185,163 +355,116 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Counts {@code change}, records it in the edit log and applies it to the persistent copy of the list, or resets
+     * the log and drops that copy if it is large.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private void trackChanges(ListChangeListener.Change<? extends Person> change) {
+        modificationCount += 1;
+        PersistentList<Person> tracked = persistentPersons;
+        PersonListEditLog log = editLog;
+        while (change.next()) {
+            if (change.wasPermutated()
+                    || change.getRemovedSize() + change.getAddedSize() > MAX_TRACKED_CHANGE_SIZE) {
+                tracked = null;
+                log = log.reset();
+                break;
             }
-        }
-        return true;
-    }
-
-    /**
-     * Sorts the list of persons based on the specified prefix such as name, phone number, email address, address, tags.
-     *
-     * @param prefixes The prefix indicates the sorting criteria.
-     */
-    public void sortBy(String... prefixes) {
-        if (prefixes.length == 1) {
-            sortSinglePrefix(prefixes[0]);
-        } else if (prefixes.length == 2 && prefixes[0].equals("t/")) {
-            sortWithinTags(prefixes[1]);
-        } else if (prefixes.length > 2) {
-            throw new IllegalArgumentException("Invalid number of prefixes.");
-        } else {
-            throw new IllegalArgumentException("Invalid combination of prefixes.");
-        }
-    }
-
-    /**
-     * Sorts the list based on a single prefix.
-     *
-     * @param prefix The prefix indicating the sorting criteria.
-     * @throws IllegalArgumentException If the provided prefix is invalid or unrecognized.
-     */
-    private void sortSinglePrefix(String prefix) {
-        switch (prefix) {
-        case "t/":
-            sortByTags();
-            break;
-        case "n/":
-            sortByName();
-            break;
-        case "p/":
-            sortByPhoneNumber();
-            break;
-        case "e/":
-            sortByEmailAddress();
-            break;
-        case "a/":
-            sortByAddress();
-            break;
-        default:
-            throw new IllegalArgumentException("Invalid sort prefix.");
-        }
-    }
 
-    /**
-     * Sorts the list by a specified attribute within the tag grouping. The first prefix is "t/" to indicate
-     * sorting by tags, and the second prefix indicates the attribute to sort within each tag group.
-     *
-     * @param secondPrefix The second prefix indicating the sorting criteria within the tags.
-     * @throws IllegalArgumentException If the combination of prefixes is invalid or unrecognized.
-     */
-    private void sortWithinTags(String secondPrefix) {
-        switch (secondPrefix) {
-        case "n/":
-            sortByNameWithinTags();
-            break;
-        case "p/":
-            sortByPhoneNumberWithinTags();
-            break;
-        case "e/":
-            sortByEmailAddressWithinTags();
-            break;
-        case "a/":
-            sortByAddressWithinTags();
-            break;
-        default:
-            throw new IllegalArgumentException("Invalid combination of prefixes.");
+            int from = change.getFrom();
+            List<? extends Person> added = change.getAddedSubList();
+            if (tracked != null) {
+                persistentWriteCount += Math.max(change.getRemovedSize(), added.size());
+            }
+            int replacedSize = Math.min(change.getRemovedSize(), added.size());
+            List<PersonListEdit> edits = new ArrayList<>();
+            for (int i = 0; i < replacedSize; i++) {
+                edits.add(PersonListEdit.set(from + i, added.get(i)));
+            }
+            for (int i = replacedSize; i < change.getRemovedSize(); i++) {
+                edits.add(PersonListEdit.remove(from + replacedSize));
+            }
+            for (int i = replacedSize; i < added.size(); i++) {
+                edits.add(PersonListEdit.insert(from + i, added.get(i)));
+            }
+            for (PersonListEdit edit : edits) {
+                tracked = tracked == null ? null : edit.appliedTo(tracked);
+                log = log.append(edit);
+            }
         }
+        persistentPersons = tracked;
+        editLog = log;
     }
 
     /**
-     * Sort the list by name.
-     */
-    private void sortByName() {
-        internalList.sort(Comparator.comparing(p -> p.getName().toString()));
-        prioritisePins();
-    }
-
-    /**
-     * Sort the list by phone number.
+     * Returns the key under which {@code person} is stored in the email index.
      */
-    private void sortByPhoneNumber() {
-        internalList.sort(Comparator.comparing(p -> new BigInteger(p.getPhone().toString())));
-        prioritisePins();
+    private static String identityKeyOf(Person person) {
+        return person.getEmail().getIdentityKey();
     }
 
     /**
-     * Sort the list by email address.
+     * Returns 1 if {@code person} is pinned, and 0 otherwise.
      */
-    private void sortByEmailAddress() {
-        internalList.sort(Comparator.comparing(p -> p.getEmail().toString()));
-        prioritisePins();
+    private static int pinWeightOf(Person person) {
+        return person.getPin().isPinned() ? 1 : 0;
     }
 
     /**
-     * Sort the list by address.
+     * Returns the number of pinned persons in {@code persons}.
      */
-    private void sortByAddress() {
-        internalList.sort(Comparator.comparing(p -> p.getAddress().toString()));
-        prioritisePins();
-    }
-
-    /**
-     * Sort the list by tags.
-     */
-    private void sortByTags() {
-        internalList.sort(Comparator.comparing(p -> p.getTags().toString()));
-        prioritisePins();
+    private static int countPinned(List<Person> persons) {
+        int count = 0;
+        for (Person person : persons) {
+            count += pinWeightOf(person);
+        }
+        return count;
     }
 
     /**
-     * Sort the list first by tags, then by name within each tag group.
+     * Returns the email index of {@code persons}, validating in a single pass that they are unique.
+     *
+     * @throws DuplicatePersonException listing every duplicated email, in order of first duplication,
+     *     if {@code persons} contains duplicates.
      */
-    private void sortByNameWithinTags() {
-        internalList.sort(Comparator.comparing((Person p) -> p.getTags().toString())
-                .thenComparing(p -> p.getName().toString()));
-        prioritisePins();
-    }
+    private static Set<String> createUniqueEmailIndex(List<Person> persons) {
+        Set<String> index = new HashSet<>();
+        Map<String, String> duplicateEmails = new LinkedHashMap<>();
+        for (Person person : persons) {
+            String key = identityKeyOf(person);
+            if (!index.add(key)) {
+                duplicateEmails.putIfAbsent(key, person.getEmail().value);
+            }
+        }
 
-    /**
-     * Sort the list first by tags, then by phone number within each tag group.
-     */
-    private void sortByPhoneNumberWithinTags() {
-        internalList.sort(Comparator.comparing((Person p) -> p.getTags().toString())
-                .thenComparing(p -> new BigInteger(p.getPhone().toString())));
-        prioritisePins();
+        if (!duplicateEmails.isEmpty()) {
+            throw new DuplicatePersonException(List.copyOf(duplicateEmails.values()));
+        }
+        return index;
     }
 
     /**
-     * Sort the list first by tags, then by email address within each tag group.
+     * Sorts the list of persons based on the specified prefix such as name, phone number, email address, address, tags.
+     * Pinned persons stay at the top of the list, retaining the sort order among the pinned persons.
+     *
+     * The sort keys of each person are computed once before sorting, and the sorted list is installed with a single
+     * change.
+     *
+     * @param prefixes The prefix indicates the sorting criteria.
      */
-    private void sortByEmailAddressWithinTags() {
-        internalList.sort(Comparator.comparing((Person p) -> p.getTags().toString())
-                .thenComparing(p -> p.getEmail().toString()));
-        prioritisePins();
+    public void sortBy(String... prefixes) {
+        sortBy(Integer.MAX_VALUE, prefixes);
     }
 
     /**
-     * Sort the list first by tags, then by address within each tag group.
+     * Sorts the list of persons as in {@link #sortBy(String...)}, in parallel if the list has at least
+     * {@code parallelSortThreshold} persons. Both ways of sorting give the same order.
+     *
+     * @param parallelSortThreshold The minimum number of persons for which the list is sorted in parallel.
+     * @param prefixes The prefix indicates the sorting criteria.
      */
-    private void sortByAddressWithinTags() {
-        internalList.sort(Comparator.comparing((Person p) -> p.getTags().toString())
-                .thenComparing(p -> p.getAddress().toString()));
-        prioritisePins();
+    public void sortBy(int parallelSortThreshold, String... prefixes) {
+        Comparator<PersonSortKey> comparator = PersonSortKey.sortOrderFor(prefixes);
+        boolean isParallel = internalList.size() >= parallelSortThreshold;
+        internalList.setAll(PersonSortKey.sort(internalList, comparator, isParallel));
     }
 }
@@ -1,11 +1,38 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+
+    private final List<String> duplicateEmails;
+
+    /**
+     * Creates an exception that does not report which emails are duplicated.
+     */
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
+        duplicateEmails = Collections.emptyList();
+    }
+
+    /**
+     * Creates an exception reporting every email that is shared by more than one person.
+     *
+     * @param duplicateEmails the duplicated emails, each listed once.
+     */
+    public DuplicatePersonException(List<String> duplicateEmails) {
+        super("Operation would result in duplicate persons with email(s): " + String.join(", ", duplicateEmails));
+        this.duplicateEmails = List.copyOf(duplicateEmails);
+    }
+
+    /**
+     * Returns the duplicated emails, or an empty list if they were not reported.
+     */
+    public List<String> getDuplicateEmails() {
+        return duplicateEmails;
     }
 }
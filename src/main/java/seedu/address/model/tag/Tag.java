@@ -3,6 +3,8 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -20,17 +22,39 @@ public class Tag {
      * @param tagName A valid tag name.
      */
     public Tag(String tagName) {
+        this(tagName, false);
+    }
+
+    private Tag(String tagName, boolean isTrusted) {
         requireNonNull(tagName);
-        String trimmedTagName = tagName.trim().replaceAll("\\s+", " ");
-        checkArgument(isValidTagName(trimmedTagName), MESSAGE_CONSTRAINTS);
+        String trimmedTagName = isTrusted ? tagName : StringUtil.collapseWhitespace(tagName);
+        checkArgument(isTrusted || isValidTagName(trimmedTagName), MESSAGE_CONSTRAINTS);
         this.tagName = trimmedTagName;
     }
 
+    /**
+     * Returns a {@code Tag} of {@code tagName} without normalizing or validating it, for a tag name that is known to be
+     * valid, such as one saved by this application and read back unchanged.
+     */
+    public static Tag ofTrusted(String tagName) {
+        return new Tag(tagName, true);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // one or more letters, digits or spaces, as VALIDATION_REGEX matches
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !StringUtil.isAsciiAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -0,0 +1,89 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Converts an address book file from JSON to the binary format of {@link BinaryAddressBookStorage}, or from binary
+ * to JSON. The format of the source file is detected from its first bytes.
+ *
+ * A binary file converted from a JSON file records the checksum of the JSON file, so converting
+ * {@code addressbook.json} to {@code addressbook.json.bin} creates the copy that
+ * {@link BinaryCachedAddressBookStorage} reads on the next start. For the same reason, the journal of a JSON file is
+ * not applied to the binary file, but replayed on top of it when it is read as that copy.
+ */
+public class AddressBookFileConverter {
+
+    public static final String MESSAGE_USAGE = "Usage: AddressBookFileConverter SOURCE TARGET\n"
+            + "Converts the JSON address book file SOURCE to binary, or the binary file SOURCE to JSON, into TARGET.";
+    public static final String MESSAGE_SUCCESS = "Converted %1$s to %2$s (%3$s, %4$d persons).";
+
+    private AddressBookFileConverter() {}
+
+    /**
+     * Converts the address book file given by the first argument into the file given by the second.
+     */
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        Path source = Paths.get(args[0]);
+        Path target = Paths.get(args[1]);
+        try {
+            boolean isBinary = isBinaryFile(source);
+            AddressBook addressBook = convert(source, target);
+            System.out.println(String.format(MESSAGE_SUCCESS, source, target, isBinary ? "JSON" : "binary",
+                    addressBook.getPersonList().size()));
+        } catch (IOException | IllegalValueException e) {
+            System.err.println("Cannot convert " + source + ": " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} is in the binary format.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return BinaryAddressBookReader.isBinaryAddressBook(ByteBuffer.wrap(in.readNBytes(Integer.BYTES)));
+        }
+    }
+
+    /**
+     * Converts the address book file at {@code source} to the other format into {@code target}, and returns the
+     * address book converted.
+     *
+     * @throws IOException if {@code source} cannot be read, or {@code target} cannot be written.
+     * @throws IllegalValueException if the address book in {@code source} is invalid.
+     */
+    public static AddressBook convert(Path source, Path target) throws IOException, IllegalValueException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        if (isBinaryFile(source)) {
+            AddressBook addressBook = new BinaryAddressBookReader(FileUtil.mapFile(source))
+                    .read(UserPrefs.DEFAULT_PARALLEL_LOAD_THRESHOLD, null);
+            new JsonAddressBookStorage(target).saveAddressBook(addressBook);
+            return addressBook;
+        }
+
+        JournalingAddressBookStorage.DataFile dataFile = new JournalingAddressBookStorage(source).readDataFile(source);
+        FileUtil.createIfMissing(target);
+        FileUtil.writeToFile(target, out ->
+                BinaryAddressBookWriter.write(dataFile.getAddressBook(), out, dataFile.getChecksum()));
+        return dataFile.getAddressBook();
+    }
+}
@@ -0,0 +1,195 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * A journal file of records appended after a data file, each of which is checked against its own checksum.
+ *
+ * The journal starts with the checksum of the data file it follows up, so that a journal left behind by a data file
+ * that has since been rewritten is not read as following up the new data file. Together with the checksum, it records
+ * the {@link JsonAdaptedPerson#SCHEMA_VERSION} the data file was saved under, so that a data file that is unchanged
+ * since it was saved under the current version can be read without validating its persons again. A journal that
+ * does not record the version, as journals did before, is still read. A record that was only partly
+ * written, such as when the application stopped in the middle of appending it, fails its checksum, and is ignored
+ * together with anything after it.
+ */
+class AddressBookJournal {
+
+    /** Marks the start of a journal file, "ABJS" in ASCII. */
+    private static final int MAGIC = 0x41424a53;
+    /** Marks the start of a journal file that does not record the schema version of its data file. */
+    private static final int MAGIC_WITHOUT_SCHEMA_VERSION = 0x41424a4c;
+    /** The size of the magic number, the schema version and the checksum of the data file. */
+    private static final int HEADER_SIZE = Integer.BYTES + Integer.BYTES + Long.BYTES;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    /** The size of the length and the checksum that precede each record. */
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES + Integer.BYTES;
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookJournal.class);
+
+    private final Path path;
+
+    AddressBookJournal(Path path) {
+        this.path = path;
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    /**
+     * Returns the checksum of {@code bytes}, with which the journal of a data file of those bytes starts.
+     */
+    static long checksumOf(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+
+    /**
+     * Returns the checksum of the bytes of {@code file}, with which the journal of the data file {@code file} starts.
+     */
+    static long checksumOf(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            for (int length = in.read(buffer); length >= 0; length = in.read(buffer)) {
+                crc.update(buffer, 0, length);
+            }
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Discards every record, and starts the journal as following up a data file with checksum {@code dataChecksum},
+     * saved under the current schema version.
+     */
+    void restart(long dataChecksum) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(MAGIC).putInt(JsonAdaptedPerson.SCHEMA_VERSION).putLong(dataChecksum);
+        Files.write(path, header.array());
+    }
+
+    /**
+     * Returns the checksum of the data file the journal follows up if the data file was saved under the current
+     * schema version, or an empty {@code OptionalLong} if it was not, or there is no journal.
+     */
+    OptionalLong readTrustedDataChecksum() throws IOException {
+        if (!Files.exists(path)) {
+            return OptionalLong.empty();
+        }
+
+        ByteBuffer header;
+        try (InputStream in = Files.newInputStream(path)) {
+            header = ByteBuffer.wrap(in.readNBytes(HEADER_SIZE));
+        }
+        if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC
+                || header.getInt() != JsonAdaptedPerson.SCHEMA_VERSION) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(header.getLong());
+    }
+
+    /**
+     * Returns the number of bytes that appending {@code records} adds to the journal.
+     */
+    static long sizeOf(List<byte[]> records) {
+        long size = 0;
+        for (byte[] record : records) {
+            size += RECORD_HEADER_SIZE + record.length;
+        }
+        return size;
+    }
+
+    /**
+     * Appends {@code records} to the journal.
+     *
+     * @return the number of bytes appended.
+     */
+    long append(List<byte[]> records) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (byte[] record : records) {
+            out.writeInt(record.length);
+            out.writeInt((int) checksumOf(record));
+            out.write(record);
+        }
+
+        try (OutputStream file = Files.newOutputStream(path, StandardOpenOption.APPEND)) {
+            bytes.writeTo(file);
+        }
+        return bytes.size();
+    }
+
+    /**
+     * Returns the intact records of the journal, or an empty list if there is no journal that follows up a data file
+     * with checksum {@code dataChecksum}.
+     */
+    List<byte[]> read(long dataChecksum) throws IOException {
+        List<byte[]> records = new ArrayList<>();
+        if (!Files.exists(path)) {
+            return records;
+        }
+
+        ByteBuffer journal = ByteBuffer.wrap(Files.readAllBytes(path));
+        if (!readHeader(journal, dataChecksum)) {
+            logger.info("Journal " + path + " does not follow up its data file and is ignored.");
+            return records;
+        }
+
+        int intactEnd = journal.position();
+        while (journal.remaining() >= RECORD_HEADER_SIZE) {
+            int length = journal.getInt();
+            int checksum = journal.getInt();
+            if (length < 0 || length > journal.remaining()) {
+                break;
+            }
+            byte[] record = new byte[length];
+            journal.get(record);
+            if ((int) checksumOf(record) != checksum) {
+                break;
+            }
+            records.add(record);
+            intactEnd = journal.position();
+        }
+
+        if (intactEnd < journal.limit()) {
+            logger.warning("Journal " + path + " ends with a torn record after " + records.size()
+                    + " intact records, which is ignored.");
+        }
+        return records;
+    }
+
+    /**
+     * Reads the header at the start of {@code journal}, with or without the schema version, and returns true if it is
+     * the header of a journal that follows up a data file with checksum {@code dataChecksum}.
+     */
+    private static boolean readHeader(ByteBuffer journal, long dataChecksum) {
+        if (journal.remaining() < Integer.BYTES) {
+            return false;
+        }
+        int magic = journal.getInt();
+        if (magic == MAGIC && journal.remaining() >= Integer.BYTES + Long.BYTES) {
+            // the schema version does not matter to the records
+            journal.getInt();
+            return journal.getLong() == dataChecksum;
+        }
+        return magic == MAGIC_WITHOUT_SCHEMA_VERSION && journal.remaining() >= Long.BYTES
+                && journal.getLong() == dataChecksum;
+    }
+}
@@ -0,0 +1,316 @@
+package seedu.address.storage;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.NoteStore;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Reads an address book written by {@link BinaryAddressBookWriter} from a buffer, typically a file mapped into
+ * memory, decoding each field straight from the buffer without copying the file into the heap. Each person is
+ * validated in the same way as one read from JSON, unless the file was written under the current
+ * {@link JsonAdaptedPerson#SCHEMA_VERSION}, as the checksum of the file tells that it was not changed since.
+ *
+ * The checksum of the whole buffer is checked before any person is decoded. As the records are length-prefixed,
+ * they are then located in one pass over their lengths, and decoded in chunks of {@link #CHUNK_SIZE}, in parallel
+ * with the common fork-join pool if there are at least as many as the parallel threshold. The chunks are joined in
+ * the order of the records, so the persons and any errors come out in the same order as from a sequential read.
+ * Notes stored apart from their persons are loaded from the note file of the address book when needed.
+ */
+class BinaryAddressBookReader {
+
+    public static final String MESSAGE_NOT_BINARY_ADDRESS_BOOK = "Not a binary address book file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary address book version %1$d";
+    public static final String MESSAGE_CORRUPTED = "Binary address book file is corrupted";
+    public static final String MESSAGE_INVALID_PERSON = "Person %1$d is invalid: %2$s";
+
+    /** The number of person records decoded together, by one task if in parallel. */
+    static final int CHUNK_SIZE = 1024;
+
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + Short.BYTES + Long.BYTES;
+
+    private final ByteBuffer buffer;
+    private final int schemaVersion;
+    private final long sourceChecksum;
+
+    /**
+     * Creates a {@code BinaryAddressBookReader} of the address book in {@code buffer}, from its position to its
+     * limit, and reads its header. {@code buffer} is not modified.
+     *
+     * @throws IOException if {@code buffer} does not hold a binary address book of a supported version.
+     */
+    BinaryAddressBookReader(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer.slice();
+        if (!isBinaryAddressBook(this.buffer)) {
+            throw new IOException(MESSAGE_NOT_BINARY_ADDRESS_BOOK);
+        }
+        if (this.buffer.limit() < HEADER_SIZE + Long.BYTES) {
+            throw new EOFException(MESSAGE_CORRUPTED);
+        }
+        int version = Short.toUnsignedInt(this.buffer.getShort(Integer.BYTES));
+        if (version != BinaryAddressBookWriter.VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        schemaVersion = Short.toUnsignedInt(this.buffer.getShort(Integer.BYTES + Short.BYTES));
+        sourceChecksum = this.buffer.getLong(Integer.BYTES + Short.BYTES + Short.BYTES);
+    }
+
+    /**
+     * Returns true if {@code buffer}, from its position, starts with the bytes of a binary address book.
+     */
+    static boolean isBinaryAddressBook(ByteBuffer buffer) {
+        return buffer.remaining() >= Integer.BYTES
+                && buffer.getInt(buffer.position()) == BinaryAddressBookWriter.MAGIC;
+    }
+
+    /**
+     * Returns the checksum of the file the address book was read from when it was written, or 0 if there was none.
+     */
+    long getSourceChecksum() {
+        return sourceChecksum;
+    }
+
+    /**
+     * Checks the checksum of the buffer, and decodes the persons of the address book, in parallel if there are at
+     * least {@code parallelThreshold} of them.
+     *
+     * @param notes the note file of the address book, or null if it has none.
+     * @throws IOException if the buffer is truncated or corrupted.
+     * @throws IllegalValueException listing every invalid person, or the duplicated emails if the persons are not
+     *     unique.
+     */
+    AddressBook read(int parallelThreshold, NoteStore notes) throws IOException, IllegalValueException {
+        int checksumPosition = buffer.limit() - Long.BYTES;
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.slice(0, checksumPosition));
+        if (buffer.getLong(checksumPosition) != checksum.getValue()) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+
+        Cursor cursor = new Cursor(buffer, HEADER_SIZE, checksumPosition);
+        String[] dictionary = new String[cursor.nextCount()];
+        for (int i = 0; i < dictionary.length; i++) {
+            dictionary[i] = cursor.nextString();
+        }
+
+        int recordCount = cursor.nextCount();
+        // the start of each record, at its length, followed by the end of the last record
+        int[] recordPositions = new int[recordCount + 1];
+        for (int i = 0; i < recordCount; i++) {
+            recordPositions[i] = cursor.position;
+            cursor.skip(cursor.nextVarInt());
+        }
+        recordPositions[recordCount] = cursor.position;
+        if (cursor.position != checksumPosition) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+
+        try {
+            return decode(dictionary, recordPositions, notes, recordCount >= parallelThreshold,
+                    schemaVersion == JsonAdaptedPerson.SCHEMA_VERSION);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Decodes the records that start at {@code recordPositions}, the last of which is the end of the last record,
+     * without validating the persons if {@code isTrusted}.
+     */
+    private AddressBook decode(String[] dictionary, int[] recordPositions, NoteStore notes, boolean isParallel,
+            boolean isTrusted) throws IllegalValueException {
+        int recordCount = recordPositions.length - 1;
+        List<ForkJoinTask<Chunk>> chunks = new ArrayList<>();
+        for (int from = 0; from < recordCount; from += CHUNK_SIZE) {
+            Chunk chunk = new Chunk(dictionary, recordPositions, notes, isTrusted, from,
+                    Math.min(from + CHUNK_SIZE, recordCount));
+            ForkJoinTask<Chunk> task = ForkJoinTask.adapt(chunk::decode, chunk);
+            if (isParallel) {
+                ForkJoinPool.commonPool().execute(task);
+            } else {
+                task.invoke();
+            }
+            chunks.add(task);
+        }
+
+        List<Person> persons = new ArrayList<>(recordCount);
+        List<String> errors = new ArrayList<>();
+        for (ForkJoinTask<Chunk> task : chunks) {
+            Chunk chunk = task.join();
+            persons.addAll(chunk.persons);
+            errors.addAll(chunk.errors);
+        }
+        if (!errors.isEmpty()) {
+            throw new IllegalValueException(String.join("\n", errors));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_EMAILS,
+                    String.join(", ", dpe.getDuplicateEmails())), dpe);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Consecutive person records, and the persons or errors they were decoded into, in the same order.
+     */
+    private class Chunk {
+        private final String[] dictionary;
+        private final int[] recordPositions;
+        private final NoteStore notes;
+        private final boolean isTrusted;
+        private final int from;
+        private final int to;
+        private final List<Person> persons = new ArrayList<>();
+        private final List<String> errors = new ArrayList<>();
+
+        Chunk(String[] dictionary, int[] recordPositions, NoteStore notes, boolean isTrusted, int from, int to) {
+            this.dictionary = dictionary;
+            this.recordPositions = recordPositions;
+            this.notes = notes;
+            this.isTrusted = isTrusted;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Decodes the persons of the records from index {@code from} to {@code to}, and validates them unless trusted.
+         *
+         * @throws UncheckedIOException if a record is truncated or refers to strings not in the dictionary.
+         */
+        void decode() {
+            Cursor cursor = new Cursor(buffer, 0, 0);
+            for (int i = from; i < to; i++) {
+                cursor.reset(recordPositions[i], recordPositions[i + 1]);
+                try {
+                    persons.add(toPerson(cursor));
+                } catch (IllegalValueException ive) {
+                    errors.add(String.format(MESSAGE_INVALID_PERSON, i, ive.getMessage()));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+
+        private Person toPerson(Cursor cursor) throws IOException, IllegalValueException {
+            cursor.nextVarInt(); // the length of the record, which ends at the limit of the cursor
+            String name = cursor.nextString();
+            String phone = cursor.nextString();
+            String email = cursor.nextString() + "@" + cursor.nextString(dictionary);
+            String address = cursor.nextString(dictionary);
+            List<JsonAdaptedTag> tags = new ArrayList<>();
+            for (int tagCount = cursor.nextVarInt(); tags.size() < tagCount;) {
+                tags.add(new JsonAdaptedTag(cursor.nextString(dictionary)));
+            }
+            int noteType = cursor.nextVarInt();
+            if (noteType != BinaryAddressBookWriter.NOTE_TEXT && noteType != BinaryAddressBookWriter.NOTE_KEY) {
+                throw new IOException(MESSAGE_CORRUPTED);
+            }
+            String note = cursor.nextString();
+            String pin = cursor.nextString();
+            if (cursor.position != cursor.limit) {
+                throw new IOException(MESSAGE_CORRUPTED);
+            }
+            JsonAdaptedPerson person = noteType == BinaryAddressBookWriter.NOTE_TEXT
+                    ? new JsonAdaptedPerson(name, phone, email, address, tags, note, null, pin)
+                    : new JsonAdaptedPerson(name, phone, email, address, tags, null, note, pin);
+            return isTrusted ? person.toTrustedModelType(notes) : person.toModelType(notes);
+        }
+    }
+
+    /**
+     * Decodes values from a range of a buffer with absolute reads, so that cursors over the same buffer can be used
+     * by different threads. Each string is copied out of the buffer through a small reused array.
+     */
+    private static class Cursor {
+        private final ByteBuffer buffer;
+        private byte[] bytes = new byte[256];
+        private int position;
+        private int limit;
+
+        Cursor(ByteBuffer buffer, int position, int limit) {
+            this.buffer = buffer;
+            reset(position, limit);
+        }
+
+        void reset(int position, int limit) {
+            this.position = position;
+            this.limit = limit;
+        }
+
+        void skip(int length) throws IOException {
+            checkRemaining(length);
+            position += length;
+        }
+
+        String nextString() throws IOException {
+            int length = nextVarInt();
+            checkRemaining(length);
+            if (length > bytes.length) {
+                bytes = new byte[Math.max(length, bytes.length * 2)];
+            }
+            buffer.get(position, bytes, 0, length);
+            position += length;
+            return new String(bytes, 0, length, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Returns the string in {@code dictionary} at the index that is next in the buffer.
+         */
+        String nextString(String[] dictionary) throws IOException {
+            int index = nextVarInt();
+            if (index >= dictionary.length) {
+                throw new IOException(MESSAGE_CORRUPTED);
+            }
+            return dictionary[index];
+        }
+
+        /**
+         * Reads the number of items that follow, each of which takes at least one byte.
+         */
+        int nextCount() throws IOException {
+            int count = nextVarInt();
+            checkRemaining(count);
+            return count;
+        }
+
+        /**
+         * Reads a non-negative variable-length integer written by {@code BinaryAddressBookWriter}.
+         */
+        int nextVarInt() throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+                checkRemaining(1);
+                byte b = buffer.get(position++);
+                value |= (b & 0x7f) << shift;
+                if (b >= 0 && value >= 0) {
+                    return value;
+                } else if (b >= 0) {
+                    break;
+                }
+            }
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+
+        private void checkRemaining(int length) throws EOFException {
+            if (length > limit - position) {
+                throw new EOFException(MESSAGE_CORRUPTED);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+
+/**
+ * A class to access AddressBook data stored in the compact binary format of {@link BinaryAddressBookWriter} on the
+ * hard disk. The file is mapped into memory and decoded straight from the mapping, which is released once it is
+ * garbage collected, as Java offers no way to unmap it sooner. Every note is written into the file with its text, as
+ * the file has no note file of its own.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int parallelLoadThreshold;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, UserPrefs.DEFAULT_PARALLEL_LOAD_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} for the file at {@code filePath}, which decodes the persons in the
+     * file in parallel if there are at least {@code parallelLoadThreshold} of them.
+     */
+    public BinaryAddressBookStorage(Path filePath, int parallelLoadThreshold) {
+        checkArgument(parallelLoadThreshold >= 0, UserPrefs.MESSAGE_PARALLEL_LOAD_THRESHOLD_CONSTRAINTS);
+        this.filePath = filePath;
+        this.parallelLoadThreshold = parallelLoadThreshold;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            BinaryAddressBookReader reader = new BinaryAddressBookReader(FileUtil.mapFile(filePath));
+            return Optional.of(reader.read(parallelLoadThreshold, null));
+        } catch (IOException e) {
+            logger.warning("Error reading from file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        FileUtil.writeToFile(filePath, out -> BinaryAddressBookWriter.write(addressBook, out, 0));
+    }
+}
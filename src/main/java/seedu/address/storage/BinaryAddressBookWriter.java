@@ -0,0 +1,162 @@
+package seedu.address.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes an address book in a compact binary format, read back by {@link BinaryAddressBookReader}.
+ *
+ * The file starts with a header of {@link #MAGIC}, the {@link #VERSION} of the format, the
+ * {@link JsonAdaptedPerson#SCHEMA_VERSION} of the persons, and the checksum of the file the address book was read
+ * from, if any. It is followed by a dictionary of the strings that many persons tend to
+ * share, which are tag names, email domains and addresses, and then by one length-prefixed record per person, which
+ * refers to those strings by their index in the dictionary. The file ends with the CRC32 checksum of all the bytes
+ * before it. Lengths, counts and indexes are written as variable-length integers, and strings as UTF-8.
+ *
+ * The note of each person is written as its text, or, for a long note of an address book with a {@link NoteFile}, as
+ * its key in the note file, each preceded by {@link #NOTE_TEXT} or {@link #NOTE_KEY}.
+ */
+class BinaryAddressBookWriter {
+
+    /** The first bytes of every binary address book file, "ABBS" in ASCII. */
+    static final int MAGIC = 0x41424253;
+    static final int VERSION = 3;
+    static final int NOTE_TEXT = 0;
+    static final int NOTE_KEY = 1;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private BinaryAddressBookWriter() {}
+
+    /**
+     * Writes {@code addressBook} to {@code out} with the texts of all its notes, and closes {@code out}.
+     *
+     * @param sourceChecksum the checksum of the file {@code addressBook} was read from, or 0 if there is none.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out, long sourceChecksum) throws IOException {
+        write(addressBook, out, sourceChecksum, false);
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out}, and closes {@code out}. The notes that are stored separately are
+     * written as their keys if {@code hasNoteFile}, in which case they must already be in the note file of the
+     * address book, or as their texts otherwise.
+     *
+     * @param sourceChecksum the checksum of the file {@code addressBook} was read from, or 0 if there is none.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out, long sourceChecksum, boolean hasNoteFile)
+            throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Integer> dictionary = createDictionary(persons);
+        CRC32 checksum = new CRC32();
+
+        try (DataOutputStream data = new DataOutputStream(
+                new BufferedOutputStream(new CheckedOutputStream(out, checksum), BUFFER_SIZE))) {
+            data.writeInt(MAGIC);
+            data.writeShort(VERSION);
+            data.writeShort(JsonAdaptedPerson.SCHEMA_VERSION);
+            data.writeLong(sourceChecksum);
+            writeVarInt(data, dictionary.size());
+            for (String value : dictionary.keySet()) {
+                writeString(data, value);
+            }
+
+            writeVarInt(data, persons.size());
+            ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+            DataOutputStream record = new DataOutputStream(recordBytes);
+            for (Person person : persons) {
+                recordBytes.reset();
+                writePerson(record, person, dictionary, hasNoteFile);
+                writeVarInt(data, recordBytes.size());
+                recordBytes.writeTo(data);
+            }
+
+            data.flush();
+            data.writeLong(checksum.getValue());
+        }
+    }
+
+    /**
+     * Returns the shared strings of {@code persons}, each mapped to its index in the dictionary.
+     */
+    private static Map<String, Integer> createDictionary(List<Person> persons) {
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Person person : persons) {
+            for (Tag tag : person.getTags()) {
+                addToDictionary(dictionary, tag.tagName);
+            }
+            addToDictionary(dictionary, domainOf(person.getEmail().value));
+            addToDictionary(dictionary, person.getAddress().value);
+        }
+        return dictionary;
+    }
+
+    private static void addToDictionary(Map<String, Integer> dictionary, String value) {
+        if (!dictionary.containsKey(value)) {
+            dictionary.put(value, dictionary.size());
+        }
+    }
+
+    private static void writePerson(DataOutput out, Person person, Map<String, Integer> dictionary,
+            boolean hasNoteFile) throws IOException {
+        String email = person.getEmail().value;
+        writeString(out, person.getName().fullName);
+        writeString(out, person.getPhone().value);
+        writeString(out, email.substring(0, email.lastIndexOf('@')));
+        writeVarInt(out, dictionary.get(domainOf(email)));
+        writeVarInt(out, dictionary.get(person.getAddress().value));
+        writeVarInt(out, person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            writeVarInt(out, dictionary.get(tag.tagName));
+        }
+        Note note = person.getNote();
+        if (hasNoteFile && NoteFile.isStoredSeparately(note)) {
+            out.writeByte(NOTE_KEY);
+            writeString(out, note.getKey());
+        } else {
+            out.writeByte(NOTE_TEXT);
+            writeString(out, NoteFile.textOf(note));
+        }
+        writeString(out, person.getPin().value);
+    }
+
+    /**
+     * Returns the part of {@code email} after its last '@'.
+     */
+    private static String domainOf(String email) {
+        return email.substring(email.lastIndexOf('@') + 1);
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Writes the non-negative {@code value} seven bits at a time, lowest first, with the high bit of each byte set
+     * if more bytes follow.
+     */
+    private static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7f) != 0) {
+            out.writeByte((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.OptionalLong;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A {@code JournalingAddressBookStorage} that keeps a copy of the JSON file in the binary format of
+ * {@link BinaryAddressBookStorage} next to it, and reads the copy instead of the JSON file when the copy is of the
+ * current JSON file, which is several times faster for a large address book.
+ *
+ * The copy is written whenever the JSON file is rewritten, and records the checksum of the JSON file, so the journal
+ * of the JSON file is replayed on top of the copy just as it is on top of the JSON file. The copy is of the current
+ * JSON file if it records the same checksum as the journal, which is restarted with the checksum of the JSON file
+ * whenever that is rewritten. A copy of another JSON file, such as one written before the JSON file was last
+ * rewritten without a copy, a copy older than the JSON file, such as after the JSON file was edited by hand, and a
+ * copy that cannot be read are ignored. The copy refers to the long notes in the note file of the JSON file, as the
+ * JSON file does.
+ */
+public class BinaryCachedAddressBookStorage extends JournalingAddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryCachedAddressBookStorage.class);
+
+    /**
+     * Creates a {@code BinaryCachedAddressBookStorage} for the JSON file at {@code filePath}, which writes and reads
+     * the JSON file as a {@link JsonAddressBookStorage} with the same arguments does. The JSON file is never
+     * compressed, as the copy is mapped into memory uncompressed, which would write more than compression saves.
+     */
+    public BinaryCachedAddressBookStorage(Path filePath, boolean isCompact, int parallelLoadThreshold) {
+        super(filePath, isCompact, false, parallelLoadThreshold);
+    }
+
+    /**
+     * Returns the path of the binary copy of the JSON file at {@code filePath}.
+     */
+    public static Path getCacheFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".bin");
+    }
+
+    @Override
+    protected DataFile readDataFile(Path filePath) throws IOException, IllegalValueException {
+        Path cacheFilePath = getCacheFilePath(filePath);
+        OptionalLong dataChecksum = new AddressBookJournal(getJournalFilePath(filePath)).readTrustedDataChecksum();
+        if (dataChecksum.isPresent() && FileUtil.isFileExists(cacheFilePath)
+                && Files.getLastModifiedTime(filePath).compareTo(Files.getLastModifiedTime(cacheFilePath)) <= 0) {
+            try {
+                BinaryAddressBookReader reader = new BinaryAddressBookReader(FileUtil.mapFile(cacheFilePath));
+                if (reader.getSourceChecksum() == dataChecksum.getAsLong()) {
+                    return new DataFile(reader.read(getParallelLoadThreshold(), getNoteFile(filePath)),
+                            reader.getSourceChecksum());
+                }
+                logger.info("Ignoring binary copy " + cacheFilePath + " of another version of " + filePath);
+            } catch (IOException | IllegalValueException e) {
+                logger.warning("Ignoring binary copy " + cacheFilePath + ": " + e);
+            }
+        }
+        return super.readDataFile(filePath);
+    }
+
+    /**
+     * Rewrites the JSON file at {@code filePath}, and then its binary copy. Failing to write the copy leaves an older
+     * copy, which is ignored, so it does not fail the save.
+     */
+    @Override
+    protected long writeDataFile(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        long checksum = super.writeDataFile(addressBook, filePath);
+        Path cacheFilePath = getCacheFilePath(filePath);
+        try {
+            // the long notes were stored in the note file with the JSON file
+            FileUtil.writeToFile(cacheFilePath, out ->
+                    BinaryAddressBookWriter.write(addressBook, out, checksum, true));
+        } catch (IOException e) {
+            logger.warning("Error writing binary copy " + cacheFilePath + ": " + e);
+        }
+        return checksum;
+    }
+}
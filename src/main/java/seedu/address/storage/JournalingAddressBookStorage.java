@@ -0,0 +1,327 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NoteStore;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListEdit;
+import seedu.address.model.person.PersonListEditLog;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A {@code JsonAddressBookStorage} that saves small changes to the address book by appending them to a journal next
+ * to the JSON file, so that saving an edit of a few persons takes time in the size of the edit rather than the size
+ * of the address book.
+ *
+ * The changes are taken from the {@link PersonListEditLog} of the saved address book. The JSON file is rewritten and
+ * the journal restarted instead when the journal grows past a number of records or bytes, or when the address book
+ * changed in a way that was not logged as edits, such as a sort. Reading the address book replays the journal on top
+ * of the JSON file.
+ */
+public class JournalingAddressBookStorage extends JsonAddressBookStorage {
+
+    public static final int DEFAULT_MAX_JOURNAL_RECORDS = 1000;
+    public static final long DEFAULT_MAX_JOURNAL_BYTES = 1 << 20;
+    public static final String MESSAGE_JOURNAL_LIMITS_CONSTRAINTS =
+            "The journal should allow at least one record, and a non-negative number of bytes.";
+    public static final String MESSAGE_INVALID_JOURNAL_RECORD = "Journal record %1$d cannot be applied: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalingAddressBookStorage.class);
+
+    private final AddressBookJournal journal;
+    private final int maxJournalRecords;
+    private final long maxJournalBytes;
+    /** The edit log of the address book last saved, or null if the next save has to rewrite the JSON file. */
+    private PersonListEditLog savedEditLog;
+    private int journalRecords;
+    private long journalBytes;
+
+    /**
+     * Creates a {@code JournalingAddressBookStorage} for the JSON file at {@code filePath}, with the default limits
+     * of the journal.
+     */
+    public JournalingAddressBookStorage(Path filePath) {
+        this(filePath, false, UserPrefs.DEFAULT_PARALLEL_LOAD_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalingAddressBookStorage} for the JSON file at {@code filePath}, which writes and reads
+     * the JSON file as a {@link JsonAddressBookStorage} with the same arguments does, with the default limits of the
+     * journal.
+     */
+    public JournalingAddressBookStorage(Path filePath, boolean isCompact, int parallelLoadThreshold) {
+        this(filePath, isCompact, false, parallelLoadThreshold);
+    }
+
+    /**
+     * Creates a {@code JournalingAddressBookStorage} for the JSON file at {@code filePath}, which writes and reads
+     * the JSON file as a {@link JsonAddressBookStorage} with the same arguments does, with the default limits of the
+     * journal.
+     */
+    public JournalingAddressBookStorage(Path filePath, boolean isCompact, boolean isCompressed,
+            int parallelLoadThreshold) {
+        this(filePath, isCompact, isCompressed, parallelLoadThreshold, DEFAULT_MAX_JOURNAL_RECORDS,
+                DEFAULT_MAX_JOURNAL_BYTES);
+    }
+
+    /**
+     * Creates a {@code JournalingAddressBookStorage} for the JSON file at {@code filePath}, which writes and reads
+     * the JSON file as a {@link JsonAddressBookStorage} with the same arguments does, and rewrites it once the
+     * journal would hold more than {@code maxJournalRecords} records or {@code maxJournalBytes} bytes.
+     */
+    public JournalingAddressBookStorage(Path filePath, boolean isCompact, int parallelLoadThreshold,
+            int maxJournalRecords, long maxJournalBytes) {
+        this(filePath, isCompact, false, parallelLoadThreshold, maxJournalRecords, maxJournalBytes);
+    }
+
+    /**
+     * Creates a {@code JournalingAddressBookStorage} for the JSON file at {@code filePath}, which writes and reads
+     * the JSON file as a {@link JsonAddressBookStorage} with the same arguments does, and rewrites it once the
+     * journal would hold more than {@code maxJournalRecords} records or {@code maxJournalBytes} bytes.
+     */
+    public JournalingAddressBookStorage(Path filePath, boolean isCompact, boolean isCompressed,
+            int parallelLoadThreshold, int maxJournalRecords, long maxJournalBytes) {
+        super(filePath, isCompact, isCompressed, parallelLoadThreshold);
+        checkArgument(maxJournalRecords >= 1 && maxJournalBytes >= 0, MESSAGE_JOURNAL_LIMITS_CONSTRAINTS);
+        this.journal = new AddressBookJournal(getJournalFilePath(filePath));
+        this.maxJournalRecords = maxJournalRecords;
+        this.maxJournalBytes = maxJournalBytes;
+    }
+
+    /**
+     * Returns the path of the journal of the JSON file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".journal");
+    }
+
+    /**
+     * Reads the JSON file at {@code filePath}, and replays its journal on top of it.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!FileUtil.isFileExists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            DataFile dataFile = readDataFile(filePath);
+            AddressBook addressBook = dataFile.getAddressBook();
+            List<byte[]> records = new AddressBookJournal(getJournalFilePath(filePath)).read(dataFile.getChecksum());
+            if (!records.isEmpty()) {
+                replay(addressBook, records, getNoteFile(filePath));
+            }
+            retainNotes(addressBook, filePath);
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Reads the address book in the JSON file at {@code filePath}, together with the checksum of the file that its
+     * journal follows up. The checksum is of the bytes of the file, compressed or not. If the journal tells that the
+     * file was saved under the current {@link JsonAdaptedPerson#SCHEMA_VERSION}, the persons are read without
+     * validating the values of their fields again, in the same pass that computes the checksum. If the file turns out
+     * not to have the checksum it was saved with, such as after it was edited by hand, it is read again, validated.
+     */
+    protected DataFile readDataFile(Path filePath) throws IOException, IllegalValueException {
+        OptionalLong trustedChecksum = new AddressBookJournal(getJournalFilePath(filePath)).readTrustedDataChecksum();
+        if (trustedChecksum.isEmpty()) {
+            return readDataFile(filePath, false);
+        }
+
+        try {
+            DataFile dataFile = readDataFile(filePath, true);
+            if (dataFile.getChecksum() == trustedChecksum.getAsLong()) {
+                return dataFile;
+            }
+            logger.info("File " + filePath + " changed since it was saved, and is read again with validation.");
+        } catch (IOException | IllegalValueException e) {
+            logger.info("File " + filePath + " cannot be read as saved, and is read again with validation: " + e);
+        }
+        return readDataFile(filePath, false);
+    }
+
+    private DataFile readDataFile(Path filePath, boolean isTrusted) throws IOException, IllegalValueException {
+        CRC32 checksum = new CRC32();
+        try (InputStream file = new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE), checksum);
+                InputStream in = decompressIfGzipped(file)) {
+            AddressBook addressBook = readAddressBook(in, getNoteFile(filePath), isTrusted);
+            // the checksum covers the whole file, including anything after the address book
+            file.transferTo(OutputStream.nullOutputStream());
+            return new DataFile(addressBook, checksum.getValue());
+        }
+    }
+
+    /**
+     * Applies the edits in {@code records} to {@code addressBook}, with the notes stored apart from their persons
+     * loaded from {@code notes} when needed.
+     *
+     * @throws IllegalValueException if a record is not a valid edit, does not fit the persons it is applied to, or
+     *     leads to duplicate persons.
+     */
+    private static void replay(AddressBook addressBook, List<byte[]> records, NoteStore notes)
+            throws IOException, IllegalValueException {
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        for (int i = 0; i < records.size(); i++) {
+            String record = new String(records.get(i), StandardCharsets.UTF_8);
+            PersonListEdit edit = JsonUtil.fromJsonString(record, JsonAdaptedPersonListEdit.class).toModelType(notes);
+            try {
+                edit.applyTo(persons);
+            } catch (IndexOutOfBoundsException e) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_JOURNAL_RECORD, i, edit), e);
+            }
+        }
+
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_EMAILS,
+                    String.join(", ", dpe.getDuplicateEmails())), dpe);
+        }
+        logger.info("Replayed " + records.size() + " journal records.");
+    }
+
+    /**
+     * Appends the edits made since the last save to the journal if it can take them, or rewrites the JSON file
+     * otherwise. Saving to any other file than the JSON file of this storage writes that file in full.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            super.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        PersonListEditLog editLog = editLogOf(addressBook);
+        Optional<List<PersonListEdit>> edits = savedEditLog == null || editLog == null
+                ? Optional.empty()
+                : editLog.getEditsSince(savedEditLog);
+        List<byte[]> records = edits.isPresent() && journalRecords + edits.get().size() <= maxJournalRecords
+                ? toRecords(edits.get())
+                : null;
+        if (records != null && journalBytes + AddressBookJournal.sizeOf(records) <= maxJournalBytes) {
+            appendToJournal(records);
+        } else {
+            rewrite(addressBook, filePath);
+        }
+        savedEditLog = editLog;
+        compactNotes(getNoteFile(filePath));
+    }
+
+    /**
+     * Returns the edit log of {@code addressBook}, or null if it has none.
+     */
+    private static PersonListEditLog editLogOf(ReadOnlyAddressBook addressBook) {
+        if (addressBook instanceof AddressBook) {
+            return ((AddressBook) addressBook).getSavedView().getEditLog();
+        }
+        if (addressBook instanceof AddressBookSnapshot) {
+            return ((AddressBookSnapshot) addressBook).getEditLog();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the journal records of {@code edits}.
+     */
+    private static List<byte[]> toRecords(List<PersonListEdit> edits) throws IOException {
+        List<byte[]> records = new ArrayList<>(edits.size());
+        for (PersonListEdit edit : edits) {
+            String record = JsonUtil.toCompactJsonString(new JsonAdaptedPersonListEdit(edit));
+            records.add(record.getBytes(StandardCharsets.UTF_8));
+        }
+        return records;
+    }
+
+    private void appendToJournal(List<byte[]> records) throws IOException {
+        // a failed append may leave a torn record, after which nothing more can be appended
+        savedEditLog = null;
+        journalBytes += journal.append(records);
+        journalRecords += records.size();
+    }
+
+    private void rewrite(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        savedEditLog = null;
+        journal.restart(writeDataFile(addressBook, filePath));
+        journalRecords = 0;
+        journalBytes = 0;
+    }
+
+    /**
+     * Rewrites the JSON file at {@code filePath} with {@code addressBook}, and returns the checksum of the file.
+     */
+    protected long writeDataFile(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        CRC32 checksum = new CRC32();
+        FileUtil.createIfMissing(filePath);
+        NoteFile notes = getNoteFile(filePath);
+        FileUtil.writeToFile(filePath, out ->
+                writeAddressBook(addressBook, new CheckedOutputStream(out, checksum), notes));
+        return checksum.getValue();
+    }
+
+    /**
+     * An address book read from a data file, with the checksum of the JSON file that the journal follows up.
+     */
+    protected static class DataFile {
+        private final AddressBook addressBook;
+        private final long checksum;
+
+        /**
+         * Creates a {@code DataFile} of {@code addressBook}, read from the JSON file with {@code checksum}.
+         */
+        public DataFile(AddressBook addressBook, long checksum) {
+            requireNonNull(addressBook);
+            this.addressBook = addressBook;
+            this.checksum = checksum;
+        }
+
+        public AddressBook getAddressBook() {
+            return addressBook;
+        }
+
+        public long getChecksum() {
+            return checksum;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -14,6 +15,7 @@ import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Note;
+import seedu.address.model.person.NoteStore;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Pin;
@@ -25,23 +27,44 @@ import seedu.address.model.tag.Tag;
 class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
+    public static final String MESSAGE_NO_NOTE_STORE = "Person's note is stored separately, but there is no note file";
+
+    /**
+     * The version of the constraints on the fields of a person, which is saved together with the checksum of the
+     * saved persons. It has to be increased whenever the constraints change, so that persons saved under other
+     * constraints are validated again when read.
+     */
+    static final int SCHEMA_VERSION = 1;
 
     private final String name;
     private final String phone;
     private final String email;
     private final String address;
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private final String note;
+    /** The key of the note in a note file, if the note is stored there instead of in {@link #note}. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String noteRef;
     private final String pin;
 
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
      */
+    public JsonAdaptedPerson(String name, String phone, String email, String address, List<JsonAdaptedTag> tags,
+            String note, String pin) {
+        this(name, phone, email, address, tags, note, null, pin);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details, with either the text of the note or its
+     * key in a note file.
+     */
     @JsonCreator
     public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
             @JsonProperty("email") String email, @JsonProperty("address") String address,
             @JsonProperty("tags") List<JsonAdaptedTag> tags, @JsonProperty("note") String note,
-            @JsonProperty("pin") String pin) {
+            @JsonProperty("noteRef") String noteRef, @JsonProperty("pin") String pin) {
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -50,6 +73,7 @@ class JsonAdaptedPerson {
             this.tags.addAll(tags);
         }
         this.note = note;
+        this.noteRef = noteRef;
         this.pin = pin;
     }
 
@@ -64,7 +88,9 @@ class JsonAdaptedPerson {
         tags.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
-        note = source.getNote().value;
+        Note sourceNote = source.getNote();
+        note = sourceNote.isStored() ? null : sourceNote.getValue();
+        noteRef = sourceNote.isStored() ? sourceNote.getKey() : null;
         pin = source.getPin().value;
     }
 
@@ -74,51 +100,73 @@ class JsonAdaptedPerson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        return toModelType(null);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object, with a note that
+     * is loaded from {@code notes} if it is stored there.
+     *
+     * @param notes the note file of the address book the person belongs to, or null if it has none.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     */
+    public Person toModelType(NoteStore notes) throws IllegalValueException {
+        return toModelType(notes, false);
+    }
+
+    private Person toModelType(NoteStore notes, boolean isTrusted) throws IllegalValueException {
         final List<Tag> personTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tags) {
-            personTags.add(tag.toModelType());
+            personTags.add(isTrusted ? tag.toTrustedModelType() : tag.toModelType());
         }
 
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
-        if (!Name.isValidName(name)) {
+        if (!isTrusted && !Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        final Name modelName = isTrusted ? Name.ofTrusted(name) : new Name(name);
 
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
         }
-        if (!Phone.isValidPhone(phone)) {
+        if (!isTrusted && !Phone.isValidPhone(phone)) {
             throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
         }
-        final Phone modelPhone = new Phone(phone);
+        final Phone modelPhone = isTrusted ? Phone.ofTrusted(phone) : new Phone(phone);
 
         if (email == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
         }
-        if (!Email.isValidEmail(email)) {
+        if (!isTrusted && !Email.isValidEmail(email)) {
             throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
         }
-        final Email modelEmail = new Email(email);
+        final Email modelEmail = isTrusted ? Email.ofTrusted(email) : new Email(email);
 
         if (address == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
         }
-        if (!Address.isValidAddress(address)) {
+        if (!isTrusted && !Address.isValidAddress(address)) {
             throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
         }
-        final Address modelAddress = new Address(address);
+        final Address modelAddress = isTrusted ? Address.ofTrusted(address) : new Address(address);
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
 
-        if (note == null) {
+        final Note modelNote;
+        if (note != null) {
+            modelNote = new Note(note);
+        } else if (noteRef == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Note.class.getSimpleName()));
+        } else if (!isTrusted && !Note.isValidKey(noteRef)) {
+            throw new IllegalValueException(Note.MESSAGE_KEY_CONSTRAINTS);
+        } else if (notes == null) {
+            throw new IllegalValueException(MESSAGE_NO_NOTE_STORE);
+        } else {
+            modelNote = Note.ofStored(noteRef, notes);
         }
 
-        final Note modelNote = new Note(note);
-
         if (pin == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Pin.class.getSimpleName()));
         }
@@ -128,4 +176,16 @@ class JsonAdaptedPerson {
 
     }
 
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object in the same way as
+     * {@link #toModelType(NoteStore)}, but without validating the values of its fields, only that none is missing.
+     * Only to be used for a person saved by this application under the current {@link #SCHEMA_VERSION}, and read
+     * back unchanged, as told by the checksum saved with it.
+     *
+     * @throws IllegalValueException if a field is missing.
+     */
+    public Person toTrustedModelType(NoteStore notes) throws IllegalValueException {
+        return toModelType(notes, true);
+    }
+
 }
@@ -0,0 +1,77 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.NoteStore;
+import seedu.address.model.person.PersonListEdit;
+
+/**
+ * Jackson-friendly version of {@link PersonListEdit}.
+ */
+class JsonAdaptedPersonListEdit {
+
+    public static final String MESSAGE_INVALID_TYPE = "Edit's type field is invalid: %s";
+    public static final String MESSAGE_MISSING_PERSON = "Edit of type %s is missing its person!";
+
+    private final String type;
+    private final int index;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedPersonListEdit} with the given edit details.
+     */
+    @JsonCreator
+    public JsonAdaptedPersonListEdit(@JsonProperty("type") String type, @JsonProperty("index") int index,
+            @JsonProperty("person") JsonAdaptedPerson person) {
+        this.type = type;
+        this.index = index;
+        this.person = person;
+    }
+
+    /**
+     * Converts a given {@code PersonListEdit} into this class for Jackson use.
+     */
+    public JsonAdaptedPersonListEdit(PersonListEdit source) {
+        type = source.getType().name();
+        index = source.getIndex();
+        person = source.getPerson() == null ? null : new JsonAdaptedPerson(source.getPerson());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted edit object into the model's {@code PersonListEdit} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted edit.
+     */
+    public PersonListEdit toModelType() throws IllegalValueException {
+        return toModelType(null);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted edit object into the model's {@code PersonListEdit} object, with the note
+     * of its person loaded from {@code notes} if it is stored there.
+     *
+     * @param notes the note file of the address book the edit applies to, or null if it has none.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted edit.
+     */
+    public PersonListEdit toModelType(NoteStore notes) throws IllegalValueException {
+        PersonListEdit.Type modelType;
+        try {
+            modelType = PersonListEdit.Type.valueOf(String.valueOf(type));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_TYPE, type));
+        }
+
+        if (modelType == PersonListEdit.Type.REMOVE) {
+            return PersonListEdit.remove(index);
+        }
+        if (person == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_PERSON, modelType));
+        }
+        return modelType == PersonListEdit.Type.SET
+                ? PersonListEdit.set(index, person.toModelType(notes))
+                : PersonListEdit.insert(index, person.toModelType(notes));
+    }
+
+}
@@ -45,4 +45,12 @@ class JsonAdaptedTag {
         return new Tag(tagName);
     }
 
+    /**
+     * Converts this Jackson-friendly adapted tag object into the model's {@code Tag} object without validating it,
+     * for a tag of a person converted by {@link JsonAdaptedPerson#toTrustedModelType}.
+     */
+    public Tag toTrustedModelType() {
+        return Tag.ofTrusted(tagName);
+    }
+
 }
@@ -0,0 +1,274 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.NoteStore;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Reads an address book written in the format of {@link JsonSerializableAddressBook} one person at a time. The person
+ * records are read in chunks of {@link #CHUNK_SIZE}, and each chunk is built into {@code Person}s and validated as
+ * soon as it has been read, so that only the persons read so far are held in memory.
+ *
+ * Once the number of records read reaches the parallel threshold, the remaining chunks are built with the common
+ * fork-join pool while the parser reads on. The chunks are joined in the order they were read, so the persons and any
+ * errors come out in the same order as from a sequential read.
+ *
+ * Persons saved by this application under the current {@link JsonAdaptedPerson#SCHEMA_VERSION}, and known to be
+ * unchanged since by a checksum saved with them, can be read as trusted, without validating the values of their
+ * fields, which takes most of the time of building them.
+ */
+class JsonAddressBookReader {
+
+    public static final String MESSAGE_INVALID_PERSON = "Person at line %1$d, column %2$d is invalid: %3$s";
+
+    /** The number of person records built into persons together, by one task if in parallel. */
+    static final int CHUNK_SIZE = 1024;
+
+    private JsonAddressBookReader() {}
+
+    /**
+     * Reads the address book in {@code in} sequentially, without closing {@code in}.
+     *
+     * @see #read(InputStream, int, NoteStore)
+     */
+    static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        return read(in, Integer.MAX_VALUE, null);
+    }
+
+    /**
+     * Reads the address book in {@code in}, without closing {@code in}, building the persons in parallel once
+     * {@code parallelThreshold} person records have been read. Notes stored apart from their persons are loaded
+     * from {@code notes} when needed.
+     *
+     * @param notes the note file of the address book, or null if it has none.
+     * @throws IOException if {@code in} cannot be read, or does not hold JSON of the expected structure.
+     * @throws IllegalValueException listing the line and column of every invalid person, or the duplicated emails
+     *     if the persons are not unique.
+     */
+    static AddressBook read(InputStream in, int parallelThreshold, NoteStore notes)
+            throws IOException, IllegalValueException {
+        return read(in, parallelThreshold, notes, false);
+    }
+
+    /**
+     * Reads the address book in {@code in} in the same way as {@link #read(InputStream, int, NoteStore)}, without
+     * validating the values of the fields of the persons if {@code isTrusted}.
+     */
+    static AddressBook read(InputStream in, int parallelThreshold, NoteStore notes, boolean isTrusted)
+            throws IOException, IllegalValueException {
+        List<Person> persons = readPersons(in, parallelThreshold, notes, isTrusted);
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_EMAILS,
+                    String.join(", ", dpe.getDuplicateEmails())), dpe);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads the persons of the address book in {@code in} in the same way as
+     * {@link #read(InputStream, int, NoteStore, boolean)}, without checking that they are unique.
+     *
+     * @throws IOException if {@code in} cannot be read, or does not hold JSON of the expected structure.
+     * @throws IllegalValueException listing the line and column of every invalid person.
+     */
+    static List<Person> readPersons(InputStream in, int parallelThreshold, NoteStore notes, boolean isTrusted)
+            throws IOException, IllegalValueException {
+        List<ForkJoinTask<Chunk>> chunks = new ArrayList<>();
+        int recordCount = 0;
+
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                JsonToken value = parser.nextToken();
+                if (!parser.getCurrentName().equals("persons") || value == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                expect(parser, value, JsonToken.START_ARRAY);
+                Chunk chunk = new Chunk(notes, isTrusted);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    expect(parser, parser.getCurrentToken(), JsonToken.START_OBJECT);
+                    JsonLocation location = parser.getTokenLocation();
+                    chunk.add(readPerson(parser), location);
+                    recordCount++;
+                    if (chunk.isFull()) {
+                        chunks.add(convert(chunk, recordCount >= parallelThreshold));
+                        chunk = new Chunk(notes, isTrusted);
+                    }
+                }
+                chunks.add(convert(chunk, recordCount >= parallelThreshold));
+            }
+        } catch (IOException | RuntimeException e) {
+            chunks.forEach(task -> task.cancel(false));
+            throw e;
+        }
+
+        List<Person> persons = new ArrayList<>(recordCount);
+        List<String> errors = new ArrayList<>();
+        for (ForkJoinTask<Chunk> task : chunks) {
+            Chunk chunk = task.join();
+            persons.addAll(chunk.persons);
+            errors.addAll(chunk.errors);
+        }
+
+        if (!errors.isEmpty()) {
+            throw new IllegalValueException(String.join("\n", errors));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns a task that builds the persons of {@code chunk}, which has already run in the current thread unless
+     * {@code isParallel}, in which case it has been submitted to the common fork-join pool.
+     */
+    private static ForkJoinTask<Chunk> convert(Chunk chunk, boolean isParallel) {
+        ForkJoinTask<Chunk> task = ForkJoinTask.adapt(chunk::convert, chunk);
+        if (isParallel) {
+            ForkJoinPool.commonPool().execute(task);
+        } else {
+            task.invoke();
+        }
+        return task;
+    }
+
+    /**
+     * Reads the fields of the person record that starts at the current token, up to the end of the record.
+     */
+    private static JsonAdaptedPerson readPerson(JsonParser parser) throws IOException {
+        String name = null;
+        String phone = null;
+        String email = null;
+        String address = null;
+        List<JsonAdaptedTag> tags = null;
+        String note = null;
+        String noteRef = null;
+        String pin = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+            case "name":
+                name = readString(parser, value);
+                break;
+            case "phone":
+                phone = readString(parser, value);
+                break;
+            case "email":
+                email = readString(parser, value);
+                break;
+            case "address":
+                address = readString(parser, value);
+                break;
+            case "tags":
+                tags = readTags(parser, value);
+                break;
+            case "note":
+                note = readString(parser, value);
+                break;
+            case "noteRef":
+                noteRef = readString(parser, value);
+                break;
+            case "pin":
+                pin = readString(parser, value);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        expect(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+        return new JsonAdaptedPerson(name, phone, email, address, tags, note, noteRef, pin);
+    }
+
+    private static List<JsonAdaptedTag> readTags(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, value, JsonToken.START_ARRAY);
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            tags.add(new JsonAdaptedTag(readString(parser, parser.getCurrentToken())));
+        }
+        return tags;
+    }
+
+    /**
+     * Returns the scalar value at the current token as a string, or null if it is a JSON null.
+     */
+    private static String readString(JsonParser parser, JsonToken value) throws IOException {
+        if (value == null || value.isStructStart() || value.isStructEnd()) {
+            throw new JsonParseException(parser, "Expected a value but found " + value);
+        }
+        return parser.getValueAsString();
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
+    /**
+     * Person records read one after another, and the persons or errors they were built into, in the same order.
+     */
+    private static class Chunk {
+        private final NoteStore notes;
+        private final boolean isTrusted;
+        private final List<JsonAdaptedPerson> records = new ArrayList<>(CHUNK_SIZE);
+        private final List<JsonLocation> locations = new ArrayList<>(CHUNK_SIZE);
+        private final List<Person> persons = new ArrayList<>(CHUNK_SIZE);
+        private final List<String> errors = new ArrayList<>();
+
+        Chunk(NoteStore notes, boolean isTrusted) {
+            this.notes = notes;
+            this.isTrusted = isTrusted;
+        }
+
+        void add(JsonAdaptedPerson record, JsonLocation location) {
+            records.add(record);
+            locations.add(location);
+        }
+
+        boolean isFull() {
+            return records.size() == CHUNK_SIZE;
+        }
+
+        /**
+         * Builds every record into a person, validated unless the chunk is trusted, or into an error giving the line
+         * and column of the record, and drops the records.
+         */
+        void convert() {
+            for (int i = 0; i < records.size(); i++) {
+                try {
+                    JsonAdaptedPerson record = records.get(i);
+                    persons.add(isTrusted ? record.toTrustedModelType(notes) : record.toModelType(notes));
+                } catch (IllegalValueException ive) {
+                    JsonLocation location = locations.get(i);
+                    errors.add(String.format(MESSAGE_INVALID_PERSON,
+                            location.getLineNr(), location.getColumnNr(), ive.getMessage()));
+                }
+            }
+            records.clear();
+            locations.clear();
+        }
+    }
+}
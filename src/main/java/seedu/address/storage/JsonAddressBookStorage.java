@@ -1,36 +1,99 @@
 package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    /** The size of the buffer through which the file is read. */
+    protected static final int BUFFER_SIZE = 64 * 1024;
+    /** The first bytes of every gzip file. */
+    private static final byte[] GZIP_MAGIC = {(byte) 0x1f, (byte) 0x8b};
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
+    private final boolean isCompressed;
+    private final int parallelLoadThreshold;
+    private final NoteFile notes;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false, false, UserPrefs.DEFAULT_PARALLEL_LOAD_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the file at {@code filePath}, which writes the file without line
+     * breaks or indentation if {@code isCompact}, and builds the persons read from the file in parallel once
+     * {@code parallelLoadThreshold} of them have been read.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact, int parallelLoadThreshold) {
+        this(filePath, isCompact, false, parallelLoadThreshold);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the file at {@code filePath}, which writes the file without line
+     * breaks or indentation if {@code isCompact}, compressed with gzip if {@code isCompressed}, and builds the persons
+     * read from the file in parallel once {@code parallelLoadThreshold} of them have been read. A file is read
+     * whether it is compressed or not, as told by its first bytes.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact, boolean isCompressed, int parallelLoadThreshold) {
+        checkArgument(parallelLoadThreshold >= 0, UserPrefs.MESSAGE_PARALLEL_LOAD_THRESHOLD_CONSTRAINTS);
         this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.isCompressed = isCompressed;
+        this.parallelLoadThreshold = parallelLoadThreshold;
+        this.notes = new NoteFile(getNoteFilePath(filePath));
     }
 
     public Path getAddressBookFilePath() {
         return filePath;
     }
 
+    /**
+     * Returns the path of the file that holds the long notes of the address book file at {@code filePath}.
+     */
+    public static Path getNoteFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".notes");
+    }
+
+    /**
+     * Returns the note file of the address book file at {@code filePath}, which is shared by every read and save of
+     * the file of this storage.
+     */
+    protected NoteFile getNoteFile(Path filePath) {
+        return filePath.equals(this.filePath) ? notes : new NoteFile(getNoteFilePath(filePath));
+    }
+
+    protected int getParallelLoadThreshold() {
+        return parallelLoadThreshold;
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
         return readAddressBook(filePath);
@@ -45,20 +108,79 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (InputStream in = decompressIfGzipped(
+                new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE))) {
+            AddressBook addressBook = readAddressBook(in, getNoteFile(filePath));
+            retainNotes(addressBook, filePath);
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    /**
+     * Reads the address book in {@code in} as JSON one person at a time, without closing {@code in}, with the notes
+     * stored apart from their persons loaded from {@code notes} when needed.
+     *
+     * @throws IOException if {@code in} cannot be read or does not hold an address book in JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    protected AddressBook readAddressBook(InputStream in, NoteFile notes) throws IOException, IllegalValueException {
+        return readAddressBook(in, notes, false);
+    }
+
+    /**
+     * Reads the address book in {@code in} in the same way as {@link #readAddressBook(InputStream, NoteFile)},
+     * without validating the values of the fields of the persons if {@code isTrusted}, for a file saved by this
+     * application under the current {@link JsonAdaptedPerson#SCHEMA_VERSION} and known to be unchanged since.
+     */
+    protected AddressBook readAddressBook(InputStream in, NoteFile notes, boolean isTrusted)
+            throws IOException, IllegalValueException {
+        return JsonAddressBookReader.read(in, parallelLoadThreshold, notes, isTrusted);
+    }
+
+    /**
+     * Returns a stream of the bytes of {@code in} decompressed if they start with the magic bytes of gzip, or as they
+     * are otherwise. Closing the returned stream closes {@code in}.
+     */
+    protected static InputStream decompressIfGzipped(InputStream in) throws IOException {
+        PushbackInputStream pushback = new PushbackInputStream(in, GZIP_MAGIC.length);
+        byte[] magic = pushback.readNBytes(GZIP_MAGIC.length);
+        pushback.unread(magic);
+        return Arrays.equals(magic, GZIP_MAGIC) ? new GZIPInputStream(pushback, BUFFER_SIZE) : pushback;
+    }
+
+    /**
+     * Retains the notes that the persons of {@code addressBook}, just read from the file of this storage, refer to
+     * when the note file is compacted after the next save. Does nothing for any other file than the file of this
+     * storage.
+     */
+    protected void retainNotes(ReadOnlyAddressBook addressBook, Path filePath) {
+        if (filePath.equals(this.filePath)) {
+            notes.retain(addressBook.getPersonList());
+        }
+    }
+
+    /**
+     * Drops the notes that are not retained from {@code notes}, just saved to, if they take up most of it. Failing to
+     * do so leaves the note file as it is, so it does not fail the save.
+     */
+    protected static void compactNotes(NoteFile notes) {
+        try {
+            notes.compact();
+        } catch (IOException e) {
+            logger.warning("Error compacting note file " + notes.getPath() + ": " + e);
+        }
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -74,7 +196,31 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        NoteFile noteFile = getNoteFile(filePath);
+        FileUtil.writeToFile(filePath, out -> writeAddressBook(addressBook, out, noteFile));
+        compactNotes(noteFile);
     }
 
+    /**
+     * Appends the long notes of {@code addressBook} that are not in {@code notes} yet to it, and then writes
+     * {@code addressBook} as JSON to {@code out} one person at a time, referring to those notes by their keys,
+     * compressing it on the way if this storage compresses its file, and closes {@code out}.
+     */
+    protected void writeAddressBook(ReadOnlyAddressBook addressBook, OutputStream out, NoteFile notes)
+            throws IOException {
+        notes.storeAll(addressBook.getPersonList());
+        JsonAddressBookWriter.write(addressBook, isCompressed ? new FastGzipOutputStream(out) : out,
+                isCompact, true);
+    }
+
+    /**
+     * A gzip stream that compresses at the fastest level, which takes half the time of the default level, and
+     * compresses address book files about as well, as they repeat themselves a lot.
+     */
+    static class FastGzipOutputStream extends GZIPOutputStream {
+        FastGzipOutputStream(OutputStream out) throws IOException {
+            super(out, BUFFER_SIZE);
+            def.setLevel(Deflater.BEST_SPEED);
+        }
+    }
 }
@@ -0,0 +1,80 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes an address book as JSON one person at a time, straight from the model, in the same format as
+ * {@link JsonSerializableAddressBook} and {@link JsonAdaptedPerson}. Only the person being written is held in memory
+ * beyond the address book itself.
+ *
+ * Long notes can be written as references to a {@link NoteFile} that holds them, rather than as their texts.
+ */
+class JsonAddressBookWriter {
+
+    private JsonAddressBookWriter() {}
+
+    /**
+     * Writes {@code addressBook} to {@code out}, pretty-printed unless {@code isCompact}, and closes {@code out}.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out, boolean isCompact) throws IOException {
+        write(addressBook, out, isCompact, false);
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out}, pretty-printed unless {@code isCompact}, and closes {@code out}. The
+     * notes that are stored separately are written as their keys if {@code hasNoteFile}, in which case they must
+     * already be in the note file of the address book, or as their texts otherwise.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out, boolean isCompact, boolean hasNoteFile)
+            throws IOException {
+        write(addressBook.getPersonList(), out, isCompact, hasNoteFile);
+    }
+
+    /**
+     * Writes an address book of {@code persons} to {@code out} in the same way as
+     * {@link #write(ReadOnlyAddressBook, OutputStream, boolean, boolean)}.
+     */
+    static void write(List<Person> persons, OutputStream out, boolean isCompact, boolean hasNoteFile)
+            throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, isCompact)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("persons");
+            for (Person person : persons) {
+                writePerson(generator, person, hasNoteFile);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    private static void writePerson(JsonGenerator generator, Person person, boolean hasNoteFile) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", person.getName().fullName);
+        generator.writeStringField("phone", person.getPhone().value);
+        generator.writeStringField("email", person.getEmail().value);
+        generator.writeStringField("address", person.getAddress().value);
+        generator.writeArrayFieldStart("tags");
+        for (Tag tag : person.getTags()) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+        Note note = person.getNote();
+        if (hasNoteFile && NoteFile.isStoredSeparately(note)) {
+            generator.writeStringField("noteRef", note.getKey());
+        } else {
+            generator.writeStringField("note", NoteFile.textOf(note));
+        }
+        generator.writeStringField("pin", person.getPin().value);
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of the manifest of a {@link SegmentedAddressBookStorage}, which lists the segment files of
+ * an address book in the order of their persons, and the {@link JsonAdaptedPerson#SCHEMA_VERSION} they were saved
+ * under.
+ */
+class JsonSegmentManifest {
+
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported segment manifest version %1$d";
+    public static final String MESSAGE_INVALID_SEGMENT = "Segment %1$d of the manifest is invalid";
+
+    static final int VERSION = 1;
+
+    private final int version;
+    private final long generation;
+    private final int schemaVersion;
+    private final List<Segment> segments = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSegmentManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonSegmentManifest(@JsonProperty("version") int version, @JsonProperty("generation") long generation,
+            @JsonProperty("schemaVersion") int schemaVersion, @JsonProperty("segments") List<Segment> segments) {
+        this.version = version;
+        this.generation = generation;
+        this.schemaVersion = schemaVersion;
+        if (segments != null) {
+            this.segments.addAll(segments);
+        }
+    }
+
+    /**
+     * Returns the number of saves of the manifest, which names the segment files each save writes.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the schema version the persons in the segments were saved under, or 0 if the manifest does not tell.
+     */
+    public int getSchemaVersion() {
+        return schemaVersion;
+    }
+
+    /**
+     * Returns the segments listed, after checking that the manifest is of the current version and lists only
+     * segments with a file name and a non-negative number of persons.
+     *
+     * @throws IllegalValueException if the manifest is of another version or lists an invalid segment.
+     */
+    public List<Segment> getSegments() throws IllegalValueException {
+        if (version != VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        for (int i = 0; i < segments.size(); i++) {
+            Segment segment = segments.get(i);
+            if (segment == null || segment.file == null || segment.file.isBlank() || segment.size < 0) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_SEGMENT, i));
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * Jackson-friendly version of a segment file, with the number of persons in it and the CRC32 checksum of its
+     * bytes.
+     */
+    static class Segment {
+        private final String file;
+        private final int size;
+        private final long checksum;
+
+        /**
+         * Constructs a {@code Segment} with the given details.
+         */
+        @JsonCreator
+        public Segment(@JsonProperty("file") String file, @JsonProperty("size") int size,
+                @JsonProperty("checksum") long checksum) {
+            this.file = file;
+            this.size = size;
+            this.checksum = checksum;
+        }
+
+        public String getFile() {
+            return file;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public long getChecksum() {
+            return checksum;
+        }
+    }
+}
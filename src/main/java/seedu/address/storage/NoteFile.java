@@ -0,0 +1,318 @@
+package seedu.address.storage;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.NoteStore;
+import seedu.address.model.person.Person;
+
+/**
+ * A file of the long notes of an address book, kept apart from the address book file so that a note is written once
+ * when it is added or edited rather than on every rewrite of the address book file, and is only read when it is
+ * shown. Each note is stored once under its key, the SHA-256 digest of its text, however many persons share it.
+ *
+ * The file starts with {@link #MAGIC}, followed by one record per note of the length of its text, its digest, and its
+ * text in UTF-8. Notes are only ever appended. A record that was only partly written, such as when the application
+ * stopped in the middle of appending it, is ignored together with anything after it, and overwritten by the next
+ * append. The records are indexed by key when the file is first used, and the texts most recently loaded are kept in
+ * a cache of at most {@link #MAX_CACHED_CHARS} characters.
+ *
+ * The notes that the address book read from its file refers to are {@linkplain #retain(List) retained} when it is
+ * read, without touching the file. The first save after that {@linkplain #compact() compacts} the file if the notes
+ * that nothing refers to anymore take up most of it.
+ */
+class NoteFile implements NoteStore {
+
+    public static final String MESSAGE_NOT_NOTE_FILE = "Not a note file: %1$s";
+    public static final String MESSAGE_NOTE_NOT_FOUND = "Note %1$s is not in %2$s";
+    public static final String MESSAGE_CORRUPTED = "Note %1$s in %2$s is corrupted";
+
+    /** The length from which a note is stored in the note file rather than with its person. */
+    static final int MIN_STORED_LENGTH = Note.MIN_STORED_LENGTH;
+    /** The total length of the texts kept in memory after they were loaded. */
+    static final int MAX_CACHED_CHARS = 1 << 20;
+
+    /** The first bytes of every note file, "ABNT" in ASCII. */
+    private static final int MAGIC = 0x41424e54;
+    private static final int DIGEST_SIZE = 32;
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES + DIGEST_SIZE;
+
+    private static final Logger logger = LogsCenter.getLogger(NoteFile.class);
+
+    private final Path path;
+    /** The position of the record of each note in the file, or null until the file is indexed. */
+    private Map<String, Long> positions;
+    /** The end of the last whole record, or 0 if the file does not start with {@link #MAGIC} yet. */
+    private long end;
+    /** The texts most recently loaded, least recently used first. */
+    private final LinkedHashMap<String, String> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedChars;
+    /** The keys of the notes that may still be referred to, or null if the file is not to be compacted. */
+    private Set<String> retainedKeys;
+
+    NoteFile(Path path) {
+        this.path = path;
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    /**
+     * Returns true if {@code note} is to be stored in a note file rather than with its person.
+     */
+    static boolean isStoredSeparately(Note note) {
+        return note.isStored() || note.getValue().length() >= MIN_STORED_LENGTH;
+    }
+
+    /**
+     * Returns the text of {@code note}, loading it from its note file if it is stored in one.
+     *
+     * @throws IOException if the text cannot be loaded.
+     */
+    static String textOf(Note note) throws IOException {
+        try {
+            return note.getValue();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Returns the text of the note with {@code key}, from the cache if it was loaded recently.
+     *
+     * @throws UncheckedIOException if the note is not in the file, or cannot be read.
+     */
+    @Override
+    public synchronized String load(String key) {
+        String text = cache.get(key);
+        if (text != null) {
+            return text;
+        }
+
+        try {
+            text = read(key);
+        } catch (IOException e) {
+            logger.warning("Error reading note " + key + " from " + path + ": " + e);
+            throw new UncheckedIOException(e);
+        }
+        cache.put(key, text);
+        cachedChars += text.length();
+        // the text just loaded is kept even if it is longer than the cache
+        Iterator<String> texts = cache.values().iterator();
+        while (cachedChars > MAX_CACHED_CHARS && cache.size() > 1) {
+            cachedChars -= texts.next().length();
+            texts.remove();
+        }
+        return text;
+    }
+
+    private String read(String key) throws IOException {
+        Long position = index().get(key);
+        if (position == null) {
+            throw new IOException(String.format(MESSAGE_NOTE_NOT_FOUND, key, path));
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+            readFully(channel, header, position);
+            ByteBuffer text = ByteBuffer.allocate(header.getInt(0));
+            readFully(channel, text, position + RECORD_HEADER_SIZE);
+            String value = new String(text.array(), StandardCharsets.UTF_8);
+            if (!Note.keyOf(value).equals(key)) {
+                throw new IOException(String.format(MESSAGE_CORRUPTED, key, path));
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Appends the notes of {@code persons} that are to be stored in a note file and are not in this file yet, which
+     * are loaded from their own note file if they are stored in another.
+     */
+    synchronized void storeAll(List<Person> persons) throws IOException {
+        Map<String, Long> index = index();
+        long start = end == 0 ? Integer.BYTES : end;
+        Map<String, Long> added = new HashMap<>();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (Person person : persons) {
+            Note note = person.getNote();
+            if (!isStoredSeparately(note)) {
+                continue;
+            }
+            if (retainedKeys != null) {
+                retainedKeys.add(note.getKey());
+            }
+            if (index.containsKey(note.getKey()) || added.containsKey(note.getKey())) {
+                continue;
+            }
+
+            byte[] text = textOf(note).getBytes(StandardCharsets.UTF_8);
+            added.put(note.getKey(), start + bytes.size());
+            out.writeInt(text.length);
+            out.write(HexFormat.of().parseHex(note.getKey()));
+            out.write(text);
+        }
+        if (added.isEmpty()) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            if (end == 0) {
+                writeFully(channel, ByteBuffer.allocate(Integer.BYTES).putInt(0, MAGIC), 0);
+                end = Integer.BYTES;
+            }
+            // drops a record that was only partly written
+            channel.truncate(end);
+            writeFully(channel, ByteBuffer.wrap(bytes.toByteArray()), end);
+        }
+        end += bytes.size();
+        index.putAll(added);
+    }
+
+    /**
+     * Retains the notes of {@code persons}, just read from the address book file that this file belongs to, and the
+     * notes stored from then on, when the file is next {@linkplain #compact() compacted}. Nothing else may refer to
+     * the other notes in the file.
+     */
+    synchronized void retain(List<Person> persons) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (Person person : persons) {
+            Note note = person.getNote();
+            if (isStoredSeparately(note)) {
+                keys.add(note.getKey());
+            }
+        }
+        retainedKeys = keys;
+    }
+
+    /**
+     * Rewrites the file with only the notes {@linkplain #retain(List) retained} since it was last read, if the other
+     * notes take up more of the file than those do. Does nothing if no notes were retained since the file was last
+     * compacted, so that saves after the first do not look at the file again.
+     */
+    synchronized void compact() throws IOException {
+        if (retainedKeys == null) {
+            return;
+        }
+
+        Map<String, Long> index = index();
+        Set<String> liveKeys = new LinkedHashSet<>();
+        for (String key : retainedKeys) {
+            if (index.containsKey(key)) {
+                liveKeys.add(key);
+            }
+        }
+        retainedKeys = null;
+        if (liveKeys.size() == index.size()) {
+            return;
+        }
+
+        Map<String, Integer> lengths = new HashMap<>();
+        long liveBytes = 0;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+            for (String key : liveKeys) {
+                header.clear();
+                readFully(channel, header, index.get(key));
+                lengths.put(key, header.getInt(0));
+                liveBytes += RECORD_HEADER_SIZE + header.getInt(0);
+            }
+        }
+        if (end - Integer.BYTES - liveBytes <= liveBytes) {
+            return;
+        }
+
+        FileUtil.writeToFile(path, out -> {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                DataOutputStream data = new DataOutputStream(out);
+                data.writeInt(MAGIC);
+                for (String key : liveKeys) {
+                    ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + lengths.get(key));
+                    readFully(channel, record, index.get(key));
+                    data.write(record.array());
+                }
+                data.flush();
+            }
+        });
+        logger.info("Compacted " + path + " from " + index.size() + " to " + liveKeys.size() + " notes.");
+        positions = null;
+    }
+
+    /**
+     * Returns the position of the record of each note in the file, indexing the file if it has not been yet.
+     */
+    private Map<String, Long> index() throws IOException {
+        if (positions != null) {
+            return positions;
+        }
+
+        Map<String, Long> index = new HashMap<>();
+        long position = 0;
+        long size = Files.exists(path) ? Files.size(path) : 0;
+        if (size >= Integer.BYTES) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+                if (in.readInt() != MAGIC) {
+                    throw new IOException(String.format(MESSAGE_NOT_NOTE_FILE, path));
+                }
+                position = Integer.BYTES;
+                byte[] digest = new byte[DIGEST_SIZE];
+                while (size - position >= RECORD_HEADER_SIZE) {
+                    int length = in.readInt();
+                    in.readFully(digest);
+                    if (length < 0 || length > size - position - RECORD_HEADER_SIZE) {
+                        break;
+                    }
+                    in.skipNBytes(length);
+                    index.put(HexFormat.of().formatHex(digest), position);
+                    position += RECORD_HEADER_SIZE + length;
+                }
+            }
+        }
+        if (position < size) {
+            logger.warning("Ignoring " + (size - position) + " bytes at the end of " + path);
+        }
+
+        positions = index;
+        end = position;
+        return positions;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException();
+            }
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, position + buffer.position());
+        }
+    }
+}
@@ -0,0 +1,448 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored on the hard disk as segment files of consecutive persons, listed in order
+ * by a manifest, so that saving an edit of a few persons rewrites only the segments that hold them, and the manifest.
+ *
+ * The persons are split after each person whose email hashes to the end of a segment, which one in
+ * {@link #TARGET_SEGMENT_SIZE} emails does, or after {@link #MAX_SEGMENT_SIZE} persons. As the split depends only on
+ * the persons around it, adding or removing a person changes only the segment it is in, while a segment that holds
+ * the same persons as one already saved is kept as it is. Each segment is written in the JSON format of
+ * {@link JsonAddressBookStorage}, to a new file named after the save, before the manifest, which lists the segment
+ * files with the number of their persons and their checksums, replaces the previous manifest in one atomic move. A
+ * save that fails before the move leaves the previous manifest and its segment files as they were. The segment files
+ * no longer listed are deleted after the move. The manifest also records the {@link JsonAdaptedPerson#SCHEMA_VERSION}
+ * the persons were saved under, and if it is the current one, the persons of the segments are read without validating
+ * the values of their fields, as a segment that is not as it was saved fails its checksum anyway.
+ *
+ * The segments are kept in a directory next to the address book file, e.g. {@code addressbook.json.segments}. If
+ * there is no manifest yet, the address book file itself is read instead, and split into segments by the next save.
+ * As the address book file is not written while there is a manifest, the segments are written back to it by
+ * {@link #writeBackSegments(Path, AddressBookStorage)} when the address book is no longer to be segmented.
+ * The segment files that a save writes are compressed with gzip if the storage compresses, and each segment file is
+ * read whether it is compressed or not, so that the segments kept from before compression was turned on or off are
+ * still read.
+ */
+public class SegmentedAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_CORRUPTED_SEGMENT = "Segment file %1$s does not match the manifest";
+    public static final String MESSAGE_INVALID_SEGMENT = "Segment file %1$s is invalid: %2$s";
+
+    private static final int SEGMENT_SIZE_BITS = 9;
+    /** The number of persons in a segment on average. */
+    static final int TARGET_SEGMENT_SIZE = 1 << SEGMENT_SIZE_BITS;
+    /** The number of persons after which a segment ends, even if none of their emails hashes to its end. */
+    static final int MAX_SEGMENT_SIZE = 4 * TARGET_SEGMENT_SIZE;
+
+    private static final String MANIFEST_FILE_NAME = "manifest.json";
+    private static final String SEGMENT_FILE_PREFIX = "segment-";
+    /** A 32-bit multiplier that spreads the bits of a hash over all bits of the product. */
+    private static final int HASH_MIXER = 0x9e3779b9;
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedAddressBookStorage.class);
+
+    private final Path filePath;
+    private final boolean isCompressed;
+    private final int parallelLoadThreshold;
+    private final NoteFile notes;
+    /** The segments listed by the manifest of the file of this storage, or null if it has not been read or saved. */
+    private List<Segment> savedSegments;
+    private long savedGeneration;
+
+    public SegmentedAddressBookStorage(Path filePath) {
+        this(filePath, UserPrefs.DEFAULT_PARALLEL_LOAD_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code SegmentedAddressBookStorage} for the address book file at {@code filePath}, which reads the
+     * segments in parallel if they hold at least {@code parallelLoadThreshold} persons.
+     */
+    public SegmentedAddressBookStorage(Path filePath, int parallelLoadThreshold) {
+        this(filePath, false, parallelLoadThreshold);
+    }
+
+    /**
+     * Creates a {@code SegmentedAddressBookStorage} for the address book file at {@code filePath}, which compresses
+     * the segment files it writes if {@code isCompressed}, and reads the segments in parallel if they hold at least
+     * {@code parallelLoadThreshold} persons.
+     */
+    public SegmentedAddressBookStorage(Path filePath, boolean isCompressed, int parallelLoadThreshold) {
+        checkArgument(parallelLoadThreshold >= 0, UserPrefs.MESSAGE_PARALLEL_LOAD_THRESHOLD_CONSTRAINTS);
+        this.filePath = filePath;
+        this.isCompressed = isCompressed;
+        this.parallelLoadThreshold = parallelLoadThreshold;
+        this.notes = new NoteFile(JsonAddressBookStorage.getNoteFilePath(filePath));
+    }
+
+    /**
+     * Returns the path of the directory of the segments and the manifest of the address book file at
+     * {@code filePath}.
+     */
+    public static Path getSegmentDirectoryPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".segments");
+    }
+
+    /**
+     * Writes the address book in the segments of the address book file at {@code filePath} back to that file with
+     * {@code storage}, and then deletes the segments, so that {@code storage} reads the latest address book from the
+     * file. Does nothing if the address book file has no segments. If the segments cannot be deleted after they were
+     * written back, they are written back again the next time.
+     *
+     * @return true if there were segments to write back.
+     * @throws DataLoadingException if the segments could not be read.
+     * @throws IOException if the address book could not be written back, which leaves the segments as they were.
+     */
+    public static boolean writeBackSegments(Path filePath, AddressBookStorage storage)
+            throws DataLoadingException, IOException {
+        requireNonNull(filePath);
+        requireNonNull(storage);
+        Path directory = getSegmentDirectoryPath(filePath);
+        Path manifestPath = directory.resolve(MANIFEST_FILE_NAME);
+        if (!FileUtil.isFileExists(manifestPath)) {
+            return false;
+        }
+
+        ReadOnlyAddressBook addressBook = new SegmentedAddressBookStorage(filePath).readAddressBook(filePath).get();
+        storage.saveAddressBook(addressBook, filePath);
+        // the segments are no longer read once the manifest is gone
+        Files.delete(manifestPath);
+        deleteUnlistedSegments(directory, List.of());
+        try {
+            Files.deleteIfExists(directory);
+        } catch (IOException e) {
+            logger.warning("Error deleting segment directory " + directory + ": " + e);
+        }
+        logger.info("Wrote the segments in " + directory + " back to " + filePath);
+        return true;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Reads the address book from the segments listed by the manifest of the address book file at {@code filePath},
+     * or from the address book file and its journal if there is no manifest.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        Path directory = getSegmentDirectoryPath(filePath);
+        Path manifestPath = directory.resolve(MANIFEST_FILE_NAME);
+        if (!FileUtil.isFileExists(manifestPath)) {
+            return new JournalingAddressBookStorage(filePath, false, parallelLoadThreshold).readAddressBook(filePath);
+        }
+
+        try {
+            JsonSegmentManifest manifest = readManifest(manifestPath);
+            List<Segment> segments = readSegments(directory, manifest.getSegments(), noteFileOf(filePath),
+                    manifest.getSchemaVersion() == JsonAdaptedPerson.SCHEMA_VERSION);
+            List<Person> persons = new ArrayList<>();
+            segments.forEach(segment -> persons.addAll(segment.persons));
+            AddressBook addressBook = new AddressBook();
+            try {
+                addressBook.setPersons(persons);
+            } catch (DuplicatePersonException dpe) {
+                throw new IllegalValueException(String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_EMAILS,
+                        String.join(", ", dpe.getDuplicateEmails())), dpe);
+            }
+
+            if (filePath.equals(this.filePath)) {
+                savedSegments = segments;
+                savedGeneration = manifest.getGeneration();
+                notes.retain(persons);
+            }
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from segments " + directory + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directory + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    private static JsonSegmentManifest readManifest(Path manifestPath) throws IOException {
+        return JsonUtil.fromJsonString(FileUtil.readFromFile(manifestPath), JsonSegmentManifest.class);
+    }
+
+    /**
+     * Reads the segment files listed in the manifest, in parallel if they hold at least as many persons as the
+     * parallel load threshold, and checks them against the manifest. The persons are not validated if
+     * {@code isTrusted}.
+     */
+    private List<Segment> readSegments(Path directory, List<JsonSegmentManifest.Segment> listed, NoteFile notes,
+            boolean isTrusted) throws IOException, IllegalValueException {
+        long personCount = listed.stream().mapToLong(JsonSegmentManifest.Segment::getSize).sum();
+        List<ForkJoinTask<SegmentRead>> tasks = new ArrayList<>();
+        List<Segment> segments = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        try {
+            for (JsonSegmentManifest.Segment segment : listed) {
+                SegmentRead read = new SegmentRead(directory, segment, notes, isTrusted);
+                ForkJoinTask<SegmentRead> task = ForkJoinTask.adapt(read::read, read);
+                tasks.add(task);
+                if (personCount >= parallelLoadThreshold) {
+                    ForkJoinPool.commonPool().execute(task);
+                } else {
+                    task.invoke();
+                }
+            }
+            for (ForkJoinTask<SegmentRead> task : tasks) {
+                SegmentRead read = task.join();
+                if (read.error != null) {
+                    errors.add(read.error);
+                } else {
+                    segments.add(read.segment);
+                }
+            }
+        } catch (UncheckedIOException e) {
+            tasks.forEach(task -> task.cancel(false));
+            throw e.getCause();
+        }
+        if (!errors.isEmpty()) {
+            throw new IllegalValueException(String.join("\n", errors));
+        }
+        return segments;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Writes the segments of {@code addressBook} that are not saved yet, and then replaces the manifest with one that
+     * lists all of them. Saving to any other file than the file of this storage writes every segment.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        Path directory = getSegmentDirectoryPath(filePath);
+        Path manifestPath = directory.resolve(MANIFEST_FILE_NAME);
+        boolean isOwnFile = filePath.equals(this.filePath) && savedSegments != null;
+        List<Segment> oldSegments = isOwnFile ? savedSegments : List.of();
+        long generation = isOwnFile ? savedGeneration + 1
+                : FileUtil.isFileExists(manifestPath) ? readManifest(manifestPath).getGeneration() + 1 : 1;
+
+        List<Person> persons = addressBook.getPersonList();
+        Files.createDirectories(directory);
+        NoteFile noteFile = noteFileOf(filePath);
+        noteFile.storeAll(persons);
+
+        Map<Person, Segment> oldSegmentsByFirstPerson = new HashMap<>();
+        oldSegments.forEach(segment -> oldSegmentsByFirstPerson.put(segment.persons.get(0), segment));
+        List<Segment> segments = new ArrayList<>();
+        int writtenCount = 0;
+        for (List<Person> segmentPersons : split(persons)) {
+            Segment oldSegment = oldSegmentsByFirstPerson.get(segmentPersons.get(0));
+            if (oldSegment != null && oldSegment.hasPersons(segmentPersons)) {
+                segments.add(oldSegment);
+                continue;
+            }
+
+            String file = SEGMENT_FILE_PREFIX + generation + "-" + segments.size() + ".json";
+            CRC32 checksum = new CRC32();
+            FileUtil.writeToFile(directory.resolve(file), out -> {
+                OutputStream checked = new CheckedOutputStream(out, checksum);
+                JsonAddressBookWriter.write(segmentPersons,
+                        isCompressed ? new JsonAddressBookStorage.FastGzipOutputStream(checked) : checked, true, true);
+            });
+            segments.add(new Segment(file, segmentPersons, checksum.getValue()));
+            writtenCount++;
+        }
+
+        List<JsonSegmentManifest.Segment> listed = new ArrayList<>();
+        segments.forEach(segment -> listed.add(
+                new JsonSegmentManifest.Segment(segment.file, segment.persons.size(), segment.checksum)));
+        JsonSegmentManifest manifest = new JsonSegmentManifest(JsonSegmentManifest.VERSION, generation,
+                JsonAdaptedPerson.SCHEMA_VERSION, listed);
+        FileUtil.writeToFile(manifestPath, JsonUtil.toCompactJsonString(manifest));
+        if (filePath.equals(this.filePath)) {
+            savedSegments = segments;
+            savedGeneration = generation;
+        }
+        logger.fine("Wrote " + writtenCount + " of " + segments.size() + " segments to " + directory);
+
+        deleteUnlistedSegments(directory, segments);
+        JsonAddressBookStorage.compactNotes(noteFile);
+    }
+
+    /**
+     * Returns the note file of the address book file at {@code filePath}, which is shared by every read and save of
+     * the file of this storage.
+     */
+    private NoteFile noteFileOf(Path filePath) {
+        return filePath.equals(this.filePath) ? notes : new NoteFile(JsonAddressBookStorage.getNoteFilePath(filePath));
+    }
+
+    /**
+     * Deletes the segment files in {@code directory} other than those of {@code segments}, such as those replaced by
+     * the last save, or written by a save that failed. Failing to do so leaves the files, which are deleted by a later
+     * save, so it does not fail the save.
+     */
+    private static void deleteUnlistedSegments(Path directory, List<Segment> segments) {
+        Set<String> listed = new HashSet<>();
+        segments.forEach(segment -> listed.add(segment.file));
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_FILE_PREFIX + "*")) {
+            for (Path file : files) {
+                if (!listed.contains(file.getFileName().toString())) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error deleting old segments in " + directory + ": " + e);
+        }
+    }
+
+    /**
+     * Splits {@code persons} into the persons of consecutive segments, none of which is empty.
+     */
+    static List<List<Person>> split(List<Person> persons) {
+        List<List<Person>> segments = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < persons.size(); i++) {
+            if (i + 1 - start == MAX_SEGMENT_SIZE || isSegmentEnd(persons.get(i))) {
+                segments.add(List.copyOf(persons.subList(start, i + 1)));
+                start = i + 1;
+            }
+        }
+        if (start < persons.size()) {
+            segments.add(List.copyOf(persons.subList(start, persons.size())));
+        }
+        return segments;
+    }
+
+    /**
+     * Returns true if a segment ends after {@code person}, which is so for one in {@link #TARGET_SEGMENT_SIZE}
+     * persons, going by the hash of their emails.
+     */
+    private static boolean isSegmentEnd(Person person) {
+        int hash = person.getEmail().value.hashCode() * HASH_MIXER;
+        return hash >>> (Integer.SIZE - SEGMENT_SIZE_BITS) == 0;
+    }
+
+    /**
+     * A segment file as last read or saved, with the persons in it.
+     */
+    private static class Segment {
+        private final String file;
+        private final List<Person> persons;
+        private final long checksum;
+
+        Segment(String file, List<Person> persons, long checksum) {
+            this.file = file;
+            this.persons = persons;
+            this.checksum = checksum;
+        }
+
+        /**
+         * Returns true if the segment holds the same persons as {@code others}, in the same order.
+         */
+        boolean hasPersons(List<Person> others) {
+            if (persons.size() != others.size()) {
+                return false;
+            }
+            for (int i = 0; i < persons.size(); i++) {
+                Person person = persons.get(i);
+                Person other = others.get(i);
+                if (person != other && !person.equals(other)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * The reading of a segment file listed in the manifest, and the segment or the error it was read into.
+     */
+    private static class SegmentRead {
+        private final Path directory;
+        private final JsonSegmentManifest.Segment listed;
+        private final NoteFile notes;
+        private final boolean isTrusted;
+        private Segment segment;
+        private String error;
+
+        SegmentRead(Path directory, JsonSegmentManifest.Segment listed, NoteFile notes, boolean isTrusted) {
+            this.directory = directory;
+            this.listed = listed;
+            this.notes = notes;
+            this.isTrusted = isTrusted;
+        }
+
+        /**
+         * Reads the persons of the segment file, and checks them against the manifest.
+         *
+         * @throws UncheckedIOException if the file cannot be read, or does not match the manifest.
+         */
+        void read() {
+            Path file = directory.resolve(listed.getFile());
+            CRC32 checksum = new CRC32();
+            try (InputStream fileIn = new CheckedInputStream(
+                    new BufferedInputStream(Files.newInputStream(file), JsonAddressBookStorage.BUFFER_SIZE), checksum);
+                    InputStream in = JsonAddressBookStorage.decompressIfGzipped(fileIn)) {
+                List<Person> persons = JsonAddressBookReader.readPersons(in, Integer.MAX_VALUE, notes, isTrusted);
+                // the checksum covers the whole file, including anything after the persons
+                fileIn.transferTo(OutputStream.nullOutputStream());
+                if (checksum.getValue() != listed.getChecksum() || persons.size() != listed.getSize()) {
+                    throw new IOException(String.format(MESSAGE_CORRUPTED_SEGMENT, file));
+                }
+                segment = new Segment(listed.getFile(), persons, listed.getChecksum());
+            } catch (IllegalValueException ive) {
+                error = String.format(MESSAGE_INVALID_SEGMENT, listed.getFile(), ive.getMessage());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
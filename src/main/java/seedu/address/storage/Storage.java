@@ -29,4 +29,11 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Returns the failure of the latest save of the address book to its file, if it failed, which a later save that
+     * succeeds clears. For a storage that saves in the background, this is the only report of a failed save that
+     * happens after the last call to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     */
+    Optional<IOException> getLatestSaveFailure();
+
 }
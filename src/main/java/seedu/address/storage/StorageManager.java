@@ -19,6 +19,7 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private IOException latestSaveFailure;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
@@ -66,7 +67,13 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        try {
+            saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+            latestSaveFailure = null;
+        } catch (IOException e) {
+            latestSaveFailure = e;
+            throw e;
+        }
     }
 
     @Override
@@ -75,4 +82,9 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public Optional<IOException> getLatestSaveFailure() {
+        return Optional.ofNullable(latestSaveFailure);
+    }
+
 }
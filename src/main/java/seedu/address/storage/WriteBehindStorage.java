@@ -0,0 +1,209 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+
+/**
+ * A {@code Storage} that saves the address book to another {@code Storage} on a background writer thread,
+ * so that saving does not block the caller while the address book is serialized and written.
+ *
+ * Each save hands an immutable snapshot of the address book to the writer thread. Saves made while a write is in
+ * progress replace each other, so a burst of saves results in a single write of the latest address book.
+ * A failed write is reported by the next save, or by {@link #flush()}, and stays the
+ * {@linkplain #getLatestSaveFailure() latest save failure} until a later write succeeds.
+ */
+public class WriteBehindStorage implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    private final Storage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // the fields below are guarded by this object
+    private ReadOnlyAddressBook pendingAddressBook;
+    private boolean isWriting;
+    private IOException writeFailure;
+    private IOException latestWriteFailure;
+
+    /**
+     * Creates a {@code WriteBehindStorage} that saves the address book to {@code storage} in the background, and
+     * passes every other operation on to {@code storage} directly.
+     */
+    public WriteBehindStorage(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(storage.getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        try {
+            awaitWrites();
+        } catch (InterruptedIOException e) {
+            throw new DataLoadingException(e);
+        }
+        return storage.readAddressBook(filePath);
+    }
+
+    /**
+     * Schedules a snapshot of {@code addressBook} to be written to the address book file in the background.
+     *
+     * @throws IOException if an earlier write failed since the last failure was reported.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        ReadOnlyAddressBook snapshot = addressBook instanceof AddressBook
+                ? ((AddressBook) addressBook).getSavedView()
+                : new AddressBook(addressBook);
+
+        IOException failure;
+        synchronized (this) {
+            pendingAddressBook = snapshot;
+            if (!isWriting) {
+                isWriting = true;
+                writer.execute(this::writePendingAddressBooks);
+            }
+            failure = writeFailure;
+            writeFailure = null;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath} right away, after the scheduled writes.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        awaitWrites();
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public synchronized Optional<IOException> getLatestSaveFailure() {
+        return Optional.ofNullable(latestWriteFailure);
+    }
+
+    /**
+     * Waits until every scheduled write is done.
+     *
+     * @throws IOException if a write failed since the last failure was reported.
+     */
+    public synchronized void flush() throws IOException {
+        awaitWrites();
+        IOException failure = writeFailure;
+        writeFailure = null;
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Waits until every scheduled write is done, and stops the writer thread.
+     *
+     * @throws IOException if a write failed since the last failure was reported.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            writer.shutdown();
+        }
+    }
+
+    private synchronized void awaitWrites() throws InterruptedIOException {
+        while (isWriting) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the address book to be written");
+            }
+        }
+    }
+
+    /**
+     * Writes the latest scheduled address book until no more address books are scheduled.
+     * Runs on the writer thread.
+     */
+    private void writePendingAddressBooks() {
+        while (true) {
+            ReadOnlyAddressBook addressBook;
+            synchronized (this) {
+                addressBook = pendingAddressBook;
+                pendingAddressBook = null;
+                if (addressBook == null) {
+                    isWriting = false;
+                    notifyAll();
+                    return;
+                }
+            }
+
+            IOException failure = null;
+            try {
+                storage.saveAddressBook(addressBook);
+            } catch (IOException e) {
+                failure = e;
+            } catch (RuntimeException e) {
+                failure = new IOException(e.getMessage(), e);
+            }
+            if (failure != null) {
+                logger.warning("Failed to write the address book: " + StringUtil.getDetails(failure));
+            }
+            synchronized (this) {
+                // a later successful write leaves nothing to report, as the file holds the latest address book
+                writeFailure = failure;
+                latestWriteFailure = failure;
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.io.UncheckedIOException;
 import java.util.Comparator;
 
 import javafx.fxml.FXML;
@@ -7,6 +8,7 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.Region;
 import javafx.scene.text.Text;
+import seedu.address.logic.commands.ViewNoteCommand;
 import seedu.address.model.person.Person;
 
 /**
@@ -41,7 +43,11 @@ public class PersonDetailCard extends UiPart<Region> {
         phone.setText(person.getPhone().value);
         address.setText(person.getAddress().value);
         email.setText(person.getEmail().value);
-        note.setText(person.getNote().value);
+        try {
+            note.setText(person.getNote().getValue());
+        } catch (UncheckedIOException e) {
+            note.setText(String.format(ViewNoteCommand.MESSAGE_NOTE_UNAVAILABLE, e.getCause().getMessage()));
+        }
         person.getTags().stream()
                 .sorted(Comparator.comparing(tag -> tag.tagName))
                 .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
@@ -3,6 +3,8 @@ package seedu.address.ui;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import javafx.beans.binding.Bindings;
+import javafx.beans.value.ObservableValue;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
@@ -16,13 +18,20 @@ public class StatusBarFooter extends UiPart<Region> {
 
     @FXML
     private Label saveLocationStatus;
+    @FXML
+    private Label saveFailureStatus;
 
     /**
-     * Creates a {@code StatusBarFooter} with the given {@code Path}.
+     * Creates a {@code StatusBarFooter} with the given {@code Path}, which also shows {@code saveFailureMessage}
+     * whenever it is not null.
      */
-    public StatusBarFooter(Path saveLocation) {
+    public StatusBarFooter(Path saveLocation, ObservableValue<String> saveFailureMessage) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        saveFailureStatus.textProperty().bind(saveFailureMessage);
+        saveFailureStatus.visibleProperty().bind(Bindings.createBooleanBinding(() ->
+                saveFailureMessage.getValue() != null, saveFailureMessage));
+        saveFailureStatus.managedProperty().bind(saveFailureStatus.visibleProperty());
     }
 
 }
@@ -0,0 +1,69 @@
+package seedu.address.commons.core.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexSelectionTest {
+
+    @Test
+    public void fromZeroBased_invalidIndexes_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> IndexSelection.fromZeroBased());
+        assertThrows(IndexOutOfBoundsException.class, () -> IndexSelection.fromZeroBased(3, -1));
+    }
+
+    @Test
+    public void fromZeroBased_unorderedDuplicates_mergedIntoRanges() {
+        IndexSelection selection = IndexSelection.fromZeroBased(9, 2, 0, 1, 2, 5, 4);
+        assertEquals(6, selection.size());
+        assertEquals(9, selection.getHighestZeroBased());
+        assertEquals("[0-2, 4-5, 9]", selection.toString().replaceAll(".*zeroBasedRanges=(.*)}", "$1"));
+
+        List<Integer> visited = new ArrayList<>();
+        selection.forEachZeroBased(visited::add);
+        assertEquals(List.of(0, 1, 2, 4, 5, 9), visited);
+    }
+
+    @Test
+    public void ofRange() {
+        assertThrows(IllegalArgumentException.class, () ->
+                IndexSelection.ofRange(Index.fromOneBased(3), Index.fromOneBased(2)));
+
+        IndexSelection selection = IndexSelection.ofRange(Index.fromOneBased(1), Index.fromOneBased(Integer.MAX_VALUE));
+        assertEquals(Integer.MAX_VALUE, selection.size());
+        assertEquals(Integer.MAX_VALUE - 1, selection.getHighestZeroBased());
+
+        List<Integer> visited = new ArrayList<>();
+        IndexSelection.ofRange(Index.fromOneBased(Integer.MAX_VALUE), Index.fromOneBased(Integer.MAX_VALUE))
+                .forEachZeroBased(visited::add);
+        assertEquals(List.of(Integer.MAX_VALUE - 1), visited);
+    }
+
+    @Test
+    public void equals() {
+        IndexSelection selection = IndexSelection.ofRange(Index.fromOneBased(1), Index.fromOneBased(3));
+
+        // same indexes, however created -> returns true
+        assertTrue(selection.equals(IndexSelection.fromZeroBased(2, 1, 0)));
+        assertEquals(selection.hashCode(), IndexSelection.fromZeroBased(2, 1, 0).hashCode());
+
+        // same object -> returns true
+        assertTrue(selection.equals(selection));
+
+        // null -> returns false
+        assertFalse(selection.equals(null));
+
+        // different types -> returns false
+        assertFalse(selection.equals(Index.fromOneBased(1)));
+
+        // different indexes -> returns false
+        assertFalse(selection.equals(IndexSelection.fromZeroBased(0, 2)));
+        assertFalse(selection.equals(IndexSelection.of(Index.fromOneBased(1))));
+    }
+}
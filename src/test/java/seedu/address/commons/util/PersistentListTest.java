@@ -0,0 +1,92 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void copyOf_nullElement_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentList.copyOf(Arrays.asList("a", null)));
+    }
+
+    @Test
+    public void copyOf_persistentList_returnsSameList() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a", "b"));
+        assertSame(list, PersistentList.copyOf(list));
+    }
+
+    @Test
+    public void updates_invalidIndex_throwIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a", "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.with(-1, "c"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.plus(3, "c"));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentList.<String>empty().minus(0));
+        assertThrows(UnsupportedOperationException.class, () -> list.add("c"));
+    }
+
+    @Test
+    public void updates_leaveOriginalListUnchanged() {
+        PersistentList<String> original = PersistentList.copyOf(List.of("a", "b", "c"));
+        original.with(0, "x");
+        original.plus(1, "y");
+        original.minus(2);
+        assertEquals(List.of("a", "b", "c"), original);
+        assertEquals(List.of("a", "y", "b", "c"), original.plus(1, "y"));
+    }
+
+    @Test
+    public void randomUpdates_sameAsArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        for (int i = 0; i < 5000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.plus(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.with(index, i);
+            } else if (random.nextBoolean()) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.minus(index);
+            }
+        }
+
+        assertEquals(expected, actual);
+        assertEquals(expected, Arrays.asList(actual.toArray()));
+        assertBalanced(actual);
+    }
+
+    @Test
+    public void appendsAndRemovesAtEnds_stayBalanced() {
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 10000; i++) {
+            list = list.plus(list.size(), i);
+        }
+        assertBalanced(list);
+        for (int i = 0; i < 5000; i++) {
+            list = list.minus(0);
+        }
+        assertBalanced(list);
+        assertEquals(5000, list.get(0));
+    }
+
+    private static void assertBalanced(PersistentList<?> list) {
+        assertTrue(list.height() <= 1.45 * Math.log(list.size() + 2) / Math.log(2));
+    }
+}
@@ -2,8 +2,10 @@ package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.StringSamples.allStrings;
 
 import java.io.FileNotFoundException;
 
@@ -141,6 +143,21 @@ public class StringUtilTest {
         assertThrows(NullPointerException.class, () -> StringUtil.getDetails(null));
     }
 
+    //---------------- Tests for collapseWhitespace --------------------------------------
+
+    @Test
+    public void collapseWhitespace_sameAsTrimAndReplaceAll() {
+        for (String s : allStrings(" a\t\n\u000b\u0001\u00a0", 6)) {
+            assertEquals(s.trim().replaceAll("\\s+", " "), StringUtil.collapseWhitespace(s), s);
+        }
+    }
+
+    @Test
+    public void collapseWhitespace_nothingToCollapse_returnsSameString() {
+        String s = "Alex Yeoh";
+        assertSame(s, StringUtil.collapseWhitespace(s));
+    }
+
     @Test
     public void levenshteinDistance_identicalStrings_returnsZero() {
         assertEquals(0, StringUtil.levenshteinDistance("hello", "hello"));
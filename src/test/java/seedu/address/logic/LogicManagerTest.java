@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
@@ -14,6 +15,7 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -34,6 +36,7 @@ import seedu.address.model.person.Person;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindStorage;
 import seedu.address.testutil.PersonBuilder;
 
 public class LogicManagerTest {
@@ -117,6 +120,78 @@ public class LogicManagerTest {
         assertEquals(Collections.emptyList(), logic.getCommandHistoryList());
     }
 
+    @Test
+    public void execute_addressBookUnchanged_notSavedAgain() throws Exception {
+        List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                        savedAddressBooks.add(addressBook);
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        // the first command saves the address book, in case it has never been saved
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, savedAddressBooks.size());
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute("find Amy");
+        assertEquals(1, savedAddressBooks.size());
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertEquals(2, savedAddressBooks.size());
+
+        // undoing a command that only changed the displayed list leaves the address book unchanged
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute("undo");
+        assertEquals(2, savedAddressBooks.size());
+    }
+
+    @Test
+    public void execute_backgroundSaveFailed_failureShownAfterEveryCommand() throws Exception {
+        boolean[] isFailing = {true};
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        if (isFailing[0]) {
+                            throw DUMMY_IO_EXCEPTION;
+                        }
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        WriteBehindStorage storage = new WriteBehindStorage(new StorageManager(addressBookStorage, userPrefsStorage));
+        logic = new LogicManager(model, storage);
+        String expectedMessage = String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage());
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertThrows(IOException.class, storage::flush);
+        // a command that only views the address book still shows that it was not saved
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(expectedMessage, logic.getSaveFailureMessage().getValue());
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+        assertEquals(expectedMessage, logic.getSaveFailureMessage().getValue());
+
+        isFailing[0] = false;
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        storage.flush();
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertNull(logic.getSaveFailureMessage().getValue());
+        storage.close();
+    }
+
+    @Test
+    public void execute_saveFailed_failureShown() {
+        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+                LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
+        assertEquals(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()),
+                logic.getSaveFailureMessage().getValue());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -11,19 +11,21 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.Messages;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for
@@ -99,7 +101,7 @@ public class DeleteCommandTest {
         Person firstPersonToDelete = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
         Person secondPersonToDelete = model.getFilteredPersonList().get(INDEX_THIRD_PERSON.getZeroBased());
         DeleteCommand deleteCommand = new DeleteCommand(
-                Set.of(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON));
+                IndexSelection.fromZeroBased(INDEX_FIRST_PERSON.getZeroBased(), INDEX_THIRD_PERSON.getZeroBased()));
 
         String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS,
                 Messages.format(List.of(firstPersonToDelete, secondPersonToDelete)));
@@ -121,7 +123,8 @@ public class DeleteCommandTest {
         // ensures that outOfBoundIndex is still in bounds of address book list
         assertTrue(outOfBoundIndex.getZeroBased() < model.getAddressBook().getPersonList().size());
 
-        DeleteCommand deleteCommand = new DeleteCommand(Set.of(INDEX_FIRST_PERSON, outOfBoundIndex));
+        DeleteCommand deleteCommand = new DeleteCommand(
+                IndexSelection.fromZeroBased(INDEX_FIRST_PERSON.getZeroBased(), outOfBoundIndex.getZeroBased()));
 
         assertCommandFailure(deleteCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
     }
@@ -143,14 +146,10 @@ public class DeleteCommandTest {
         // Ensures precondition of the test is held before running.
         assertTrue(model.getFilteredPersonList().size() >= requiredInitialExpectedSize);
 
-        Set<Index> deleteIndexes = new HashSet<>();
-        deleteIndexes.add(INDEX_FIRST_PERSON);
-        deleteIndexes.add(INDEX_SECOND_PERSON);
-        deleteIndexes.add(INDEX_THIRD_PERSON);
-
-        // Add a duplicate index corresponding to the 2nd person index.
-        deleteIndexes.add(Index.fromOneBased(2));
-
+        // Includes a duplicate index corresponding to the 2nd person index.
+        IndexSelection deleteIndexes = IndexSelection.fromZeroBased(INDEX_FIRST_PERSON.getZeroBased(),
+                INDEX_SECOND_PERSON.getZeroBased(), INDEX_THIRD_PERSON.getZeroBased(),
+                Index.fromOneBased(2).getZeroBased());
 
         DeleteCommand deleteCommand = new DeleteCommand(deleteIndexes);
 
@@ -166,6 +165,52 @@ public class DeleteCommandTest {
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_moreIndexesThanListed_showsCountOnly() {
+        int personCount = DeleteCommand.MAX_LISTED_DELETED_PERSONS + 1;
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < personCount; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).withEmail("person" + i + "@example.com")
+                    .build());
+        }
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        DeleteCommand deleteCommand = new DeleteCommand(
+                IndexSelection.ofRange(INDEX_FIRST_PERSON, Index.fromOneBased(personCount)));
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PERSONS_COUNT_SUCCESS, personCount);
+
+        Model expectedModel = new ModelManager(addressBook, new UserPrefs());
+        expectedModel.deletePersons(List.copyOf(addressBook.getPersonList()));
+        expectedModel.commit();
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_allShownFilteredList_deletesShownPersonsOnly() {
+        Predicate<Person> isUntagged = person -> person.getTags().isEmpty();
+        model.updateFilteredPersonList(isUntagged);
+        List<Person> shownPersons = List.copyOf(model.getFilteredPersonList());
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_ALL_SHOWN_SUCCESS, shownPersons.size());
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.updateFilteredPersonList(isUntagged);
+        expectedModel.deletePersons(shownPersons);
+        expectedModel.commit();
+
+        assertCommandSuccess(DeleteCommand.allShown(), model, expectedMessage, expectedModel);
+        assertEquals(getTypicalAddressBook().getPersonList().size() - shownPersons.size(),
+                model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_allShownNoPersonShown_throwsCommandException() {
+        showNoPerson(model);
+
+        assertCommandFailure(DeleteCommand.allShown(), model, DeleteCommand.MESSAGE_NO_PERSONS_SHOWN);
+    }
+
     @Test
     public void equals() {
         DeleteCommand deleteFirstCommand = new DeleteCommand(INDEX_FIRST_PERSON);
@@ -186,13 +231,18 @@ public class DeleteCommandTest {
 
         // different person -> returns false
         assertFalse(deleteFirstCommand.equals(deleteSecondCommand));
+
+        // all shown persons -> returns false
+        assertFalse(deleteFirstCommand.equals(DeleteCommand.allShown()));
+        assertTrue(DeleteCommand.allShown().equals(DeleteCommand.allShown()));
     }
 
     @Test
     public void toStringMethod() {
         Index targetIndex = Index.fromOneBased(1);
         DeleteCommand deleteCommand = new DeleteCommand(targetIndex);
-        String expected = DeleteCommand.class.getCanonicalName() + "{targetIndex=" + targetIndex + "}";
+        String expected = DeleteCommand.class.getCanonicalName()
+                + "{targetIndexes=" + IndexSelection.of(targetIndex) + "}";
         assertEquals(expected, deleteCommand.toString());
     }
 
@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
@@ -8,8 +9,10 @@ import static seedu.address.logic.commands.HelpCommand.SHOWING_HELP_MESSAGE;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
 
 public class HelpCommandTest {
     private Model model = new ModelManager();
@@ -39,6 +42,17 @@ public class HelpCommandTest {
         assertTrue(result.getFeedbackToUser().contains(expectedFeedback));
     }
 
+    @Test
+    public void execute_helpDelete_showsConfiguredMassOpsLimit() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setMassOpsLimit(42);
+        Model limitedModel = new ModelManager(new AddressBook(), userPrefs);
+
+        CommandResult result = new HelpCommand(DeleteCommand.COMMAND_WORD).execute(limitedModel);
+        assertEquals(DeleteCommand.getUsage(42), result.getFeedbackToUser());
+        assertTrue(result.getFeedbackToUser().contains("up to 42 persons"));
+    }
+
     @Test
     public void execute_helpWithInvalidCommand_showsUnknownCommandMessage() {
         HelpCommand helpCommand = new HelpCommand("nonexistent");
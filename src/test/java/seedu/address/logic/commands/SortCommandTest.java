@@ -9,19 +9,28 @@ import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 
+import java.nio.file.Path;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for {@code SortCommand}.
  */
 public class SortCommandTest {
+    @TempDir
+    public Path testFolder;
+
     private Model model;
 
     @BeforeEach
@@ -128,6 +137,28 @@ public class SortCommandTest {
         assertTrue(model.getFilteredPersonList().get(4).getTags().isEmpty());
     }
 
+    @Test
+    public void execute_sortThenSaveAndReload_sortOrderKept() throws Exception {
+        model.addPerson(BENSON);
+        model.addPerson(ALICE);
+        model.addPerson(ELLE);
+        model.addPerson(DANIEL);
+        model.addPerson(CARL);
+        new SortCommand("n/").execute(model);
+
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(testFolder.resolve("preferences.json"));
+        addressBookStorage.saveAddressBook(model.getAddressBook());
+        userPrefsStorage.saveUserPrefs(model.getUserPrefs());
+        Model reloadedModel = new ModelManager(addressBookStorage.readAddressBook().get(),
+                userPrefsStorage.readUserPrefs().get());
+
+        // the address book keeps the order the persons were added in
+        assertEquals(List.of(BENSON, ALICE, ELLE, DANIEL, CARL), reloadedModel.getAddressBook().getPersonList());
+        assertEquals(List.of(ALICE, BENSON, CARL, DANIEL, ELLE), reloadedModel.getFilteredPersonList());
+    }
+
     @Test
     public void constructor_emptyPrefixes_throwsIllegalArgumentException() {
         String[] prefixes = new String[0];
@@ -4,13 +4,11 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
-import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
 
-import java.util.Set;
-
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.DeleteCommand;
 
 /**
@@ -29,6 +27,13 @@ public class DeleteCommandParserTest {
         assertParseSuccess(parser, "1", new DeleteCommand(INDEX_FIRST_PERSON));
     }
 
+    @Test
+    public void parse_allKeyword_returnsDeleteAllShownCommand() {
+        assertParseSuccess(parser, " all ", DeleteCommand.allShown());
+        assertParseFailure(parser, "all 1", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                DeleteCommand.MESSAGE_USAGE));
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
@@ -38,7 +43,7 @@ public class DeleteCommandParserTest {
     @Test
     public void parse_validMassOpsArgs_returnsDeleteCommand() {
         DeleteCommand expectedCommand = new DeleteCommand(
-                Set.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON, INDEX_THIRD_PERSON));
+                IndexSelection.ofRange(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON));
 
         // EP: valid spaced format
         assertParseSuccess(parser, " i/1 2 3", expectedCommand);
@@ -50,6 +55,12 @@ public class DeleteCommandParserTest {
         assertParseSuccess(parser, " i/3 ", new DeleteCommand(INDEX_THIRD_PERSON));
     }
 
+    @Test
+    public void parse_tooManyIndexes_usageShowsConfiguredLimit() {
+        assertParseFailure(new DeleteCommandParser(10), " i/1-11",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.getUsage(10)));
+    }
+
     @Test
     public void parse_invalidMassOpsArgs_throwsException() {
         assertParseFailure(parser, " i/12- 2 3 4",
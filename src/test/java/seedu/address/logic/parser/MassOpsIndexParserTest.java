@@ -10,21 +10,21 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
 
-import java.util.HashSet;
-import java.util.Set;
-
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.UserPrefs;
 
 public class MassOpsIndexParserTest {
     private MassOpsIndexParser massOpsIndexParser;
-    private final Set<Index> tripleIndexes = Set.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON, INDEX_THIRD_PERSON);
-    private final Set<Index> doubleIndexes = Set.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON);
+    private final IndexSelection tripleIndexes = IndexSelection.ofRange(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON);
+    private final IndexSelection doubleIndexes = IndexSelection.ofRange(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON);
     private final String singleIndexString = "12345";
-    private final Set<Index> singleIndex = Set.of(Index.fromOneBased(Integer.parseInt(singleIndexString)));
+    private final IndexSelection singleIndex =
+            IndexSelection.of(Index.fromOneBased(Integer.parseInt(singleIndexString)));
 
     @BeforeEach
     public void setUp() {
@@ -42,18 +42,18 @@ public class MassOpsIndexParserTest {
     @Test
     public void parseIndexes_invalidSpacePattern_exceptionThrown() {
         ParseException pe = assertThrows(ParseException.class, () -> massOpsIndexParser.parseIndexes("1    123oi"));
-        assertEquals(MassOpsIndexParser.MESSAGE_INVALID_INDEX, pe.getMessage());
+        assertEquals(withDefaultLimit(MassOpsIndexParser.MESSAGE_INVALID_INDEX), pe.getMessage());
     }
 
     @Test
     public void parseIndexes_overflowingIndex_exceptionThrown() {
         ParseException pe = assertThrows(
                 ParseException.class, () -> massOpsIndexParser.parseIndexes("18327234238349853457834975"));
-        assertEquals(MassOpsIndexParser.MESSAGE_INVALID_INDEX, pe.getMessage());
+        assertEquals(withDefaultLimit(MassOpsIndexParser.MESSAGE_INVALID_INDEX), pe.getMessage());
 
         ParseException pe1 = assertThrows(
                 ParseException.class, () -> massOpsIndexParser.parseIndexes("1293889123-124823723857349852378329747"));
-        assertEquals(MassOpsIndexParser.MESSAGE_INVALID_INDEX, pe1.getMessage());
+        assertEquals(withDefaultLimit(MassOpsIndexParser.MESSAGE_INVALID_INDEX), pe1.getMessage());
     }
 
     @Test
@@ -68,40 +68,56 @@ public class MassOpsIndexParserTest {
     @Test
     public void parseIndexes_invalidRangePattern_exceptionThrown() {
         ParseException pe = assertThrows(ParseException.class, () -> massOpsIndexParser.parseIndexes("1- 123oi"));
-        assertEquals(MassOpsIndexParser.MESSAGE_INVALID_INDEX, pe.getMessage());
+        assertEquals(withDefaultLimit(MassOpsIndexParser.MESSAGE_INVALID_INDEX), pe.getMessage());
     }
 
     @Test
     public void parseIndexes_rangeExceedsLimit_exceptionThrown() {
-        ParseException pe = assertThrows(ParseException.class, () -> massOpsIndexParser.parseIndexes("1-101"));
-        assertEquals(MassOpsIndexParser.MESSAGE_RANGE_SIZE_EXCEEDED, pe.getMessage());
+        ParseException pe = assertThrows(ParseException.class, () -> massOpsIndexParser.parseIndexes("1-100001"));
+        assertEquals(withDefaultLimit(MassOpsIndexParser.MESSAGE_RANGE_SIZE_EXCEEDED), pe.getMessage());
+        assertDoesNotThrow(() -> massOpsIndexParser.parseIndexes("1-100000"));
 
+        MassOpsIndexParser limitedParser = new MassOpsIndexParser(100);
         StringBuilder builder = new StringBuilder();
-        for (int i = 1; i <= MassOpsIndexParser.MAX_OPERATIONS_SIZE + 1; i++) {
+        for (int i = 1; i <= 101; i++) {
             builder.append(" ").append(i);
         }
         ParseException pe1 = assertThrows(
-                ParseException.class, () -> massOpsIndexParser.parseIndexes(builder.toString()));
-        assertEquals(MassOpsIndexParser.MESSAGE_RANGE_SIZE_EXCEEDED, pe1.getMessage());
+                ParseException.class, () -> limitedParser.parseIndexes(builder.toString()));
+        assertEquals(String.format(MassOpsIndexParser.MESSAGE_RANGE_SIZE_EXCEEDED, 100), pe1.getMessage());
+        assertTrue(pe1.getMessage().contains("(100 indexes"));
+        // Duplicates are not part of the count
+        String hundredIndexesWithDuplicates = builder.toString().replace(" 101", " 1 100");
+        assertDoesNotThrow(() -> limitedParser.parseIndexes(hundredIndexesWithDuplicates));
+    }
+
+    @Test
+    public void constructor_invalidLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new MassOpsIndexParser(0));
+    }
+
+    @Test
+    public void parseIndexes_spacedIndexes_mergedIntoRanges() throws ParseException {
+        IndexSelection indexes = massOpsIndexParser.parseIndexes("7 1 3 2 6");
+        assertEquals(IndexSelection.fromZeroBased(0, 1, 2, 5, 6), indexes);
+        assertEquals(5, indexes.size());
+        assertEquals(6, indexes.getHighestZeroBased());
     }
 
     @Test
     public void parseIndexes_invalidRangeBoundOrder_exceptionThrown() {
         ParseException pe = assertThrows(ParseException.class, () -> massOpsIndexParser.parseIndexes("100-2"));
-        assertEquals(MassOpsIndexParser.MESSAGE_INVALID_RANGE_ORDER, pe.getMessage());
+        assertEquals(withDefaultLimit(MassOpsIndexParser.MESSAGE_INVALID_RANGE_ORDER), pe.getMessage());
     }
 
     @Test
     public void parseIndexes_duplicateIndexes_duplicatesIgnored() {
         try {
-            Set<Index> expectedIndexes = new HashSet<>();
-            expectedIndexes.add(INDEX_FIRST_PERSON);
-            expectedIndexes.add(INDEX_SECOND_PERSON);
-            expectedIndexes.add(INDEX_THIRD_PERSON);
+            IndexSelection expectedIndexes = tripleIndexes;
 
-            Set<Index> resultIndexes = massOpsIndexParser.parseIndexes("1 2 2 3 3");
+            IndexSelection resultIndexes = massOpsIndexParser.parseIndexes("1 2 2 3 3");
             assertEquals(expectedIndexes, resultIndexes);
-            Set<Index> resultIndexesReversed = massOpsIndexParser.parseIndexes("3 2 1 1");
+            IndexSelection resultIndexesReversed = massOpsIndexParser.parseIndexes("3 2 1 1");
             assertEquals(expectedIndexes, resultIndexesReversed);
         } catch (ParseException pe) {
             fail();
@@ -111,9 +127,9 @@ public class MassOpsIndexParserTest {
     @Test
     public void parseIndexes_maxIntegerRange_success() {
         try {
-            Set<Index> indexes = massOpsIndexParser.parseIndexes("2147483647-2147483647");
+            IndexSelection indexes = massOpsIndexParser.parseIndexes("2147483647-2147483647");
             assertEquals(1, indexes.size());
-            assertTrue(indexes.contains(Index.fromOneBased(Integer.MAX_VALUE)));
+            assertEquals(Index.fromOneBased(Integer.MAX_VALUE).getZeroBased(), indexes.getHighestZeroBased());
         } catch (ParseException e) {
             fail();
         }
@@ -121,4 +137,8 @@ public class MassOpsIndexParserTest {
     }
 
 
+
+    private static String withDefaultLimit(String message) {
+        return String.format(message, UserPrefs.DEFAULT_MASS_OPS_LIMIT);
+    }
 }
@@ -45,6 +45,20 @@ public class AddressBookTest {
         assertEquals(newData, addressBook);
     }
 
+    @Test
+    public void snapshot_laterChanges_snapshotUnchanged() {
+        addressBook.addPerson(ALICE);
+        AddressBookSnapshot snapshot = addressBook.snapshot();
+        addressBook.addPerson(BENSON);
+
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+        assertEquals(addressBook.snapshot(), addressBook.snapshot());
+
+        addressBook.resetData(snapshot);
+        assertEquals(List.of(ALICE), addressBook.getPersonList());
+        assertFalse(addressBook.hasPerson(BENSON));
+    }
+
     private AddressBook getTypicalAddressBook() {
         AddressBook ab = new AddressBook();
         for (Person p : TypicalPersons.getTypicalPersons()) {
@@ -107,6 +121,22 @@ public class AddressBookTest {
     }
 
 
+    @Test
+    public void getSavedView_betweenSnapshots_nextSnapshotEstimateUnchanged() {
+        AddressBook viewed = new AddressBook();
+        AddressBook unviewed = new AddressBook();
+        for (AddressBook book : List.of(viewed, unviewed)) {
+            book.addPerson(ALICE);
+            book.addPerson(BENSON);
+            book.snapshot();
+            book.addPerson(CARL);
+        }
+
+        AddressBookSnapshot savedView = viewed.getSavedView();
+        assertEquals(List.of(ALICE, BENSON, CARL), savedView.getPersonList());
+        assertEquals(unviewed.snapshot().getEstimatedBytes(), viewed.snapshot().getEstimatedBytes());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
@@ -13,6 +13,7 @@ import static seedu.address.testutil.TypicalPersons.DANIEL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -94,6 +95,22 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void commit_addressBookUnchanged_sharesCommittedAddressBook() {
+        modelManager.addPerson(ALICE);
+        modelManager.commit();
+        long modificationCount = modelManager.getAddressBookModificationCount();
+        long bytesInMemory = modelManager.getUndoHistory().getBytesInMemory();
+
+        modelManager.updateFilteredPersonList(person -> false);
+        modelManager.commit();
+        assertEquals(bytesInMemory, modelManager.getUndoHistory().getBytesInMemory());
+        modelManager.undo();
+
+        assertEquals(modificationCount, modelManager.getAddressBookModificationCount());
+        assertEquals(1, modelManager.getFilteredPersonList().size());
+    }
+
     @Test
     public void undo_addPerson_success() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -328,6 +345,53 @@ public class ModelManagerTest {
         assertTrue(filteredList.contains(BENSON));
     }
 
+    @Test
+    public void updateSortedPersonList_atParallelSortThreshold_sameOrderAsSequentialSort() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(DANIEL).withPerson(BENSON)
+                .withPerson(CARL).withPerson(ALICE).build();
+        UserPrefs parallelSortPrefs = new UserPrefs();
+        parallelSortPrefs.setParallelSortThreshold(addressBook.getPersonList().size());
+        ModelManager parallelSortedModel = new ModelManager(addressBook, parallelSortPrefs);
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+
+        parallelSortedModel.updateSortedPersonList("n/");
+        modelManager.updateSortedPersonList("n/");
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, DANIEL), parallelSortedModel.getAddressBook().getPersonList());
+        assertEquals(modelManager.getAddressBook(), parallelSortedModel.getAddressBook());
+    }
+
+    @Test
+    public void constructor_sortPrefixesInUserPrefs_filteredListSorted() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(BENSON).withPerson(ALICE).build();
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setSortPrefixes(List.of("n/"));
+        modelManager = new ModelManager(addressBook, userPrefs);
+
+        assertEquals(List.of(ALICE, BENSON), modelManager.getFilteredPersonList());
+        assertEquals(List.of(BENSON, ALICE), modelManager.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void constructor_invalidSortPrefixesInUserPrefs_sortPrefixesIgnored() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(BENSON).withPerson(ALICE).build();
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setSortPrefixes(List.of("x/"));
+        modelManager = new ModelManager(addressBook, userPrefs);
+
+        assertEquals(List.of(BENSON, ALICE), modelManager.getFilteredPersonList());
+        assertEquals(List.of(), modelManager.getUserPrefs().getSortPrefixes());
+    }
+
+    @Test
+    public void updateSortedFilteredPersonList_undo_sortPrefixesInUserPrefsRestored() {
+        modelManager.updateSortedFilteredPersonList("n/");
+        modelManager.commit();
+        assertEquals(List.of("n/"), modelManager.getUserPrefs().getSortPrefixes());
+
+        modelManager.undo();
+        assertEquals(List.of(), modelManager.getUserPrefs().getSortPrefixes());
+    }
+
     @Test
     public void updateSortedFilteredPersonList_emptyList_noEffect() {
         AddressBook emptyAddressBook = new AddressBook();
@@ -349,6 +413,31 @@ public class ModelManagerTest {
         assertEquals(BENSON, filteredList.get(1));
     }
 
+    @Test
+    public void updateSortedFilteredPersonList_addPerson_personInSortOrder() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(CARL).withPerson(ALICE).build();
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        modelManager.updateSortedFilteredPersonList("n/");
+        modelManager.addPerson(BENSON);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), modelManager.getFilteredPersonList());
+        assertEquals(Arrays.asList(CARL, ALICE, BENSON), modelManager.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void updateSortedFilteredPersonList_undo_restoresPreviousOrder() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(CARL).withPerson(ALICE).build();
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        modelManager.updateSortedFilteredPersonList("n/");
+        modelManager.commit();
+        assertEquals(Arrays.asList(ALICE, CARL), modelManager.getFilteredPersonList());
+
+        modelManager.undo();
+        assertEquals(Arrays.asList(CARL, ALICE), modelManager.getFilteredPersonList());
+
+        modelManager.redo();
+        assertEquals(Arrays.asList(ALICE, CARL), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
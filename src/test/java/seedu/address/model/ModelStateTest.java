@@ -6,6 +6,8 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class ModelStateTest {
@@ -42,5 +44,9 @@ public class ModelStateTest {
         // different predicate -> returns false
         ModelState modelState4 = new ModelState(new AddressBook(), p -> false);
         assertFalse(modelState1.equals(modelState4));
+
+        // different sort prefixes -> returns false
+        ModelState modelState5 = new ModelState(new AddressBook(), PREDICATE_SHOW_ALL_PERSONS, List.of("n/"));
+        assertFalse(modelState1.equals(modelState5));
     }
 }
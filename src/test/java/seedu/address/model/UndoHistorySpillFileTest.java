@@ -0,0 +1,116 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Note;
+import seedu.address.model.person.NoteStore;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListEdit;
+import seedu.address.testutil.PersonBuilder;
+
+public class UndoHistorySpillFileTest {
+
+    private final UndoHistorySpillFile spillFile = new UndoHistorySpillFile();
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        spillFile.close();
+    }
+
+    @Test
+    public void readEdits_appendedEdits_sameEdits() throws IOException {
+        List<PersonListEdit> edits = List.of(PersonListEdit.set(0, ALICE), PersonListEdit.insert(1, BENSON),
+                PersonListEdit.remove(2));
+        UndoHistorySpillFile.Record record = spillFile.appendEdits(edits);
+
+        assertTrue(record.isEdits());
+        assertEquals(edits, spillFile.readEdits(record));
+    }
+
+    @Test
+    public void readSnapshot_appendedSnapshot_samePersons() throws IOException {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        UndoHistorySpillFile.Record record = spillFile.appendSnapshot(addressBook.snapshot());
+
+        assertEquals(List.of(ALICE, BENSON), spillFile.readSnapshot(record).getPersonList());
+    }
+
+    @Test
+    public void readSnapshot_storedNote_spilledAsKeyOfSameStore() throws IOException {
+        String text = "Met at the conference. ".repeat(20);
+        List<String> loadedKeys = new ArrayList<>();
+        NoteStore store = key -> {
+            loadedKeys.add(key);
+            return text;
+        };
+        AddressBook addressBook = new AddressBook();
+        Person withStoredNote = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(), ALICE.getAddress(),
+                Note.ofStored(Note.keyOf(text), store), ALICE.getTags(), ALICE.getPin());
+        addressBook.addPerson(withStoredNote);
+        addressBook.addPerson(BENSON);
+
+        UndoHistorySpillFile.Record record = spillFile.appendSnapshot(addressBook.snapshot());
+        Note readNote = spillFile.readSnapshot(record).getPersonList().get(0).getNote();
+
+        assertTrue(loadedKeys.isEmpty());
+        assertTrue(readNote.isStored());
+        assertSame(store, readNote.getStore());
+        assertEquals(text, readNote.getValue());
+    }
+
+    @Test
+    public void release_mostOfFileReleased_fileCompacted() throws IOException {
+        List<UndoHistorySpillFile.Record> records = new ArrayList<>();
+        for (int i = 0; spillFile.getLength() < UndoHistorySpillFile.MIN_COMPACTED_LENGTH; i++) {
+            records.add(spillFile.appendEdits(List.of(PersonListEdit.insert(i, personWithRandomNote(i)))));
+        }
+        UndoHistorySpillFile.Record kept = records.get(records.size() - 1);
+        List<PersonListEdit> keptEdits = spillFile.readEdits(kept);
+        long length = spillFile.getLength();
+
+        for (UndoHistorySpillFile.Record record : records.subList(0, records.size() - 1)) {
+            spillFile.release(record);
+        }
+        assertTrue(spillFile.getLength() <= length / 2);
+        assertEquals(keptEdits, spillFile.readEdits(kept));
+    }
+
+    @Test
+    public void release_everyRecordReleased_fileClosed() throws IOException {
+        UndoHistorySpillFile.Record first = spillFile.appendEdits(List.of(PersonListEdit.remove(0)));
+        UndoHistorySpillFile.Record second = spillFile.appendEdits(List.of(PersonListEdit.remove(1)));
+        spillFile.release(first);
+        assertTrue(spillFile.getLength() > 0);
+
+        spillFile.release(second);
+        assertEquals(0, spillFile.getLength());
+
+        // the file is opened again once written to
+        UndoHistorySpillFile.Record third = spillFile.appendEdits(List.of(PersonListEdit.remove(2)));
+        assertEquals(List.of(PersonListEdit.remove(2)), spillFile.readEdits(third));
+    }
+
+    private static Person personWithRandomNote(int i) {
+        // a random note keeps the compressed records from being too small to fill the file
+        StringBuilder note = new StringBuilder();
+        Random random = new Random(i);
+        for (int j = 0; j < 200; j++) {
+            note.append((char) ('a' + random.nextInt(26)));
+        }
+        return new PersonBuilder().withEmail("person" + i + "@example.com").withNote(note.toString()).build();
+    }
+}
@@ -0,0 +1,189 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class UndoHistoryTest {
+
+    private final AddressBook addressBook = new AddressBook();
+
+    @Test
+    public void constructor_invalidBudget_throwsIllegalArgumentException() {
+        ModelState state = new ModelState(addressBook.snapshot(), PREDICATE_SHOW_ALL_PERSONS);
+        assertThrows(IllegalArgumentException.class, () -> new UndoHistory(state, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new UndoHistory(state, 1, -1));
+    }
+
+    @Test
+    public void undoRedo_noStateToMoveTo_throwsIndexOutOfBoundsException() {
+        UndoHistory history = new UndoHistory(commitState(), 1, 0);
+        assertThrows(IndexOutOfBoundsException.class, history::undo);
+        assertThrows(IndexOutOfBoundsException.class, history::redo);
+    }
+
+    @Test
+    public void commit_overStateBudget_spillsOldestStates() {
+        UndoHistory history = new UndoHistory(commitState(), 2, Long.MAX_VALUE);
+        addressBook.addPerson(ALICE);
+        history.commit(commitState());
+        addressBook.addPerson(BENSON);
+        history.commit(commitState());
+        addressBook.addPerson(CARL);
+        history.commit(commitState());
+
+        assertEquals(2, history.getStatesInMemory());
+        assertEquals(2, history.getStatesSpilled());
+        assertTrue(history.getBytesSpilled() > 0);
+    }
+
+    @Test
+    public void undoRedo_spilledStates_restoredInOrder() {
+        Predicate<Person> isAlice = ALICE::equals;
+        UndoHistory history = new UndoHistory(commitState(), 1, 0);
+        addressBook.addPerson(ALICE);
+        history.commit(new ModelState(addressBook.snapshot(), isAlice, List.of("n/")));
+        Person editedAlice = new PersonBuilder(ALICE).withNote("Owes money").withTags().build();
+        addressBook.setPerson(ALICE, editedAlice);
+        history.commit(commitState());
+        assertEquals(2, history.getStatesSpilled());
+
+        ModelState aliceState = history.undo();
+        assertEquals(List.of(ALICE), aliceState.getAddressBookState().getPersonList());
+        assertEquals(isAlice, aliceState.getPredicate());
+        assertEquals(List.of("n/"), aliceState.getSortPrefixes());
+        assertEquals(List.of(), history.undo().getAddressBookState().getPersonList());
+        assertFalse(history.hasUndo());
+        assertEquals(0, history.getStatesSpilled());
+
+        history.redo();
+        assertEquals(List.of(editedAlice), history.redo().getAddressBookState().getPersonList());
+        assertFalse(history.hasRedo());
+    }
+
+    @Test
+    public void commit_afterUndoingSpilledStates_discardsUndoneStates() {
+        UndoHistory history = new UndoHistory(commitState(), 1, 0);
+        addressBook.addPerson(ALICE);
+        history.commit(commitState());
+        addressBook.addPerson(BENSON);
+        history.commit(commitState());
+        history.undo();
+
+        history.commit(commitState());
+        assertFalse(history.hasRedo());
+        assertEquals(1, history.getStatesInMemory());
+        assertEquals(2, history.getStatesSpilled());
+    }
+
+    @Test
+    public void equals_spilledAndUnspilledStates_sameHistory() {
+        UndoHistory spilling = new UndoHistory(commitState(), 1, 0);
+        UndoHistory unbounded = new UndoHistory(commitState(), Integer.MAX_VALUE, Long.MAX_VALUE);
+        addressBook.addPerson(ALICE);
+        ModelState state = commitState();
+        spilling.commit(state);
+        unbounded.commit(state);
+
+        assertEquals(1, spilling.getStatesSpilled());
+        assertEquals(spilling, unbounded);
+        assertEquals(1, spilling.getStatesSpilled());
+    }
+
+    @Test
+    public void commit_overBudgetAfterSmallChange_spillsEditsOnly() {
+        addPersons(100);
+        AddressBookSnapshot before = addressBook.snapshot();
+        addressBook.addPerson(ALICE);
+        AddressBookSnapshot after = addressBook.snapshot();
+
+        UndoHistory editsSpilled = new UndoHistory(new ModelState(before, PREDICATE_SHOW_ALL_PERSONS), 1, 0);
+        editsSpilled.commit(new ModelState(after, PREDICATE_SHOW_ALL_PERSONS));
+        // a copy of the address book does not follow up the edit log of the address book before it
+        UndoHistory addressBookSpilled = new UndoHistory(new ModelState(before, PREDICATE_SHOW_ALL_PERSONS), 1, 0);
+        addressBookSpilled.commit(new ModelState(new AddressBook(after).snapshot(), PREDICATE_SHOW_ALL_PERSONS));
+
+        assertEquals(1, editsSpilled.getStatesSpilled());
+        assertEquals(1, addressBookSpilled.getStatesSpilled());
+        assertTrue(editsSpilled.getBytesSpilled() * 10 < addressBookSpilled.getBytesSpilled());
+    }
+
+    @Test
+    public void undo_spilledEdits_sharesPersonsWithNextState() {
+        addPersons(100);
+        UndoHistory history = new UndoHistory(commitState(), 1, 0);
+        Person editedFirst = new PersonBuilder(addressBook.getPersonList().get(0)).withTags("edited").build();
+        addressBook.setPerson(addressBook.getPersonList().get(0), editedFirst);
+        ModelState nextState = commitState();
+        history.commit(nextState);
+        assertEquals(1, history.getStatesSpilled());
+
+        List<Person> nextPersons = nextState.getAddressBookState().getPersonList();
+        List<Person> restoredPersons = history.undo().getAddressBookState().getPersonList();
+        assertNotEquals(editedFirst, restoredPersons.get(0));
+        for (int i = 1; i < nextPersons.size(); i++) {
+            assertSame(nextPersons.get(i), restoredPersons.get(i));
+        }
+    }
+
+    @Test
+    public void commit_overBudgetWithSharedAddressBook_spillsNothingForSharedAddressBook() {
+        UndoHistory history = new UndoHistory(commitState(), 1, 0);
+        addressBook.addPerson(ALICE);
+        AddressBookSnapshot snapshot = addressBook.snapshot();
+        history.commit(new ModelState(snapshot, PREDICATE_SHOW_ALL_PERSONS));
+        long bytesSpilled = history.getBytesSpilled();
+
+        history.commit(new ModelState(snapshot, ALICE::equals));
+        assertEquals(2, history.getStatesSpilled());
+        assertEquals(bytesSpilled, history.getBytesSpilled());
+        assertSame(snapshot, history.undo().getAddressBookState());
+    }
+
+    @Test
+    public void undoRedo_statesSpilledTwice_restoredInOrder() {
+        UndoHistory history = new UndoHistory(commitState(), 1, 0);
+        addressBook.addPerson(ALICE);
+        history.commit(commitState());
+        addressBook.addPerson(BENSON);
+        history.commit(commitState());
+
+        history.undo();
+        history.undo();
+        history.redo();
+        history.redo();
+        addressBook.addPerson(CARL);
+        history.commit(commitState());
+        assertEquals(3, history.getStatesSpilled());
+
+        assertEquals(List.of(ALICE, BENSON), history.undo().getAddressBookState().getPersonList());
+        assertEquals(List.of(ALICE), history.undo().getAddressBookState().getPersonList());
+        assertEquals(List.of(), history.undo().getAddressBookState().getPersonList());
+    }
+
+    private void addPersons(int count) {
+        for (int i = 0; i < count; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).withEmail("person" + i + "@example.com")
+                    .withAddress("Block " + i + ", Clementi Ave 2").build());
+        }
+    }
+
+    private ModelState commitState() {
+        return new ModelState(addressBook.snapshot(), PREDICATE_SHOW_ALL_PERSONS);
+    }
+}
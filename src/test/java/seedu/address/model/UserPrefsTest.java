@@ -18,4 +18,36 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setParallelSortThreshold_negativeThreshold_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, UserPrefs.MESSAGE_PARALLEL_SORT_THRESHOLD_CONSTRAINTS, ()
+            -> userPrefs.setParallelSortThreshold(-1));
+    }
+
+    @Test
+    public void setParallelLoadThreshold_negativeThreshold_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, UserPrefs.MESSAGE_PARALLEL_LOAD_THRESHOLD_CONSTRAINTS, ()
+            -> userPrefs.setParallelLoadThreshold(-1));
+    }
+
+    @Test
+    public void setMassOpsLimit_outOfBoundsLimit_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, UserPrefs.MESSAGE_MASS_OPS_LIMIT_CONSTRAINTS, ()
+            -> userPrefs.setMassOpsLimit(0));
+        assertThrows(IllegalArgumentException.class, UserPrefs.MESSAGE_MASS_OPS_LIMIT_CONSTRAINTS, ()
+            -> userPrefs.setMassOpsLimit(UserPrefs.MAX_MASS_OPS_LIMIT + 1));
+    }
+
+    @Test
+    public void setUndoHistoryBudget_invalidBudget_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, UndoHistory.MESSAGE_BUDGET_CONSTRAINTS, ()
+            -> userPrefs.setUndoHistoryBudget(0, 1));
+        assertThrows(IllegalArgumentException.class, UndoHistory.MESSAGE_BUDGET_CONSTRAINTS, ()
+            -> userPrefs.setUndoHistoryBudget(1, -1));
+    }
+
 }
@@ -2,7 +2,9 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertSameAsRegex;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.StringSamples.allStrings;
 
 import org.junit.jupiter.api.Test;
 
@@ -34,6 +36,12 @@ public class AddressTest {
         assertTrue(Address.isValidAddress("Leng Inc; 1234 Market St; San Francisco CA 2349879; USA")); // long address
     }
 
+    @Test
+    public void isValidAddress_sameAsValidationRegex() {
+        assertSameAsRegex(Address.VALIDATION_REGEX, Address::isValidAddress,
+                allStrings(" a#\t\n\r\u000c\u0085\u2028", 5));
+    }
+
     @Test
     public void equals() {
         Address address = new Address("Valid Address");
@@ -1,8 +1,12 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertSameAsRegex;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.StringSamples.allStrings;
+import static seedu.address.testutil.StringSamples.randomStrings;
 
 import org.junit.jupiter.api.Test;
 
@@ -66,6 +70,15 @@ public class EmailTest {
         assertTrue(Email.isValidEmail("e1234567@u.nus.edu")); // more than one period in domain
     }
 
+    @Test
+    public void isValidEmail_sameAsValidationRegex() {
+        assertSameAsRegex(Email.VALIDATION_REGEX, Email::isValidEmail, allStrings("a.-_+@", 7));
+        assertSameAsRegex(Email.VALIDATION_REGEX, Email::isValidEmail,
+                randomStrings("aZ09_.+-@ \u00e9\n", 30, 100_000, 1));
+        assertSameAsRegex(Email.VALIDATION_REGEX, Email::isValidEmail,
+                randomStrings("ab.-@", 12, 100_000, 2));
+    }
+
     @Test
     public void equals() {
         Email email = new Email("valid@email");
@@ -84,5 +97,18 @@ public class EmailTest {
 
         // different values -> returns false
         assertFalse(email.equals(new Email("other.valid@email")));
+
+        // different case -> returns true
+        assertTrue(email.equals(new Email("VALID@Email")));
+    }
+
+    @Test
+    public void hashCode_differentCase_consistentWithEquals() {
+        assertEquals(new Email("valid@email").hashCode(), new Email("VALID@Email").hashCode());
+    }
+
+    @Test
+    public void getIdentityKey() {
+        assertEquals("valid@email", new Email("Valid@EMAIL").getIdentityKey());
     }
 }
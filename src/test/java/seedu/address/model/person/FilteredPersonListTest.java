@@ -4,6 +4,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -61,6 +64,19 @@ public class FilteredPersonListTest {
         assertEquals("wall street", filteredPersonList.getSortedList().get(3).getAddress().toString());
     }
 
+    @Test
+    public void sortByFilteredList_atParallelSortThreshold_sameOrderAsSequentialSort() {
+        FilteredPersonList parallelSortedList = new FilteredPersonList(personList, personList.size());
+        for (String[] prefixes : new String[][] {{"n/"}, {"p/"}, {"t/"}, {"t/", "n/"}}) {
+            filteredPersonList.sortByFilteredList(prefixes);
+            parallelSortedList.sortByFilteredList(prefixes);
+            assertEquals(filteredPersonList.getSortedList(), parallelSortedList.getSortedList());
+        }
+
+        personList.add(TypicalPersons.ELLE);
+        assertEquals(filteredPersonList.getSortedList(), parallelSortedList.getSortedList());
+    }
+
     @Test
     public void sortByTags_sortedList_sortedByTags() {
         filteredPersonList.sortByFilteredList("t/");
@@ -108,6 +124,36 @@ public class FilteredPersonListTest {
         assertEquals("wall street", filteredPersonList.getSortedList().get(3).getAddress().toString());
     }
 
+    @Test
+    public void sortByFilteredList_sourceListChanges_staysSorted() {
+        filteredPersonList.sortByFilteredList("n/");
+        personList.add(TypicalPersons.BOB);
+        personList.remove(TypicalPersons.BENSON);
+        assertEquals(Arrays.asList(TypicalPersons.ALICE, TypicalPersons.BOB, TypicalPersons.CARL,
+                TypicalPersons.DANIEL), filteredPersonList.getSortedList());
+    }
+
+    @Test
+    public void setPredicate_sortedList_keepsSortOrder() {
+        filteredPersonList.sortByFilteredList("p/");
+        filteredPersonList.setPredicate(person -> !person.equals(TypicalPersons.ALICE));
+        assertEquals(Arrays.asList(TypicalPersons.DANIEL, TypicalPersons.CARL, TypicalPersons.BENSON),
+                filteredPersonList.getSortedList());
+    }
+
+    @Test
+    public void setSortPrefixes() {
+        filteredPersonList.setSortPrefixes(List.of("n/"));
+        assertEquals(List.of("n/"), filteredPersonList.getSortPrefixes());
+        assertEquals(Arrays.asList(TypicalPersons.ALICE, TypicalPersons.BENSON, TypicalPersons.CARL,
+                TypicalPersons.DANIEL), filteredPersonList.getSortedList());
+
+        // empty prefixes -> order of source list restored
+        filteredPersonList.setSortPrefixes(List.of());
+        assertTrue(filteredPersonList.getSortPrefixes().isEmpty());
+        assertEquals(personList, filteredPersonList.getSortedList());
+    }
+
     @Test
     public void sortBy_emptyList_sortedListEmpty() {
         ObservableList<Person> emptyList = FXCollections.observableArrayList();
@@ -2,7 +2,10 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertSameAsRegex;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.StringSamples.allStrings;
+import static seedu.address.testutil.StringSamples.randomStrings;
 
 import org.junit.jupiter.api.Test;
 
@@ -43,6 +46,13 @@ public class NameTest {
         assertTrue(Name.isValidName("J.R. Smith"));
     }
 
+    @Test
+    public void isValidName_sameAsValidationRegex() {
+        assertSameAsRegex(Name.VALIDATION_REGEX, Name::isValidName, allStrings(" a\t\n\r\u000b\u0085\u2028", 5));
+        assertSameAsRegex(Name.VALIDATION_REGEX, Name::isValidName,
+                randomStrings(" aZ0\t\n\r\u0001\u0085\u2029\ud83d\ude00", 20, 100_000, 1));
+    }
+
     @Test
     public void equals() {
         Name name = new Name("Valid Name");
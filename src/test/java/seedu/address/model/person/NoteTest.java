@@ -56,12 +56,40 @@ public class NoteTest {
         assertFalse(note.equals("Other Valid Note")); // float
     }
 
+    @Test
+    public void ofStored_loadedOnlyWhenNeeded() {
+        String text = "A long note. ".repeat(Note.MIN_STORED_LENGTH);
+        int[] loads = new int[1];
+        Note note = Note.ofStored(Note.keyOf(text), key -> {
+            loads[0]++;
+            return text;
+        });
+
+        // equal to the note it was stored from, without loading it
+        assertTrue(note.isStored());
+        assertEquals(new Note(text), note);
+        assertEquals(new Note(text).hashCode(), note.hashCode());
+        assertFalse(note.equals(new Note("Other note")));
+        assertEquals(0, loads[0]);
+
+        assertEquals(text, note.getValue());
+        assertEquals(1, loads[0]);
+    }
+
+    @Test
+    public void isValidKey() {
+        assertTrue(Note.isValidKey(Note.keyOf("")));
+        assertFalse(Note.isValidKey("")); // empty
+        assertFalse(Note.isValidKey(Note.keyOf("").toUpperCase())); // uppercase hex
+        assertFalse(Note.isValidKey(Note.keyOf("").substring(1))); // too short
+    }
+
     @Test
     public void createDefaultNote() {
         Note defaultNote = Note.createDefaultNote();
 
         // value
-        assertEquals(DEFAULT_NOTE_VALUE, defaultNote.value);
+        assertEquals(DEFAULT_NOTE_VALUE, defaultNote.getValue());
 
         // string
         assertEquals(BLANK_NOTE_VALUE, defaultNote.toString());
@@ -0,0 +1,52 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class PersonListEditLogTest {
+
+    private final PersonListEditLog emptyLog = PersonListEditLog.empty();
+
+    @Test
+    public void getEditsSince_earlierLog_editsInBetween() {
+        PersonListEditLog earlier = emptyLog.append(PersonListEdit.insert(0, ALICE));
+        PersonListEditLog later = earlier.append(PersonListEdit.set(0, BENSON)).append(PersonListEdit.remove(0));
+
+        assertEquals(Optional.of(List.of(PersonListEdit.set(0, BENSON), PersonListEdit.remove(0))),
+                later.getEditsSince(earlier));
+        assertEquals(Optional.of(List.of()), later.getEditsSince(later));
+    }
+
+    @Test
+    public void getEditsSince_logOfAnotherList_empty() {
+        PersonListEditLog otherLog = PersonListEditLog.empty().append(PersonListEdit.insert(0, ALICE));
+        assertFalse(otherLog.getEditsSince(emptyLog).isPresent());
+    }
+
+    @Test
+    public void getEditsSince_resetInBetween_empty() {
+        PersonListEditLog reset = emptyLog.reset().append(PersonListEdit.insert(0, ALICE));
+        assertFalse(reset.getEditsSince(emptyLog).isPresent());
+    }
+
+    @Test
+    public void append_fullLog_oldestEditDropped() {
+        PersonListEditLog log = emptyLog;
+        for (int i = 0; i < PersonListEditLog.MAX_SIZE; i++) {
+            log = log.append(PersonListEdit.insert(i, ALICE));
+        }
+        PersonListEditLog full = log;
+        log = log.append(PersonListEdit.remove(0));
+
+        assertFalse(log.getEditsSince(emptyLog).isPresent());
+        assertEquals(Optional.of(List.of(PersonListEdit.remove(0))), log.getEditsSince(full));
+        assertEquals(PersonListEditLog.MAX_SIZE + 1, log.getEnd());
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSortKeyTest {
+
+    @Test
+    public void of_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersonSortKey.of(null));
+    }
+
+    @Test
+    public void getPerson() {
+        assertSame(ALICE, PersonSortKey.of(ALICE).getPerson());
+    }
+
+    @Test
+    public void comparatorFor_tags_independentOfTagInsertionOrder() {
+        Person bensonWithReorderedTags = new PersonBuilder(BENSON).withTags("friends", "owesMoney").build();
+        Comparator<PersonSortKey> comparator = PersonSortKey.comparatorFor("t/");
+        assertEquals(0, comparator.compare(PersonSortKey.of(BENSON), PersonSortKey.of(bensonWithReorderedTags)));
+    }
+
+    @Test
+    public void comparatorFor_email_ignoresCase() {
+        Person upperCaseAlice = new PersonBuilder(ALICE).withEmail("ALICE@example.com").build();
+        Comparator<PersonSortKey> comparator = PersonSortKey.comparatorFor("e/");
+        assertEquals(0, comparator.compare(PersonSortKey.of(ALICE), PersonSortKey.of(upperCaseAlice)));
+        assertTrue(comparator.compare(PersonSortKey.of(upperCaseAlice), PersonSortKey.of(BOB)) < 0);
+    }
+
+    @Test
+    public void comparatorFor_invalidPrefixes_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, "Invalid sort prefix.", () -> PersonSortKey.comparatorFor("x/"));
+        assertThrows(IllegalArgumentException.class, "Invalid combination of prefixes.", ()
+            -> PersonSortKey.comparatorFor("t/", "x/"));
+        assertThrows(IllegalArgumentException.class, "Invalid combination of prefixes.", ()
+            -> PersonSortKey.comparatorFor("n/", "p/"));
+        assertThrows(IllegalArgumentException.class, "Invalid number of prefixes.", ()
+            -> PersonSortKey.comparatorFor("t/", "n/", "p/"));
+    }
+
+    @Test
+    public void sortOrderFor_pinnedPersonsFirst() {
+        Person pinnedCarl = new Person(CARL.getName(), CARL.getPhone(), CARL.getEmail(), CARL.getAddress(),
+                CARL.getNote(), CARL.getTags(), new Pin(true));
+        Comparator<PersonSortKey> sortOrder = PersonSortKey.sortOrderFor("n/");
+        assertTrue(sortOrder.compare(PersonSortKey.of(pinnedCarl), PersonSortKey.of(ALICE)) < 0);
+        assertTrue(sortOrder.compare(PersonSortKey.of(ALICE), PersonSortKey.of(CARL)) < 0);
+    }
+
+    @Test
+    public void sort_equalKeys_retainsOriginalOrder() {
+        List<Person> persons = Arrays.asList(CARL, BENSON, DANIEL, ALICE);
+        Person[] sorted = PersonSortKey.sort(persons, PersonSortKey.comparatorFor("t/"));
+        assertEquals(Arrays.asList(DANIEL, ALICE, BENSON, CARL), Arrays.asList(sorted));
+    }
+}
@@ -2,7 +2,10 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertSameAsRegex;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.StringSamples.allStrings;
+import static seedu.address.testutil.StringSamples.randomStrings;
 
 import org.junit.jupiter.api.Test;
 
@@ -38,6 +41,13 @@ public class PhoneTest {
         assertTrue(Phone.isValidPhone("124293842033123")); // long phone numbers
     }
 
+    @Test
+    public void isValidPhone_sameAsValidationRegex() {
+        assertSameAsRegex(Phone.VALIDATION_REGEX, Phone::isValidPhone, allStrings("0a", 16));
+        assertSameAsRegex(Phone.VALIDATION_REGEX, Phone::isValidPhone,
+                randomStrings("0123456789 +a\u0663", 18, 100_000, 1));
+    }
+
     @Test
     public void equals() {
         Phone phone = new Phone("999");
@@ -2,23 +2,30 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ISABELLE;
 import static seedu.address.testutil.TypicalPersons.RACHEL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -51,6 +58,49 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithDifferentEmailCaseInList_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person upperCaseAlice = new PersonBuilder(ALICE).withEmail(ALICE.getEmail().value.toUpperCase()).build();
+        assertTrue(uniquePersonList.contains(upperCaseAlice));
+    }
+
+    @Test
+    public void contains_removedPerson_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_afterSetPersonWithDifferentIdentity_tracksNewIdentity() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void contains_afterSetPersons_tracksReplacementIdentities() {
+        uniquePersonList.add(ALICE);
+        UniquePersonList replacement = new UniquePersonList();
+        replacement.add(BOB);
+        uniquePersonList.setPersons(replacement);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+
+        uniquePersonList.setPersons(Collections.singletonList(ALICE));
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void add_duplicateEmailDifferentCase_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        Person upperCaseAlice = new PersonBuilder(BOB).withEmail(ALICE.getEmail().value.toUpperCase()).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(upperCaseAlice));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -166,6 +216,21 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSeveralDuplicates_reportsEveryDuplicateEmail() {
+        Person upperCaseBob = new PersonBuilder(ALICE).withEmail(BOB.getEmail().value.toUpperCase()).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, ALICE, upperCaseBob, ALICE);
+        try {
+            uniquePersonList.setPersons(listWithDuplicatePersons);
+            fail();
+        } catch (DuplicatePersonException dpe) {
+            assertEquals(Arrays.asList(ALICE.getEmail().value, upperCaseBob.getEmail().value),
+                    dpe.getDuplicateEmails());
+        }
+        // a rejected replacement leaves the list untouched
+        assertEquals(new UniquePersonList(), uniquePersonList);
+    }
+
     @Test
     public void pinPerson_existingPerson_movesToFirstPosition() {
         uniquePersonList.add(ALICE);
@@ -174,6 +239,43 @@ public class UniquePersonListTest {
         assertEquals(BOB, uniquePersonList.asUnmodifiableObservableList().get(0));
     }
 
+    @Test
+    public void pinPerson_existingPerson_movedToFront() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, BOB, DANIEL));
+
+        Person pinnedBob = withPin(BOB, true);
+        uniquePersonList.setPerson(BOB, pinnedBob);
+        uniquePersonList.pinPerson(pinnedBob);
+
+        assertEquals(Arrays.asList(pinnedBob, ALICE, BENSON, DANIEL),
+                uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void pinUnpinPerson_largeList_recordedAsEdits() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            persons.add(new PersonBuilder().withEmail("person" + i + "@example.com").build());
+        }
+        uniquePersonList.setPersons(persons);
+        uniquePersonList.asPersistentList();
+        PersonListEditLog editLog = uniquePersonList.getEditLog();
+        long writeCount = uniquePersonList.getPersistentWriteCount();
+
+        Person pinned = withPin(persons.get(900), true);
+        uniquePersonList.setPerson(persons.get(900), pinned);
+        uniquePersonList.pinPerson(pinned);
+        assertEquals(pinned, uniquePersonList.asUnmodifiableObservableList().get(0));
+        assertEquals(3, uniquePersonList.getEditLog().getEditsSince(editLog).get().size());
+
+        Person unpinned = withPin(pinned, false);
+        uniquePersonList.setPerson(pinned, unpinned);
+        uniquePersonList.unpinPerson(unpinned);
+        assertEquals(4, uniquePersonList.getEditLog().getEditsSince(editLog).get().size());
+        assertEquals(uniquePersonList.asUnmodifiableObservableList(), uniquePersonList.asPersistentList());
+        assertTrue(uniquePersonList.getPersistentWriteCount() - writeCount <= 4);
+    }
+
     @Test
     public void pinPerson_nonExistentPerson_throwsPersonNotFoundException() {
         assertThrows(PersonNotFoundException.class, () -> uniquePersonList.pinPerson(ALICE));
@@ -240,6 +342,65 @@ public class UniquePersonListTest {
 
 
 
+    @Test
+    public void prioritisePins_interleavedPins_partitionsStably() {
+        Person pinnedBenson = withPin(BENSON, true);
+        Person pinnedDaniel = withPin(DANIEL, true);
+        uniquePersonList.setPersons(Arrays.asList(ALICE, pinnedBenson, BOB, pinnedDaniel));
+
+        uniquePersonList.prioritisePins();
+
+        assertEquals(Arrays.asList(pinnedBenson, pinnedDaniel, ALICE, BOB),
+                uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void prioritisePins_interleavedPins_publishesSingleChange() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, withPin(BENSON, true), BOB, withPin(DANIEL, true)));
+        List<ListChangeListener.Change<? extends Person>> changes = recordChanges();
+
+        uniquePersonList.prioritisePins();
+
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void prioritisePins_alreadyPartitioned_publishesNoChange() {
+        uniquePersonList.setPersons(Arrays.asList(withPin(BENSON, true), ALICE, BOB));
+        List<ListChangeListener.Change<? extends Person>> changes = recordChanges();
+
+        uniquePersonList.prioritisePins();
+
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void unpinPerson_personInPinnedSegment_movesToEndOfSegment() {
+        Person pinnedAlice = withPin(ALICE, true);
+        Person pinnedBenson = withPin(BENSON, true);
+        Person pinnedDaniel = withPin(DANIEL, true);
+        uniquePersonList.setPersons(Arrays.asList(pinnedAlice, pinnedBenson, pinnedDaniel, BOB));
+
+        uniquePersonList.setPerson(pinnedAlice, ALICE);
+        uniquePersonList.unpinPerson(ALICE);
+
+        assertEquals(Arrays.asList(pinnedBenson, pinnedDaniel, ALICE, BOB),
+                uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void unpinPerson_pinnedPersonOutsideSegment_partitionsWholeList() {
+        Person pinnedBenson = withPin(BENSON, true);
+        Person pinnedDaniel = withPin(DANIEL, true);
+        uniquePersonList.setPersons(Arrays.asList(ALICE, pinnedBenson, BOB, pinnedDaniel));
+
+        uniquePersonList.setPerson(pinnedBenson, BENSON);
+        uniquePersonList.unpinPerson(BENSON);
+
+        assertEquals(Arrays.asList(pinnedDaniel, ALICE, BENSON, BOB),
+                uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -251,6 +412,42 @@ public class UniquePersonListTest {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
     }
 
+    @Test
+    public void removeAll_existingPersons_removesPersonsWithSingleChange() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, BOB, DANIEL));
+        List<ListChangeListener.Change<? extends Person>> changes = recordChanges();
+
+        uniquePersonList.removeAll(Arrays.asList(DANIEL, ALICE));
+        assertEquals(Arrays.asList(BENSON, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changes.size());
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.contains(DANIEL));
+        assertTrue(uniquePersonList.contains(BENSON));
+    }
+
+    @Test
+    public void removeAll_personNotInList_throwsPersonNotFoundException() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removeAll(Arrays.asList(BENSON, BOB)));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removeAll(List.of(editedAlice)));
+        assertEquals(Arrays.asList(ALICE, BENSON), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(BENSON));
+    }
+
+    @Test
+    public void removeAll_pinnedPersons_keepsPinnedSegment() {
+        Person pinnedBenson = withPin(BENSON, true);
+        Person pinnedDaniel = withPin(DANIEL, true);
+        uniquePersonList.setPersons(Arrays.asList(pinnedBenson, pinnedDaniel, ALICE, BOB));
+
+        uniquePersonList.removeAll(List.of(pinnedBenson));
+        uniquePersonList.setPerson(pinnedDaniel, DANIEL);
+        uniquePersonList.unpinPerson(DANIEL);
+        assertEquals(Arrays.asList(DANIEL, ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void sortBy_namePrefix() {
         uniquePersonList.add(ALICE);
@@ -343,6 +540,51 @@ public class UniquePersonListTest {
         assertEquals(BENSON, uniquePersonList.asUnmodifiableObservableList().get(2));
     }
 
+    @Test
+    public void sortBy_pinnedPersons_pinnedPersonsFirstInSortOrder() {
+        Person pinnedBenson = withPin(BENSON, true);
+        Person pinnedDaniel = withPin(DANIEL, true);
+        uniquePersonList.setPersons(Arrays.asList(pinnedDaniel, BOB, pinnedBenson, ALICE));
+        List<ListChangeListener.Change<? extends Person>> changes = recordChanges();
+
+        uniquePersonList.sortBy("n/");
+        assertEquals(Arrays.asList(pinnedBenson, pinnedDaniel, ALICE, BOB),
+                uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void sortBy_tagsPrefix_untaggedPersonsLast() {
+        Person untaggedAmy = new PersonBuilder(AMY).withTags().build();
+        uniquePersonList.add(untaggedAmy);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.sortBy("t/");
+        assertEquals(Arrays.asList(BOB, ALICE, untaggedAmy), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sortBy_aboveParallelSortThreshold_sameOrderAsSequentialSort() {
+        List<Person> persons = new ArrayList<>();
+        String[] tags = {"friends", "colleagues", "family"};
+        for (int i = 0; i < 500; i++) {
+            Person person = new PersonBuilder().withName("Person " + (i % 7))
+                    .withPhone(String.valueOf(80000000 + i % 13)).withEmail("person" + i + "@example.com")
+                    .withTags(tags[i % tags.length]).build();
+            persons.add(withPin(person, i % 11 == 0));
+        }
+        Collections.shuffle(persons, new Random(42));
+
+        UniquePersonList parallelSortedList = new UniquePersonList();
+        parallelSortedList.setPersons(persons);
+        uniquePersonList.setPersons(persons);
+        for (String[] prefixes : new String[][] {{"n/"}, {"p/"}, {"t/"}, {"t/", "n/"}}) {
+            uniquePersonList.sortBy(prefixes);
+            parallelSortedList.sortBy(0, prefixes);
+            assertEquals(uniquePersonList, parallelSortedList);
+        }
+    }
+
     @Test
     public void sortBy_invalidPrefix_throwsException() {
         assertThrows(IllegalArgumentException.class, () -> uniquePersonList.sortBy("x/"));
@@ -365,4 +607,70 @@ public class UniquePersonListTest {
         assertThrows(IllegalArgumentException.class, () -> uniquePersonList.sortBy("t/", "n/", "e/"));
         assertThrows(IllegalArgumentException.class, () -> uniquePersonList.sortBy("a/", "b/", "c/"));
     }
+
+    @Test
+    public void asPersistentList_tracksEveryKindOfChange() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        PersistentList<Person> beforeChanges = uniquePersonList.asPersistentList();
+
+        Person pinnedDaniel = withPin(DANIEL, true);
+        uniquePersonList.add(DANIEL);
+        uniquePersonList.setPerson(DANIEL, pinnedDaniel);
+        uniquePersonList.pinPerson(pinnedDaniel);
+        uniquePersonList.remove(ALICE);
+        assertEquals(List.of(pinnedDaniel, BENSON), uniquePersonList.asPersistentList());
+
+        uniquePersonList.sortBy("n/");
+        uniquePersonList.setPersons(Arrays.asList(BOB, AMY));
+        assertEquals(List.of(BOB, AMY), uniquePersonList.asPersistentList());
+
+        // earlier versions are unaffected by later changes
+        assertEquals(List.of(ALICE, BENSON), beforeChanges);
+    }
+
+    @Test
+    public void getEditLog_smallChanges_editsReplayToList() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        List<Person> replayed = new ArrayList<>(uniquePersonList.asUnmodifiableObservableList());
+        PersonListEditLog beforeChanges = uniquePersonList.getEditLog();
+
+        Person pinnedDaniel = withPin(DANIEL, true);
+        uniquePersonList.add(DANIEL);
+        uniquePersonList.setPerson(DANIEL, pinnedDaniel);
+        uniquePersonList.pinPerson(pinnedDaniel);
+        uniquePersonList.remove(ALICE);
+
+        uniquePersonList.getEditLog().getEditsSince(beforeChanges).get().forEach(edit -> edit.applyTo(replayed));
+        assertEquals(uniquePersonList.asUnmodifiableObservableList(), replayed);
+    }
+
+    @Test
+    public void setPersons_persistentList_sharesList() {
+        PersistentList<Person> persons = PersistentList.copyOf(List.of(ALICE, BENSON));
+        uniquePersonList.setPersons(persons);
+        assertSame(persons, uniquePersonList.asPersistentList());
+
+        UniquePersonList copy = new UniquePersonList();
+        copy.setPersons(uniquePersonList);
+        assertSame(persons, copy.asPersistentList());
+    }
+
+    /**
+     * Returns a copy of {@code person} with the given pin status.
+     */
+    private static Person withPin(Person person, boolean isPinned) {
+        return new Person(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                person.getNote(), person.getTags(), new Pin(isPinned));
+    }
+
+    /**
+     * Returns a list that records every change subsequently published by {@code uniquePersonList}.
+     */
+    private List<ListChangeListener.Change<? extends Person>> recordChanges() {
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) changes::add);
+        return changes;
+    }
 }
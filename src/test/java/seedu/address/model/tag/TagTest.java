@@ -1,7 +1,9 @@
 package seedu.address.model.tag;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertSameAsRegex;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.StringSamples.allStrings;
 
 import org.junit.jupiter.api.Test;
 
@@ -51,4 +53,9 @@ public class TagTest {
         tagWithExtraSpaces = new Tag("urgent  task  123");
         assertTrue(tagWithExtraSpaces.toString().equals("[urgent task 123]"));
     }
+
+    @Test
+    public void isValidTagName_sameAsValidationRegex() {
+        assertSameAsRegex(Tag.VALIDATION_REGEX, Tag::isValidTagName, allStrings(" aZ0_\t\u00e9", 5));
+    }
 }
@@ -0,0 +1,333 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Pin;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An address book of generated persons, which are the same for the same seed and settings, to try out and benchmark
+ * the app at the scale of real address books. A person is generated whenever it is read from the person list, so the
+ * address book can be saved by any {@code AddressBookStorage} one person at a time without holding all of its persons
+ * in memory.
+ *
+ * First names, last names, streets and email domains are drawn from short lists of common ones, and tags from a
+ * vocabulary of {@code tagVocabularySize} tags, all by Zipf distributions, so that a few of each are very common and
+ * most are rare. The given ratios of the persons are pinned, have a note long enough to be kept in the note file, or
+ * have a near-duplicate name: the name of an earlier person with one or two letters changed, as found by fuzzy search.
+ */
+public class SyntheticAddressBook implements ReadOnlyAddressBook {
+
+    public static final String MESSAGE_CONSTRAINTS = "The size and the tag vocabulary size should not be negative, "
+            + "the ratios should be between 0 and 1, and the near-duplicate ratio should be less than 1.";
+
+    public static final double DEFAULT_PINNED_RATIO = 0.02;
+    public static final double DEFAULT_LONG_NOTE_RATIO = 0.01;
+    public static final double DEFAULT_NEAR_DUPLICATE_RATIO = 0.05;
+    public static final int DEFAULT_TAG_VOCABULARY_SIZE = 200;
+
+    private static final double ZIPF_EXPONENT = 1.0;
+    private static final double MIDDLE_NAME_RATIO = 0.15;
+    private static final double SHORT_NOTE_RATIO = 0.2;
+    private static final double[] TAG_COUNT_WEIGHTS = {0.2, 0.35, 0.25, 0.15, 0.05};
+    private static final int MIN_LONG_NOTE_LENGTH = 512;
+    private static final int MAX_LONG_NOTE_LENGTH = 8192;
+    private static final int MAX_ORIGINAL_NAME_TRIES = 16;
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final long NEAR_DUPLICATE_SALT = 0x4e445550L;
+
+    private static final String[] FIRST_NAMES = {"Wei", "Jun", "Hui", "Ming", "Alex", "Sarah", "Muhammad", "Nur",
+        "Daniel", "Rachel", "Jia", "Siti", "Ryan", "Priya", "Kumar", "Bernice", "David", "Irfan", "Charlotte", "Roy",
+        "Grace", "Ethan", "Chloe", "Aaron", "Nicole", "Joshua", "Amanda", "Marcus", "Hannah", "Benjamin", "Farah",
+        "Lucas", "Megan", "Ahmad", "Vanessa", "Samuel", "Kavya", "Isaac", "Felicia", "Zachary"};
+    private static final String[] LAST_NAMES = {"Tan", "Lim", "Lee", "Ng", "Ong", "Wong", "Goh", "Chua", "Chan",
+        "Koh", "Teo", "Ang", "Yeo", "Tay", "Ho", "Low", "Toh", "Sim", "Chong", "Chia", "Rahman", "Ibrahim", "Abdullah",
+        "Kumar", "Singh", "Pillai", "Balakrishnan", "Yeoh", "Oliveiro", "Fernandez"};
+    private static final String[] STREETS = {"Ang Mo Kio", "Bedok North", "Tampines", "Jurong West", "Woodlands",
+        "Yishun", "Hougang", "Sengkang East", "Punggol Central", "Clementi", "Toa Payoh", "Bukit Batok", "Bishan",
+        "Pasir Ris", "Serangoon Gardens", "Geylang", "Aljunied", "Queenstown", "Choa Chu Kang", "Marine Parade"};
+    private static final String[] STREET_TYPES = {"Street", "Avenue", "Road", "Drive"};
+    private static final String[] DOMAINS = {"example.com", "gmail.com", "yahoo.com.sg", "hotmail.com",
+        "outlook.com", "u.nus.edu", "singnet.com.sg", "lawfirm.com.sg"};
+    private static final String[] COMMON_TAGS = {"Active", "Pending", "Civil Case", "Corporate Case", "Plaintiff",
+        "Defendant", "Criminal Case", "High Priority", "Consultation", "Under Review", "Prefers Phone", "Closed"};
+    private static final String[] SHORT_NOTES = {"Prefers to be messaged over email",
+        "Currently awaiting more information", "Do not call unless absolutely necessary", "Follow up next week",
+        "Documents received", "Available only on weekends"};
+    private static final String[] NOTE_WORDS = {"client", "case", "hearing", "court", "filed", "documents",
+        "statement", "agreed", "meeting", "review", "the", "a", "to", "of", "and", "with", "before", "after",
+        "contract", "witness", "evidence", "settlement", "deadline", "call", "email", "requested", "pending"};
+
+    private final long seed;
+    private final int size;
+    private final double pinnedRatio;
+    private final double longNoteRatio;
+    private final double nearDuplicateRatio;
+    private final String[] tagVocabulary;
+    private final ZipfSampler firstNames;
+    private final ZipfSampler lastNames;
+    private final ZipfSampler streets;
+    private final ZipfSampler domains;
+    private final ZipfSampler tags;
+    private final ObservableList<Person> persons;
+
+    /**
+     * Creates an address book of {@code size} persons generated from {@code seed}, with the default ratios and tag
+     * vocabulary size.
+     */
+    public SyntheticAddressBook(long seed, int size) {
+        this(seed, size, DEFAULT_PINNED_RATIO, DEFAULT_LONG_NOTE_RATIO, DEFAULT_NEAR_DUPLICATE_RATIO,
+                DEFAULT_TAG_VOCABULARY_SIZE);
+    }
+
+    /**
+     * Creates an address book of {@code size} persons generated from {@code seed}.
+     *
+     * @param pinnedRatio The ratio of the persons that are pinned.
+     * @param longNoteRatio The ratio of the persons that have a long note.
+     * @param nearDuplicateRatio The ratio of the persons whose name is a near-duplicate of an earlier one.
+     * @param tagVocabularySize The number of different tags the persons are tagged with.
+     * @throws IllegalArgumentException if the arguments do not meet {@link #MESSAGE_CONSTRAINTS}.
+     */
+    public SyntheticAddressBook(long seed, int size, double pinnedRatio, double longNoteRatio,
+            double nearDuplicateRatio, int tagVocabularySize) {
+        checkArgument(size >= 0 && tagVocabularySize >= 0 && isRatio(pinnedRatio) && isRatio(longNoteRatio)
+                && isRatio(nearDuplicateRatio) && nearDuplicateRatio < 1, MESSAGE_CONSTRAINTS);
+        this.seed = seed;
+        this.size = size;
+        this.pinnedRatio = pinnedRatio;
+        this.longNoteRatio = longNoteRatio;
+        this.nearDuplicateRatio = nearDuplicateRatio;
+
+        tagVocabulary = new String[tagVocabularySize];
+        for (int i = 0; i < tagVocabularySize; i++) {
+            tagVocabulary[i] = i < COMMON_TAGS.length ? COMMON_TAGS[i] : "Matter " + (i - COMMON_TAGS.length + 1);
+        }
+        firstNames = new ZipfSampler(FIRST_NAMES.length);
+        lastNames = new ZipfSampler(LAST_NAMES.length);
+        streets = new ZipfSampler(STREETS.length);
+        domains = new ZipfSampler(DOMAINS.length);
+        tags = new ZipfSampler(tagVocabularySize);
+        persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(new GeneratedPersonList()));
+    }
+
+    private static boolean isRatio(double ratio) {
+        return ratio >= 0 && ratio <= 1;
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons, each of which is generated again whenever it is read.
+     */
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    /**
+     * Returns the person at {@code index}, which is the same every time.
+     */
+    public Person getPerson(int index) {
+        Objects.checkIndex(index, size);
+        SplittableRandom random = randomFor(index);
+        String[] nameWords = nameWordsOf(index, random);
+        String name = String.join(" ", nameWords);
+        String email = String.join(".", nameWords).toLowerCase() + index + "@" + DOMAINS[domains.sample(random)];
+        return new Person(new Name(name), new Phone(phoneOf(random)), new Email(email),
+                new Address(addressOf(random)), noteOf(random), tagsOf(random),
+                new Pin(random.nextDouble() < pinnedRatio));
+    }
+
+    /**
+     * Returns a generator of the random values of the person at {@code index}, whose first values give the original
+     * name of that person.
+     */
+    private SplittableRandom randomFor(int index) {
+        return new SplittableRandom(mix64(seed + index * GOLDEN_GAMMA));
+    }
+
+    private boolean isNearDuplicate(int index) {
+        double draw = (mix64(mix64(seed + index * GOLDEN_GAMMA) ^ NEAR_DUPLICATE_SALT) >>> 11) * 0x1.0p-53;
+        return index > 0 && draw < nearDuplicateRatio;
+    }
+
+    /**
+     * Returns the words of the name of the person at {@code index}: its original name, or if it is a near-duplicate,
+     * the original name of an earlier person who is not, with one or two letters changed.
+     */
+    private String[] nameWordsOf(int index, SplittableRandom random) {
+        String[] originalWords = originalNameWordsOf(random);
+        if (!isNearDuplicate(index)) {
+            return originalWords;
+        }
+
+        int original = 0;
+        for (int i = 0; i < MAX_ORIGINAL_NAME_TRIES; i++) {
+            int candidate = random.nextInt(index);
+            if (!isNearDuplicate(candidate)) {
+                original = candidate;
+                break;
+            }
+        }
+        String[] words = originalNameWordsOf(randomFor(original));
+        int editCount = 1 + random.nextInt(2);
+        for (int i = 0; i < editCount; i++) {
+            int word = random.nextInt(words.length);
+            words[word] = editLetter(words[word], random);
+        }
+        return words;
+    }
+
+    private String[] originalNameWordsOf(SplittableRandom random) {
+        String first = FIRST_NAMES[firstNames.sample(random)];
+        String last = LAST_NAMES[lastNames.sample(random)];
+        if (random.nextDouble() < MIDDLE_NAME_RATIO) {
+            return new String[] {first, FIRST_NAMES[firstNames.sample(random)], last};
+        }
+        return new String[] {first, last};
+    }
+
+    /**
+     * Returns {@code word} with a letter after its first replaced, inserted or deleted.
+     */
+    private static String editLetter(String word, SplittableRandom random) {
+        int position = 1 + random.nextInt(word.length());
+        char letter = (char) ('a' + random.nextInt(26));
+        StringBuilder edited = new StringBuilder(word);
+        switch (random.nextInt(3)) {
+        case 0:
+            if (position < word.length()) {
+                edited.setCharAt(position, letter);
+                break;
+            }
+            edited.insert(position, letter);
+            break;
+        case 1:
+            edited.insert(position, letter);
+            break;
+        default:
+            if (position < word.length() && word.length() > 2) {
+                edited.deleteCharAt(position);
+                break;
+            }
+            edited.insert(position, letter);
+        }
+        return edited.toString();
+    }
+
+    private static String phoneOf(SplittableRandom random) {
+        char first = random.nextInt(10) == 0 ? '6' : random.nextBoolean() ? '8' : '9';
+        return first + String.valueOf(1_000_000 + random.nextInt(9_000_000));
+    }
+
+    private String addressOf(SplittableRandom random) {
+        String street = STREETS[streets.sample(random)] + " " + STREET_TYPES[random.nextInt(STREET_TYPES.length)]
+                + " " + (1 + random.nextInt(99));
+        if (random.nextInt(10) == 0) {
+            return (1 + random.nextInt(200)) + " " + street;
+        }
+        return String.format("Blk %d %s, #%02d-%02d", 1 + random.nextInt(999), street, 1 + random.nextInt(40),
+                1 + random.nextInt(400));
+    }
+
+    private Note noteOf(SplittableRandom random) {
+        double draw = random.nextDouble();
+        if (draw < longNoteRatio) {
+            return new Note(longNoteOf(random));
+        }
+        if (draw < longNoteRatio + SHORT_NOTE_RATIO) {
+            return new Note(SHORT_NOTES[random.nextInt(SHORT_NOTES.length)]);
+        }
+        return Note.createDefaultNote();
+    }
+
+    private static String longNoteOf(SplittableRandom random) {
+        int length = MIN_LONG_NOTE_LENGTH + random.nextInt(MAX_LONG_NOTE_LENGTH - MIN_LONG_NOTE_LENGTH + 1);
+        StringBuilder note = new StringBuilder(length + 16);
+        while (note.length() < length) {
+            note.append(NOTE_WORDS[random.nextInt(NOTE_WORDS.length)]);
+            note.append(random.nextInt(12) == 0 ? ". " : " ");
+        }
+        return note.toString().trim();
+    }
+
+    private Set<Tag> tagsOf(SplittableRandom random) {
+        Set<Tag> tagSet = new HashSet<>();
+        if (tagVocabulary.length == 0) {
+            return tagSet;
+        }
+        double draw = random.nextDouble();
+        int count = 0;
+        while (count < TAG_COUNT_WEIGHTS.length - 1 && draw >= TAG_COUNT_WEIGHTS[count]) {
+            draw -= TAG_COUNT_WEIGHTS[count];
+            count++;
+        }
+        for (int i = 0; i < count; i++) {
+            tagSet.add(new Tag(tagVocabulary[tags.sample(random)]));
+        }
+        return tagSet;
+    }
+
+    /**
+     * Returns a well-mixed value of {@code z}, as {@link SplittableRandom} mixes its seeds.
+     */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Draws ranks from 0 to {@code n - 1}, the rank {@code k} with a probability proportional to
+     * {@code 1 / (k + 1)^}{@value #ZIPF_EXPONENT}.
+     */
+    private static class ZipfSampler {
+        private final double[] cumulativeWeights;
+
+        ZipfSampler(int n) {
+            cumulativeWeights = new double[n];
+            double total = 0;
+            for (int k = 0; k < n; k++) {
+                total += 1 / Math.pow(k + 1, ZIPF_EXPONENT);
+                cumulativeWeights[k] = total;
+            }
+        }
+
+        int sample(SplittableRandom random) {
+            double draw = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+            int rank = Arrays.binarySearch(cumulativeWeights, draw);
+            return Math.min(rank >= 0 ? rank + 1 : -rank - 1, cumulativeWeights.length - 1);
+        }
+    }
+
+    /**
+     * The persons of this address book, generated when read.
+     */
+    private class GeneratedPersonList extends AbstractList<Person> implements RandomAccess {
+        @Override
+        public Person get(int index) {
+            return getPerson(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.SyntheticAddressBookBuilder;
+
+public class SyntheticAddressBookTest {
+
+    private static final int SIZE = 10000;
+
+    @Test
+    public void constructor_invalidSettings_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticAddressBook(0, -1));
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticAddressBook(0, 1, 1.5, 0, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticAddressBook(0, 1, 0, -0.1, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticAddressBook(0, 1, 0, 0, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticAddressBook(0, 1, 0, 0, 0, -1));
+    }
+
+    @Test
+    public void getPersonList_sameSeed_samePersons() {
+        assertEquals(new SyntheticAddressBookBuilder().withSeed(7).build(),
+                new SyntheticAddressBookBuilder().withSeed(7).build());
+        assertNotEquals(new SyntheticAddressBookBuilder().withSeed(7).build(),
+                new SyntheticAddressBookBuilder().withSeed(8).build());
+    }
+
+    @Test
+    public void getPersonList_personsReadAgain_samePersons() {
+        SyntheticAddressBook addressBook = new SyntheticAddressBookBuilder().buildSynthetic();
+        assertEquals(new ArrayList<>(addressBook.getPersonList()), new ArrayList<>(addressBook.getPersonList()));
+        assertThrows(IndexOutOfBoundsException.class, () -> addressBook.getPerson(SyntheticAddressBookBuilder
+                .DEFAULT_SIZE));
+    }
+
+    @Test
+    public void getPersonList_manyPersons_uniqueAndInGivenRatios() {
+        AddressBook addressBook = new SyntheticAddressBookBuilder().withSize(SIZE).withPinnedRatio(0.1)
+                .withLongNoteRatio(0.05).build();
+        List<Person> persons = addressBook.getPersonList();
+
+        assertEquals(SIZE, persons.size());
+        assertRatio(0.1, persons.stream().filter(person -> person.getPin().isPinned()).count());
+        assertRatio(0.05, persons.stream().filter(person -> person.getNote().toString().length() >= 512).count());
+    }
+
+    @Test
+    public void getPersonList_manyPersons_tagsSkewed() {
+        Map<Tag, Integer> tagCounts = new HashMap<>();
+        for (Person person : new SyntheticAddressBookBuilder().withSize(SIZE).buildSynthetic().getPersonList()) {
+            person.getTags().forEach(tag -> tagCounts.merge(tag, 1, Integer::sum));
+        }
+
+        List<Integer> counts = new ArrayList<>(tagCounts.values());
+        counts.sort(null);
+        int mostCommon = counts.get(counts.size() - 1);
+        int median = counts.get(counts.size() / 2);
+        assertTrue(mostCommon > 10 * median, "Most common tag count " + mostCommon + ", median " + median);
+    }
+
+    @Test
+    public void getPersonList_nearDuplicateRatio_namesCloseToEarlierNames() {
+        List<Person> originals = new SyntheticAddressBookBuilder().withSize(SIZE).withNearDuplicateRatio(0)
+                .buildSynthetic().getPersonList();
+        List<Person> persons = new SyntheticAddressBookBuilder().withSize(SIZE).withNearDuplicateRatio(0.2)
+                .buildSynthetic().getPersonList();
+
+        int nearDuplicateCount = 0;
+        for (int i = 0; i < SIZE; i++) {
+            String name = persons.get(i).getName().fullName;
+            if (name.equals(originals.get(i).getName().fullName)) {
+                continue;
+            }
+            nearDuplicateCount++;
+            boolean isCloseToEarlierName = false;
+            for (int j = 0; j < i && !isCloseToEarlierName; j++) {
+                isCloseToEarlierName = StringUtil.levenshteinDistance(name, originals.get(j).getName().fullName) <= 2;
+            }
+            assertTrue(isCloseToEarlierName, name);
+        }
+        assertRatio(0.2, nearDuplicateCount);
+    }
+
+    /**
+     * Asserts that {@code count} of {@link #SIZE} persons is within a tenth of {@code ratio}.
+     */
+    private static void assertRatio(double ratio, long count) {
+        double actualRatio = (double) count / SIZE;
+        assertTrue(Math.abs(actualRatio - ratio) <= ratio / 10, "Expected ratio " + ratio + " but was " + actualRatio);
+    }
+}
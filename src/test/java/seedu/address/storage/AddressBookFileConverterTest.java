@@ -0,0 +1,59 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.UserPrefs;
+
+public class AddressBookFileConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameAddressBook() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        Path jsonPath = testFolder.resolve("addressBook.json");
+        Path binaryPath = testFolder.resolve("addressBook.bin");
+        Path convertedPath = testFolder.resolve("converted.json");
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(addressBook);
+
+        assertEquals(addressBook, AddressBookFileConverter.convert(jsonPath, binaryPath));
+        assertTrue(AddressBookFileConverter.isBinaryFile(binaryPath));
+        assertEquals(addressBook, new BinaryAddressBookStorage(binaryPath).readAddressBook().get());
+
+        assertEquals(addressBook, AddressBookFileConverter.convert(binaryPath, convertedPath));
+        assertFalse(AddressBookFileConverter.isBinaryFile(convertedPath));
+        assertEquals(Files.readString(jsonPath), Files.readString(convertedPath));
+    }
+
+    @Test
+    public void convert_jsonFileWithJournal_binaryCopyReplaysJournal() throws Exception {
+        Path jsonPath = testFolder.resolve("addressBook.json");
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(jsonPath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        Path cachePath = BinaryCachedAddressBookStorage.getCacheFilePath(jsonPath);
+        AddressBookFileConverter.convert(jsonPath, cachePath);
+        Files.writeString(jsonPath, "not json");
+        Files.setLastModifiedTime(jsonPath,
+                FileTime.fromMillis(Files.getLastModifiedTime(cachePath).toMillis() - 1000));
+
+        assertEquals(addressBook, new BinaryCachedAddressBookStorage(jsonPath, false,
+                UserPrefs.DEFAULT_PARALLEL_LOAD_THRESHOLD).readAddressBook().get());
+    }
+}
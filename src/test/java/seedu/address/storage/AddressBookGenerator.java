@@ -0,0 +1,90 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SyntheticAddressBook;
+
+/**
+ * Generates a {@link SyntheticAddressBook} into an address book file in any of the formats the app can read. The
+ * persons are generated as they are written, so address books of millions of persons are written without holding
+ * their persons in memory, except in the segmented format, which keeps the persons of every segment it writes.
+ */
+public class AddressBookGenerator {
+
+    public static final String MESSAGE_USAGE = "Usage: AddressBookGenerator TARGET SIZE [SEED] [FORMAT]\n"
+            + "Generates an address book of SIZE persons from SEED (default 0) into TARGET in FORMAT, one of "
+            + "json (default), compact, gzip, journal, binary or segmented.";
+    public static final String MESSAGE_UNKNOWN_FORMAT = "Unknown address book format: %1$s";
+    public static final String MESSAGE_SUCCESS = "Generated %1$d persons from seed %2$d into %3$s (%4$s).";
+
+    private AddressBookGenerator() {}
+
+    /**
+     * Generates the address book described by the arguments.
+     */
+    public static void main(String[] args) {
+        if (args.length < 2 || args.length > 4) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        Path target = Paths.get(args[0]);
+        String format = args.length > 3 ? args[3] : "json";
+        try {
+            int size = Integer.parseInt(args[1]);
+            long seed = args.length > 2 ? Long.parseLong(args[2]) : 0;
+            generate(new SyntheticAddressBook(seed, size), target, format);
+            System.out.println(String.format(MESSAGE_SUCCESS, size, seed, target, format));
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage() + "\n" + MESSAGE_USAGE);
+            System.exit(1);
+        } catch (IOException e) {
+            System.err.println("Cannot generate " + target + ": " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Saves {@code addressBook} to {@code target} in {@code format}.
+     *
+     * @throws IllegalArgumentException if {@code format} is not one of those listed in {@link #MESSAGE_USAGE}.
+     * @throws IOException if {@code target} cannot be written.
+     */
+    public static void generate(SyntheticAddressBook addressBook, Path target, String format) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(target);
+        requireNonNull(format);
+
+        storageFor(target, format).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Returns the storage that saves an address book to {@code target} in {@code format}, and reads it back.
+     *
+     * @throws IllegalArgumentException if {@code format} is not one of those listed in {@link #MESSAGE_USAGE}.
+     */
+    public static AddressBookStorage storageFor(Path target, String format) {
+        int parallelLoadThreshold = UserPrefs.DEFAULT_PARALLEL_LOAD_THRESHOLD;
+        switch (format) {
+        case "json":
+            return new JsonAddressBookStorage(target);
+        case "compact":
+            return new JsonAddressBookStorage(target, true, parallelLoadThreshold);
+        case "gzip":
+            return new JsonAddressBookStorage(target, true, true, parallelLoadThreshold);
+        case "journal":
+            return new JournalingAddressBookStorage(target);
+        case "binary":
+            return new BinaryAddressBookStorage(target);
+        case "segmented":
+            return new SegmentedAddressBookStorage(target);
+        default:
+            throw new IllegalArgumentException(String.format(MESSAGE_UNKNOWN_FORMAT, format));
+        }
+    }
+}
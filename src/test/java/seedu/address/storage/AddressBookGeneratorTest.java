@@ -0,0 +1,42 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.util.SyntheticAddressBook;
+import seedu.address.testutil.SyntheticAddressBookBuilder;
+
+public class AddressBookGeneratorTest {
+
+    private static final String[] FORMATS = {"json", "compact", "gzip", "journal", "binary", "segmented"};
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void generate_everyFormat_readBackAsGenerated() throws Exception {
+        SyntheticAddressBook generated = new SyntheticAddressBookBuilder().withSize(2000).withLongNoteRatio(0.05)
+                .buildSynthetic();
+        AddressBook expected = new AddressBook(generated);
+
+        for (String format : FORMATS) {
+            Path target = testFolder.resolve(format).resolve("addressBook.json");
+            AddressBookGenerator.generate(generated, target, format);
+            assertEquals(expected, AddressBookGenerator.storageFor(target, format).readAddressBook().get(), format);
+        }
+    }
+
+    @Test
+    public void storageFor_unknownFormat_throwsIllegalArgumentException() {
+        Path target = testFolder.resolve("addressBook.xml");
+        String expectedMessage = String.format(AddressBookGenerator.MESSAGE_UNKNOWN_FORMAT, "xml");
+        assertThrows(IllegalArgumentException.class, expectedMessage, () -> AddressBookGenerator.storageFor(target,
+                "xml"));
+    }
+}
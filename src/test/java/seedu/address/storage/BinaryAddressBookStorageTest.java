@@ -0,0 +1,104 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        original.addPerson(new PersonBuilder().withName("Zoë Ünicode").withEmail("zoe.u+test@mail.example.com")
+                .withAddress("Blk 1, Ünit #01-01").withNote("Line one\nLine two, \"quoted\"")
+                .withTags("a", "b", "friends").build());
+
+        storage.saveAddressBook(original);
+        assertEquals(original, storage.readAddressBook().get());
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_parallel_sameAsSequential() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < BinaryAddressBookReader.CHUNK_SIZE * 2 + 1; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).withEmail("person" + i + "@example.com")
+                    .withTags("tag" + i % 7).build());
+        }
+        Path filePath = testFolder.resolve("addressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        assertEquals(addressBook, new BinaryAddressBookStorage(filePath, 0).readAddressBook().get());
+        assertEquals(addressBook, new BinaryAddressBookStorage(filePath, Integer.MAX_VALUE).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_sharedStrings_smallerThanCompactJson() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 100; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).withEmail("person" + i + "@example.com")
+                    .withAddress("123, Jurong West Ave 6, #08-111").withTags("friends", "colleagues").build());
+        }
+        Path binaryPath = testFolder.resolve("addressBook.bin");
+        Path jsonPath = testFolder.resolve("addressBook.json");
+        new BinaryAddressBookStorage(binaryPath).saveAddressBook(addressBook);
+        new JsonAddressBookStorage(jsonPath, true, 0).saveAddressBook(addressBook);
+
+        assertTrue(Files.size(binaryPath) * 3 < Files.size(jsonPath));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_corruptedOrTruncatedFile_throwsDataLoadingException() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryAddressBookWriter.write(getTypicalAddressBook(), out, 0);
+        byte[] bytes = out.toByteArray();
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        byte[] corrupted = bytes.clone();
+        corrupted[bytes.length / 2] ^= 0x01;
+        Files.write(filePath, corrupted);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.UserPrefs;
+
+public class BinaryCachedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path cachePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressBook.json");
+        cachePath = BinaryCachedAddressBookStorage.getCacheFilePath(filePath);
+    }
+
+    @Test
+    public void saveAddressBook_jsonFileRewritten_binaryCopyWritten() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        createStorage().saveAddressBook(addressBook);
+
+        assertTrue(Files.exists(cachePath));
+        assertEquals(addressBook, new BinaryAddressBookStorage(cachePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_copyOfCurrentJsonFile_copyReadAndJournalReplayed() throws Exception {
+        BinaryCachedAddressBookStorage storage = createStorage();
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        // the JSON file is not read while the copy records the checksum in the journal, even if saved at the same time
+        Files.writeString(filePath, "not json");
+        Files.setLastModifiedTime(filePath, Files.getLastModifiedTime(cachePath));
+
+        assertEquals(addressBook, createStorage().readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_copyOfOtherJsonFile_copyIgnored() throws Exception {
+        createStorage().saveAddressBook(getTypicalAddressBook());
+
+        // rewriting the JSON file without a copy restarts the journal with another checksum
+        AddressBook edited = new AddressBook();
+        edited.addPerson(IDA);
+        new JournalingAddressBookStorage(filePath).saveAddressBook(edited);
+        makeOlderThanCopy(filePath);
+
+        assertEquals(edited, createStorage().readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_jsonFileNewer_copyIgnored() throws Exception {
+        BinaryCachedAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        AddressBook edited = new AddressBook();
+        edited.addPerson(IDA);
+        new JsonAddressBookStorage(filePath).saveAddressBook(edited);
+        makeOlderThanCopy(cachePath);
+        Files.setLastModifiedTime(filePath, FileTime.fromMillis(Files.getLastModifiedTime(cachePath).toMillis() + 1));
+
+        assertEquals(edited, createStorage().readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_corruptedCopy_jsonFileRead() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        createStorage().saveAddressBook(addressBook);
+
+        byte[] copy = Files.readAllBytes(cachePath);
+        copy[copy.length / 2] ^= 0x01;
+        Files.write(cachePath, copy);
+        makeOlderThanCopy(filePath);
+
+        assertEquals(addressBook, createStorage().readAddressBook().get());
+    }
+
+    private BinaryCachedAddressBookStorage createStorage() {
+        return new BinaryCachedAddressBookStorage(filePath, false, UserPrefs.DEFAULT_PARALLEL_LOAD_THRESHOLD);
+    }
+
+    private void makeOlderThanCopy(Path path) throws Exception {
+        FileTime copyTime = Files.getLastModifiedTime(cachePath);
+        Files.setLastModifiedTime(path, FileTime.fromMillis(copyTime.toMillis() - 1000));
+    }
+}
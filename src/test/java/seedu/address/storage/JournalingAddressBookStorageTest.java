@@ -0,0 +1,248 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalingAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressBook.json");
+        journalPath = JournalingAddressBookStorage.getJournalFilePath(filePath);
+    }
+
+    @Test
+    public void constructor_invalidLimits_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new JournalingAddressBookStorage(filePath, false, 0, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new JournalingAddressBookStorage(filePath, false, 0, 1, -1));
+    }
+
+    @Test
+    public void saveAddressBook_smallEdits_appendedToJournal() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        String json = Files.readString(filePath);
+        long journalSize = Files.size(journalPath);
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withNote("Owes money").build());
+        addressBook.removePerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(json, Files.readString(filePath));
+        assertTrue(Files.size(journalPath) > journalSize);
+        assertEquals(addressBook, new JournalingAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_pinAndUnpinInLargeAddressBook_appendedToJournal() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 1000; i++) {
+            addressBook.addPerson(new PersonBuilder().withEmail("person" + i + "@example.com").build());
+        }
+        storage.saveAddressBook(addressBook);
+        String json = Files.readString(filePath);
+        long journalSize = Files.size(journalPath);
+
+        Person person = addressBook.getPersonList().get(900);
+        Person pinnedPerson = new PersonBuilder(person).withPin(true).build();
+        addressBook.setPerson(person, pinnedPerson);
+        addressBook.pinPerson(pinnedPerson);
+        storage.saveAddressBook(addressBook);
+        assertEquals(pinnedPerson, new JournalingAddressBookStorage(filePath).readAddressBook().get()
+                .getPersonList().get(0));
+
+        addressBook.setPerson(pinnedPerson, person);
+        addressBook.unpinPerson(person);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(json, Files.readString(filePath));
+        assertTrue(Files.size(journalPath) > journalSize);
+        assertEquals(addressBook, new JournalingAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_journalFull_jsonFileRewritten() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath, false, 0, 1, Long.MAX_VALUE);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        long journalSize = Files.size(journalPath);
+
+        addressBook.addPerson(HOON);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(journalSize, Files.size(journalPath));
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(addressBook, new JournalingAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_editsBeyondJournalByteLimit_jsonFileRewritten() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath, false, 0, 1000, 100);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        long journalSize = Files.size(journalPath);
+
+        // the journal is empty, but the records of the edits alone are over the limit
+        addressBook.addPerson(HOON);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(journalSize, Files.size(journalPath));
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_tornLastRecord_recordIgnored() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        AddressBook expected = new AddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+
+        byte[] journal = Files.readAllBytes(journalPath);
+        Files.write(journalPath, Arrays.copyOf(journal, journal.length - 3));
+
+        assertEquals(expected, new JournalingAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_journalOfRewrittenJsonFile_journalIgnored() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        AddressBook rewritten = new AddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(rewritten);
+
+        assertEquals(rewritten, new JournalingAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_journalRefersToStoredNote_noteLoaded() throws Exception {
+        String longNote = "Met at the conference. ".repeat(20);
+        AddressBook original = getTypicalAddressBook();
+        original.setPerson(ALICE, new PersonBuilder(ALICE).withNote(longNote).build());
+        new JournalingAddressBookStorage(filePath).saveAddressBook(original);
+
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        storage.saveAddressBook(addressBook);
+        Person alice = addressBook.getPersonList().get(0);
+        addressBook.setPerson(alice, new PersonBuilder(alice).withPhone("99999999").build());
+        storage.saveAddressBook(addressBook);
+
+        assertTrue(new String(Files.readAllBytes(journalPath), StandardCharsets.ISO_8859_1).contains("noteRef"));
+        Person readBack = new JournalingAddressBookStorage(filePath).readAddressBook().get().getPersonList().get(0);
+        assertEquals(new PersonBuilder(ALICE).withNote(longNote).withPhone("99999999").build(), readBack);
+        assertEquals(longNote, readBack.getNote().getValue());
+    }
+
+    @Test
+    public void readAddressBook_compressedJsonFile_journalReplayed() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath, false, true, 0);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals((byte) 0x1f, Files.readAllBytes(filePath)[0]);
+        assertEquals(addressBook, new JournalingAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_jsonFileRewritten() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        JournalingAddressBookStorage restarted = new JournalingAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(restarted.readAddressBook().get());
+        readBack.addPerson(IDA);
+        restarted.saveAddressBook(readBack);
+
+        assertEquals(readBack, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_savedUnderCurrentSchema_notValidatedAgain() throws Exception {
+        new JournalingAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        String phone = ALICE.getPhone().value;
+        Files.writeString(filePath, Files.readString(filePath).replace(phone, "not a phone"));
+
+        // the journal of a file edited by hand does not follow up the file
+        assertThrows(DataLoadingException.class, () -> new JournalingAddressBookStorage(filePath).readAddressBook());
+
+        // only a save of this application restarts the journal with the checksum of the file
+        new AddressBookJournal(journalPath).restart(AddressBookJournal.checksumOf(filePath));
+        Person alice = new JournalingAddressBookStorage(filePath).readAddressBook().get().getPersonList().get(0);
+        assertEquals("not a phone", alice.getPhone().value);
+    }
+
+    @Test
+    public void readAddressBook_fileEditedByHand_readAgainWithValidation() throws Exception {
+        new JournalingAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        String phone = ALICE.getPhone().value;
+        Files.writeString(filePath, Files.readString(filePath).replace(phone, "98761234"));
+
+        Person alice = new JournalingAddressBookStorage(filePath).readAddressBook().get().getPersonList().get(0);
+        assertEquals("98761234", alice.getPhone().value);
+
+        Files.writeString(filePath, Files.readString(filePath).replace("98761234", "{"));
+        assertThrows(DataLoadingException.class, () -> new JournalingAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_journalWithoutSchemaVersion_journalReplayed() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        ByteBuffer journal = ByteBuffer.wrap(Files.readAllBytes(journalPath));
+        ByteBuffer oldJournal = ByteBuffer.allocate(journal.limit() - Integer.BYTES)
+                .putInt(0x41424a4c).putLong(journal.getLong(2 * Integer.BYTES))
+                .put(journal.position(2 * Integer.BYTES + Long.BYTES));
+        Files.write(journalPath, oldJournal.array());
+
+        assertEquals(addressBook, new JournalingAddressBookStorage(filePath).readAddressBook().get());
+    }
+}
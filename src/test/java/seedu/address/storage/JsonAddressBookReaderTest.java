@@ -0,0 +1,114 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        try (InputStream in = Files.newInputStream(TYPICAL_PERSONS_FILE)) {
+            assertEquals(TypicalPersons.getTypicalAddressBook(), JsonAddressBookReader.read(in));
+        }
+    }
+
+    @Test
+    public void read_invalidPersons_reportsLineAndColumnOfEach() {
+        String json = "{\n"
+                + "  \"persons\" : [ {\n"
+                + "    \"name\" : \"Valid Person\", \"phone\" : \"9482424\", \"email\" : \"valid@example.com\",\n"
+                + "    \"address\" : \"4th street\", \"tags\" : [ \"friends\" ], \"note\" : \"\", \"pin\" : \"\"\n"
+                + "  }, {\n"
+                + "    \"name\" : \"Invalid Phone\", \"phone\" : \"948asdf2424\", \"email\" : \"phone@example.com\",\n"
+                + "    \"address\" : \"4th street\", \"note\" : \"\", \"pin\" : \"\"\n"
+                + "  },\n"
+                + "  { \"name\" : \"Invalid Email\", \"phone\" : \"9482424\", \"email\" : \"email\",\n"
+                + "    \"address\" : \"4th street\", \"note\" : \"\", \"pin\" : \"\" } ]\n"
+                + "}";
+
+        String expectedMessage = String.format(JsonAddressBookReader.MESSAGE_INVALID_PERSON, 5, 6,
+                Phone.MESSAGE_CONSTRAINTS)
+                + "\n" + String.format(JsonAddressBookReader.MESSAGE_INVALID_PERSON, 9, 3, Email.MESSAGE_CONSTRAINTS);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> read(json));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() throws Exception {
+        try (InputStream in = Files.newInputStream(DUPLICATE_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class,
+                    String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_EMAILS, "pauline@example.com"), ()
+                        -> JsonAddressBookReader.read(in));
+        }
+    }
+
+    @Test
+    public void read_unexpectedStructure_throwsIoException() {
+        assertThrows(IOException.class, () -> read("[ ]"));
+        assertThrows(IOException.class, () -> read("{ \"persons\" : { } }"));
+        assertThrows(IOException.class, () -> read("{ \"persons\" : [ { \"name\" : [ ] } ] }"));
+        assertThrows(IOException.class, () -> read("{ \"persons\" : [ "));
+    }
+
+    @Test
+    public void read_parallel_sameResultsAsSequential() throws Exception {
+        int size = JsonAddressBookReader.CHUNK_SIZE * 3 + 1;
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < size; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).withEmail("person" + i + "@example.com")
+                    .build());
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonAddressBookWriter.write(addressBook, out, false);
+        String json = out.toString(StandardCharsets.UTF_8);
+        assertEquals(addressBook, read(json, 0));
+
+        // invalid persons in different chunks are reported in file order
+        String invalidJson = json.replace("person1@example.com", "person1")
+                .replace("person" + (size - 1) + "@example.com", "last");
+        String message = Assertions.assertThrows(IllegalValueException.class, ()
+            -> read(invalidJson, Integer.MAX_VALUE)).getMessage();
+        assertThrows(IllegalValueException.class, message, () -> read(invalidJson, 0));
+
+        String duplicateJson = json.replace("person" + (size - 1) + "@example.com", "person1@example.com");
+        assertThrows(IllegalValueException.class,
+                String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_EMAILS, "person1@example.com"), ()
+                    -> read(duplicateJson, 0));
+    }
+
+    @Test
+    public void read_unknownFields_ignored() throws Exception {
+        assertEquals(new AddressBook(), read("{ \"_comment\" : { \"persons\" : [ 1 ] }, \"persons\" : [ ] }"));
+    }
+
+    private static AddressBook read(String json) throws IOException, IllegalValueException {
+        return JsonAddressBookReader.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static AddressBook read(String json, int parallelThreshold) throws IOException, IllegalValueException {
+        return JsonAddressBookReader.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)),
+                parallelThreshold, null);
+    }
+}
@@ -2,13 +2,17 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -18,9 +22,12 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+    private static final String LONG_NOTE = "Met at the conference. ".repeat(20);
 
     @TempDir
     public Path testFolder;
@@ -86,6 +93,60 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_longNote_storedInNoteFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        original.setPerson(ALICE, new PersonBuilder(ALICE).withNote(LONG_NOTE).build());
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertFalse(Files.readString(filePath).contains(LONG_NOTE));
+        Person readBack = new JsonAddressBookStorage(filePath).readAddressBook().get().getPersonList().get(0);
+        assertTrue(readBack.getNote().isStored());
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(LONG_NOTE, readBack.getNote().getValue());
+    }
+
+    @Test
+    public void saveAddressBook_oneNoteChanged_onlyThatNoteAppended() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path notePath = JsonAddressBookStorage.getNoteFilePath(filePath);
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        original.setPerson(ALICE, new PersonBuilder(ALICE).withNote(LONG_NOTE).build());
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withNote(LONG_NOTE + "Benson").build());
+        storage.saveAddressBook(original);
+        long noteFileSize = Files.size(notePath);
+
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        String editedNote = LONG_NOTE + "Edited";
+        readBack.setPerson(readBack.getPersonList().get(0),
+                new PersonBuilder(readBack.getPersonList().get(0)).withNote(editedNote).build());
+        storage.saveAddressBook(readBack);
+
+        int recordSize = Integer.BYTES + 32 + editedNote.getBytes(StandardCharsets.UTF_8).length;
+        assertEquals(noteFileSize + recordSize, Files.size(notePath));
+        assertEquals(readBack, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_compressed_readByMagicBytes() throws Exception {
+        Path plainPath = testFolder.resolve("PlainAddressBook.json");
+        Path compressedPath = testFolder.resolve("CompressedAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(plainPath).saveAddressBook(original);
+        new JsonAddressBookStorage(compressedPath, false, true, 0).saveAddressBook(original);
+
+        byte[] compressed = Files.readAllBytes(compressedPath);
+        assertEquals((byte) 0x1f, compressed[0]);
+        assertEquals((byte) 0x8b, compressed[1]);
+        assertTrue(compressed.length < Files.size(plainPath));
+
+        // either storage reads either file
+        assertEquals(original, new JsonAddressBookStorage(compressedPath).readAddressBook().get());
+        assertEquals(original, new JsonAddressBookStorage(plainPath, false, true, 0).readAddressBook().get());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -0,0 +1,43 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonAddressBookWriterTest {
+
+    @Test
+    public void write_pretty_sameAsSerializedAddressBook() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(new PersonBuilder().withName("Quinn Quote").withEmail("quinn@example.com")
+                .withNote("Says \"hi\" and\nwaves").withTags("a", "b").build());
+
+        String expected = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+        assertEquals(expected, write(addressBook, false));
+    }
+
+    @Test
+    public void write_compact_noWhitespaceAndReadBack() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        String json = write(addressBook, true);
+
+        assertFalse(json.contains("\n"));
+        assertFalse(json.contains(" : "));
+        assertEquals(addressBook, JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType());
+    }
+
+    private static String write(AddressBook addressBook, boolean isCompact) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonAddressBookWriter.write(addressBook, out, isCompact);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
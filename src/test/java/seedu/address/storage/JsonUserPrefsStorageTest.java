@@ -7,6 +7,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
@@ -74,6 +75,15 @@ public class JsonUserPrefsStorageTest {
         UserPrefs userPrefs = new UserPrefs();
         userPrefs.setGuiSettings(new GuiSettings(1000, 500, 300, 100));
         userPrefs.setAddressBookFilePath(Paths.get("addressbook.json"));
+        userPrefs.setParallelSortThreshold(5000);
+        userPrefs.setParallelLoadThreshold(2000);
+        userPrefs.setMassOpsLimit(500);
+        userPrefs.setUndoHistoryBudget(50, 1048576);
+        userPrefs.setCompactAddressBookFile(true);
+        userPrefs.setCompressedAddressBookFile(true);
+        userPrefs.setBinaryAddressBookCache(false);
+        userPrefs.setSegmentedAddressBook(true);
+        userPrefs.setSortPrefixes(List.of("t/", "n/"));
         return userPrefs;
     }
 
@@ -0,0 +1,137 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class NoteFileTest {
+
+    private static final String LONG_NOTE = "Met at the conference. ".repeat(20);
+    private static final String OTHER_LONG_NOTE = "Prefers to be called in the evening. ".repeat(10);
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressBook.json.notes");
+    }
+
+    @Test
+    public void storeAll_longNotesOnly_storedOnce() throws Exception {
+        NoteFile notes = new NoteFile(filePath);
+        notes.storeAll(List.of(withNote("Amy", LONG_NOTE), withNote("Bob", LONG_NOTE), withNote("Carl", "short")));
+        long size = Files.size(filePath);
+
+        notes.storeAll(List.of(withNote("Amy", LONG_NOTE)));
+        assertEquals(size, Files.size(filePath));
+
+        NoteFile reopened = new NoteFile(filePath);
+        assertEquals(LONG_NOTE, reopened.load(Note.keyOf(LONG_NOTE)));
+        assertThrows(UncheckedIOException.class, () -> reopened.load(Note.keyOf("short")));
+    }
+
+    @Test
+    public void storeAll_partlyWrittenRecord_overwritten() throws Exception {
+        new NoteFile(filePath).storeAll(List.of(withNote("Amy", LONG_NOTE), withNote("Bob", OTHER_LONG_NOTE)));
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+
+        NoteFile notes = new NoteFile(filePath);
+        assertEquals(LONG_NOTE, notes.load(Note.keyOf(LONG_NOTE)));
+        assertThrows(UncheckedIOException.class, () -> notes.load(Note.keyOf(OTHER_LONG_NOTE)));
+
+        notes.storeAll(List.of(withNote("Bob", OTHER_LONG_NOTE)));
+        assertEquals(bytes.length, Files.size(filePath));
+        assertEquals(OTHER_LONG_NOTE, new NoteFile(filePath).load(Note.keyOf(OTHER_LONG_NOTE)));
+    }
+
+    @Test
+    public void load_corruptedNote_throwsUncheckedIoException() throws Exception {
+        new NoteFile(filePath).storeAll(List.of(withNote("Amy", LONG_NOTE)));
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length - 1] ^= 0x01;
+        Files.write(filePath, bytes);
+
+        assertThrows(UncheckedIOException.class, () -> new NoteFile(filePath).load(Note.keyOf(LONG_NOTE)));
+    }
+
+    @Test
+    public void load_recentlyLoaded_servedFromCache() throws Exception {
+        NoteFile notes = new NoteFile(filePath);
+        notes.storeAll(List.of(withNote("Amy", LONG_NOTE)));
+        notes.load(Note.keyOf(LONG_NOTE));
+        Files.delete(filePath);
+
+        assertEquals(LONG_NOTE, notes.load(Note.keyOf(LONG_NOTE)));
+    }
+
+    @Test
+    public void compact_mostlyUnusedNotes_onlyUsedNotesKept() throws Exception {
+        NoteFile notes = new NoteFile(filePath);
+        Person amy = withNote("Amy", LONG_NOTE);
+        String unusedNote = OTHER_LONG_NOTE.repeat(3);
+        notes.storeAll(List.of(amy, withNote("Bob", unusedNote)));
+        long size = Files.size(filePath);
+
+        notes.retain(List.of(amy));
+        notes.compact();
+        assertEquals(LONG_NOTE, notes.load(Note.keyOf(LONG_NOTE)));
+        assertEquals(LONG_NOTE, new NoteFile(filePath).load(Note.keyOf(LONG_NOTE)));
+        assertThrows(UncheckedIOException.class, () -> new NoteFile(filePath).load(Note.keyOf(unusedNote)));
+        assertTrue(Files.size(filePath) < size / 2);
+    }
+
+    @Test
+    public void compact_nothingRetained_fileUntouched() throws Exception {
+        NoteFile notes = new NoteFile(filePath);
+        notes.storeAll(List.of(withNote("Amy", LONG_NOTE), withNote("Bob", OTHER_LONG_NOTE.repeat(3))));
+        long size = Files.size(filePath);
+
+        notes.compact();
+        assertEquals(size, Files.size(filePath));
+
+        // the file is only compacted by the first save after the notes are retained
+        notes.retain(List.of(withNote("Amy", LONG_NOTE)));
+        notes.compact();
+        long compactedSize = Files.size(filePath);
+        assertTrue(compactedSize < size);
+        notes.storeAll(List.of(withNote("Carl", OTHER_LONG_NOTE.repeat(3))));
+        notes.storeAll(List.of(withNote("Amy", LONG_NOTE)));
+        notes.compact();
+        assertTrue(Files.size(filePath) > compactedSize);
+    }
+
+    @Test
+    public void compact_notesStoredAfterRetained_kept() throws Exception {
+        NoteFile notes = new NoteFile(filePath);
+        Person bob = withNote("Bob", OTHER_LONG_NOTE.repeat(3));
+        notes.storeAll(List.of(withNote("Amy", LONG_NOTE), bob));
+
+        notes.retain(List.of(withNote("Amy", LONG_NOTE)));
+        // Bob's note is already in the file, and is saved again
+        notes.storeAll(List.of(bob));
+        notes.compact();
+        assertEquals(bob.getNote().getValue(), new NoteFile(filePath).load(bob.getNote().getKey()));
+    }
+
+    private static Person withNote(String name, String note) {
+        return new PersonBuilder().withName(name).withEmail(name.toLowerCase() + "@example.com").withNote(note).build();
+    }
+}
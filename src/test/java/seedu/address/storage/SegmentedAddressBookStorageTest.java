@@ -0,0 +1,199 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class SegmentedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path segmentPath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressBook.json");
+        segmentPath = SegmentedAddressBookStorage.getSegmentDirectoryPath(filePath);
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new SegmentedAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath);
+        AddressBook addressBook = createAddressBook(3000);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, storage.readAddressBook().get());
+
+        // read in parallel by a new storage
+        assertEquals(addressBook, new SegmentedAddressBookStorage(filePath, 0).readAddressBook().get());
+        assertEquals(addressBook.getPersonList(),
+                new SegmentedAddressBookStorage(filePath, 0).readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_missingDirectoryWithLongNote_directoryCreated() throws Exception {
+        Path missingFilePath = testFolder.resolve("missing").resolve("addressBook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        Person alice = addressBook.getPersonList().get(0);
+        addressBook.setPerson(alice, new PersonBuilder(alice).withNote("A long note. ".repeat(100)).build());
+
+        new SegmentedAddressBookStorage(missingFilePath).saveAddressBook(addressBook);
+        assertEquals(addressBook, new SegmentedAddressBookStorage(missingFilePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_onePersonEdited_oneSegmentRewritten() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath);
+        AddressBook addressBook = createAddressBook(3000);
+        storage.saveAddressBook(addressBook);
+        Map<Path, Long> segments = listSegments();
+        assertTrue(segments.size() > 1);
+
+        Person person = addressBook.getPersonList().get(1500);
+        addressBook.setPerson(person, new PersonBuilder(person).withPhone("61234567").build());
+        storage.saveAddressBook(addressBook);
+
+        Map<Path, Long> newSegments = listSegments();
+        assertEquals(segments.size(), newSegments.size());
+        newSegments.keySet().removeAll(segments.keySet());
+        assertEquals(1, newSegments.size());
+        assertEquals(addressBook, new SegmentedAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_compressed_segmentsCompressedAndReadBack() throws Exception {
+        AddressBook addressBook = createAddressBook(3000);
+        new SegmentedAddressBookStorage(filePath).saveAddressBook(addressBook);
+        long plainSize = listSegments().values().stream().mapToLong(Long::longValue).sum();
+
+        // the segments kept from the plain save are read along with the compressed ones
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath, true, 0);
+        storage.readAddressBook();
+        Person person = addressBook.getPersonList().get(1500);
+        addressBook.setPerson(person, new PersonBuilder(person).withPhone("61234567").build());
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, new SegmentedAddressBookStorage(filePath).readAddressBook().get());
+
+        for (Path segment : listSegments().keySet()) {
+            Files.delete(segment);
+        }
+        Files.delete(segmentPath.resolve("manifest.json"));
+        new SegmentedAddressBookStorage(filePath, true, 0).saveAddressBook(addressBook);
+        long compressedSize = listSegments().values().stream().mapToLong(Long::longValue).sum();
+        assertTrue(compressedSize < plainSize / 2);
+        assertEquals(addressBook, new SegmentedAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void writeBackSegments_modeTurnedOffAndOnAgain_latestAddressBookRead() throws Exception {
+        AddressBook addressBook = createAddressBook(3000);
+        SegmentedAddressBookStorage segmentedStorage = new SegmentedAddressBookStorage(filePath);
+        segmentedStorage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        segmentedStorage.saveAddressBook(addressBook);
+
+        // turned off: the address book file is brought up to date with the segments, which are deleted
+        JournalingAddressBookStorage jsonStorage = new JournalingAddressBookStorage(filePath);
+        assertTrue(SegmentedAddressBookStorage.writeBackSegments(filePath, jsonStorage));
+        assertFalse(Files.exists(segmentPath));
+        assertFalse(SegmentedAddressBookStorage.writeBackSegments(filePath, jsonStorage));
+        AddressBook readBack = new AddressBook(jsonStorage.readAddressBook().get());
+        assertEquals(addressBook, readBack);
+        readBack.removePerson(HOON);
+        jsonStorage.saveAddressBook(readBack);
+
+        // turned on again: the address book file is read, and split into segments again
+        segmentedStorage = new SegmentedAddressBookStorage(filePath);
+        AddressBook segmented = new AddressBook(segmentedStorage.readAddressBook().get());
+        assertEquals(readBack, segmented);
+        segmented.addPerson(ALICE);
+        segmentedStorage.saveAddressBook(segmented);
+        assertEquals(segmented, new SegmentedAddressBookStorage(filePath).readAddressBook().get());
+        assertTrue(Files.exists(segmentPath.resolve("manifest.json")));
+    }
+
+    @Test
+    public void saveAddressBook_personsAddedAndRemoved_readBackInOrder() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.addPerson(HOON);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(addressBook.getPersonList(),
+                new SegmentedAddressBookStorage(filePath).readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void readAddressBook_noManifest_jsonFileRead() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath);
+        assertEquals(addressBook, storage.readAddressBook().get());
+        storage.saveAddressBook(addressBook);
+        Files.delete(filePath);
+        assertEquals(addressBook, new SegmentedAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_corruptedSegment_throwsDataLoadingException() throws Exception {
+        new SegmentedAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        Path segment = listSegments().keySet().iterator().next();
+        Files.writeString(segment, Files.readString(segment).replace("alice", "alicia"));
+
+        assertThrows(DataLoadingException.class, () -> new SegmentedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    private Map<Path, Long> listSegments() throws Exception {
+        Map<Path, Long> segments = new HashMap<>();
+        try (Stream<Path> files = Files.list(segmentPath)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (file.getFileName().toString().startsWith("segment-")) {
+                    segments.put(file, Files.size(file));
+                }
+            }
+        }
+        return segments;
+    }
+
+    private static AddressBook createAddressBook(int size) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withEmail("person" + i + "@example.com")
+                    .withPhone(String.valueOf(90000000 + i)).build());
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+}
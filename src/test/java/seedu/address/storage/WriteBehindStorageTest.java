@@ -0,0 +1,148 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private WriteBehindStorage storage;
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        if (storage != null) {
+            storage.close();
+        }
+    }
+
+    @Test
+    public void saveAddressBook_thenFlush_addressBookWritten() throws Exception {
+        storage = createStorage(new JsonAddressBookStorage(testFolder.resolve("ab")));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.flush();
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_modifiedAfterSave_savedStateWritten() throws Exception {
+        CountDownLatch writeAllowed = new CountDownLatch(1);
+        storage = createStorage(new JsonAddressBookStorage(testFolder.resolve("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                awaitUninterruptibly(writeAllowed);
+                super.saveAddressBook(addressBook, filePath);
+            }
+        });
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBook original = new AddressBook(addressBook);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        writeAllowed.countDown();
+        storage.flush();
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_burstDuringWrite_coalescedIntoOneWrite() throws Exception {
+        CountDownLatch writeStarted = new CountDownLatch(1);
+        CountDownLatch writeAllowed = new CountDownLatch(1);
+        List<ReadOnlyAddressBook> written = Collections.synchronizedList(new ArrayList<>());
+        storage = createStorage(new JsonAddressBookStorage(testFolder.resolve("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                writeStarted.countDown();
+                awaitUninterruptibly(writeAllowed);
+                written.add(new AddressBook(addressBook));
+            }
+        });
+        AddressBook addressBook = new AddressBook();
+        storage.saveAddressBook(addressBook);
+        awaitUninterruptibly(writeStarted);
+
+        addressBook.addPerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(BENSON);
+        storage.saveAddressBook(addressBook);
+        writeAllowed.countDown();
+        storage.flush();
+
+        assertEquals(List.of(new AddressBook(), new AddressBook(addressBook)), written);
+    }
+
+    @Test
+    public void flush_writeFailed_throwsIoException() throws Exception {
+        storage = createStorage(new JsonAddressBookStorage(testFolder.resolve("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw new IOException("dummy IO exception");
+            }
+        });
+        storage.saveAddressBook(new AddressBook());
+
+        assertThrows(IOException.class, "dummy IO exception", storage::flush);
+        // the failure is only reported once
+        storage.flush();
+    }
+
+    @Test
+    public void getLatestSaveFailure_failedUntilLaterWriteSucceeds() throws Exception {
+        boolean[] isFailing = {true};
+        storage = createStorage(new JsonAddressBookStorage(testFolder.resolve("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (isFailing[0]) {
+                    throw new IOException("dummy IO exception");
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        });
+        assertFalse(storage.getLatestSaveFailure().isPresent());
+        storage.saveAddressBook(new AddressBook());
+        assertThrows(IOException.class, "dummy IO exception", storage::flush);
+
+        // still failed after the failure was reported, as the file does not hold the latest address book
+        assertEquals("dummy IO exception", storage.getLatestSaveFailure().get().getMessage());
+
+        isFailing[0] = false;
+        storage.saveAddressBook(new AddressBook());
+        storage.flush();
+        assertFalse(storage.getLatestSaveFailure().isPresent());
+    }
+
+    private WriteBehindStorage createStorage(AddressBookStorage addressBookStorage) {
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(testFolder.resolve("prefs"));
+        return new WriteBehindStorage(new StorageManager(addressBookStorage, userPrefsStorage));
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
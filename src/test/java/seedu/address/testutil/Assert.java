@@ -1,5 +1,8 @@
 package seedu.address.testutil;
 
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.function.Executable;
 
@@ -31,4 +34,16 @@ public class Assert {
         Throwable thrownException = Assertions.assertThrows(expectedType, executable);
         Assertions.assertEquals(expectedMessage, thrownException.getMessage());
     }
+
+    /**
+     * Asserts that {@code validator} accepts exactly those of {@code samples} that match {@code regex} as a whole.
+     */
+    public static void assertSameAsRegex(String regex, Predicate<String> validator, Iterable<String> samples) {
+        Pattern pattern = Pattern.compile(regex);
+        for (String sample : samples) {
+            if (pattern.matcher(sample).matches() != validator.test(sample)) {
+                Assertions.fail("Differs from " + regex + " on \"" + sample + "\"");
+            }
+        }
+    }
 }
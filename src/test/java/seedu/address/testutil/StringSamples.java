@@ -0,0 +1,47 @@
+package seedu.address.testutil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates strings to compare validators and other string functions against the regular expressions they replace.
+ */
+public class StringSamples {
+
+    /**
+     * Returns every string of at most {@code maxLength} characters from {@code alphabet}, including the empty string.
+     */
+    public static List<String> allStrings(String alphabet, int maxLength) {
+        List<String> strings = new ArrayList<>();
+        strings.add("");
+        int from = 0;
+        for (int length = 1; length <= maxLength; length++) {
+            int to = strings.size();
+            for (int i = from; i < to; i++) {
+                for (int j = 0; j < alphabet.length(); j++) {
+                    strings.add(strings.get(i) + alphabet.charAt(j));
+                }
+            }
+            from = to;
+        }
+        return strings;
+    }
+
+    /**
+     * Returns {@code count} random strings of at most {@code maxLength} characters from {@code alphabet}, which are
+     * the same for the same {@code seed}.
+     */
+    public static List<String> randomStrings(String alphabet, int maxLength, int count, long seed) {
+        Random random = new Random(seed);
+        List<String> strings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            char[] chars = new char[random.nextInt(maxLength + 1)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = alphabet.charAt(random.nextInt(alphabet.length()));
+            }
+            strings.add(new String(chars));
+        }
+        return strings;
+    }
+}
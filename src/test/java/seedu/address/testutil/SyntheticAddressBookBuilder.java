@@ -0,0 +1,86 @@
+package seedu.address.testutil;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.util.SyntheticAddressBook;
+
+/**
+ * A utility class to help with building address books of generated persons, for tests at the scale of real address
+ * books. The same settings always build the same address book.
+ * Example usage: <br>
+ *     {@code AddressBook ab = new SyntheticAddressBookBuilder().withSize(10000).withPinnedRatio(0.1).build();}
+ */
+public class SyntheticAddressBookBuilder {
+
+    public static final long DEFAULT_SEED = 0;
+    public static final int DEFAULT_SIZE = 1000;
+
+    private long seed = DEFAULT_SEED;
+    private int size = DEFAULT_SIZE;
+    private double pinnedRatio = SyntheticAddressBook.DEFAULT_PINNED_RATIO;
+    private double longNoteRatio = SyntheticAddressBook.DEFAULT_LONG_NOTE_RATIO;
+    private double nearDuplicateRatio = SyntheticAddressBook.DEFAULT_NEAR_DUPLICATE_RATIO;
+    private int tagVocabularySize = SyntheticAddressBook.DEFAULT_TAG_VOCABULARY_SIZE;
+
+    /**
+     * Sets the seed of the address book that we are building.
+     */
+    public SyntheticAddressBookBuilder withSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Sets the number of persons of the address book that we are building.
+     */
+    public SyntheticAddressBookBuilder withSize(int size) {
+        this.size = size;
+        return this;
+    }
+
+    /**
+     * Sets the ratio of the persons that are pinned.
+     */
+    public SyntheticAddressBookBuilder withPinnedRatio(double pinnedRatio) {
+        this.pinnedRatio = pinnedRatio;
+        return this;
+    }
+
+    /**
+     * Sets the ratio of the persons that have a long note.
+     */
+    public SyntheticAddressBookBuilder withLongNoteRatio(double longNoteRatio) {
+        this.longNoteRatio = longNoteRatio;
+        return this;
+    }
+
+    /**
+     * Sets the ratio of the persons whose name is a near-duplicate of an earlier one.
+     */
+    public SyntheticAddressBookBuilder withNearDuplicateRatio(double nearDuplicateRatio) {
+        this.nearDuplicateRatio = nearDuplicateRatio;
+        return this;
+    }
+
+    /**
+     * Sets the number of different tags the persons are tagged with.
+     */
+    public SyntheticAddressBookBuilder withTagVocabularySize(int tagVocabularySize) {
+        this.tagVocabularySize = tagVocabularySize;
+        return this;
+    }
+
+    /**
+     * Returns the address book, whose persons are generated whenever they are read.
+     */
+    public SyntheticAddressBook buildSynthetic() {
+        return new SyntheticAddressBook(seed, size, pinnedRatio, longNoteRatio, nearDuplicateRatio,
+                tagVocabularySize);
+    }
+
+    /**
+     * Returns a copy of the address book that holds its generated persons.
+     */
+    public AddressBook build() {
+        return new AddressBook(buildSynthetic());
+    }
+}